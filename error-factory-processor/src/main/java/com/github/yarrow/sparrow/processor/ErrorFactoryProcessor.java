@@ -0,0 +1,213 @@
+package com.github.yarrow.sparrow.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Generates implementation of every interface with methods annotated with @ErrorTemplate, so errors are created
+ * with direct calls and templates are validated and compiled without reflection at runtime
+ */
+@SupportedAnnotationTypes(ErrorFactoryProcessor.ERROR_TEMPLATE)
+public class ErrorFactoryProcessor extends AbstractProcessor {
+
+    static final String ERROR_TEMPLATE = "com.github.yarrow.sparrow.exception.ErrorTemplate";
+
+    private static final Pattern MUSTACHE_PARAMETER_REGEXP = Pattern.compile("\\{\\{(\\w+)}}");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        var errorTemplate = processingEnv.getElementUtils().getTypeElement(ERROR_TEMPLATE);
+        if (errorTemplate == null || !annotations.contains(errorTemplate)) {
+            return false;
+        }
+
+        var factories = new LinkedHashSet<TypeElement>();
+        for (var method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(errorTemplate))) {
+            factories.add((TypeElement) method.getEnclosingElement());
+        }
+        for (var factory : factories) {
+            generateImplementation(factory);
+        }
+        return true;
+    }
+
+    private void generateImplementation(TypeElement factory) {
+        var elements = processingEnv.getElementUtils();
+        var packageName = elements.getPackageOf(factory).getQualifiedName().toString();
+        var factoryName = factory.getSimpleName().toString();
+        var implementationName = factoryName + "Impl";
+
+        var methods = ElementFilter.methodsIn(factory.getEnclosedElements()).stream()
+                .filter(m -> m.getModifiers().contains(Modifier.ABSTRACT))
+                .toList();
+        for (var method : methods) {
+            if (!validate(method)) {
+                return;
+            }
+        }
+
+        try (var writer = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(packageName + "." + implementationName, factory)
+                .openWriter())) {
+            writer.println("package " + packageName + ";");
+            writer.println();
+            writer.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            writer.println("final class " + implementationName + " implements " + factoryName + " {");
+            writer.println();
+            writer.println("    static final " + factoryName + " INSTANCE = new " + implementationName + "();");
+            for (var method : methods) {
+                var message = getValue(method, "message");
+                writer.println();
+                writer.println("    private static final MessageTemplate " + templateConstantName(method)
+                        + " = MessageTemplate.compile(" + elements.getConstantExpression(message) + ");");
+            }
+            for (var method : methods) {
+                writer.println();
+                writeMethod(writer, method);
+            }
+            writer.println("}");
+        } catch (IOException e) {
+            error(factory, "Implementation of " + factoryName + " couldn't be generated: " + e.getMessage());
+        }
+    }
+
+    private void writeMethod(PrintWriter writer, ExecutableElement method) {
+        var elements = processingEnv.getElementUtils();
+        var parameters = method.getParameters();
+
+        var signature = new StringBuilder();
+        for (var parameter : parameters) {
+            if (!signature.isEmpty()) {
+                signature.append(", ");
+            }
+            signature.append(parameter.asType()).append(' ').append(parameter.getSimpleName());
+        }
+
+        writer.println("    @Override");
+        writer.println("    public ApplicationError " + method.getSimpleName() + "(" + signature + ") {");
+        writer.println("        java.util.Map<String, Object> parameters = " + parametersExpression(parameters) + ";");
+        if (parameters.size() > 1) {
+            for (var parameter : parameters) {
+                var name = parameter.getSimpleName().toString();
+                writer.println("        parameters.put(" + elements.getConstantExpression(name) + ", " + name + ");");
+            }
+        }
+        writer.println("        return new ApplicationError(");
+        writer.println("                " + elements.getConstantExpression(getValue(method, "id")) + ",");
+        writer.println("                org.springframework.http.HttpStatus." + getValue(method, "httpStatus") + ",");
+        writer.println("                " + elements.getConstantExpression(getValue(method, "summary")) + ",");
+        writer.println("                ApplicationError.Level." + getValue(method, "level") + ",");
+        writer.println("                " + elements.getConstantExpression(getValue(method, "message")) + ",");
+        writer.println("                " + templateConstantName(method) + ",");
+        writer.println("                parameters,");
+        writer.println("                " + getValue(method, "stackTrace"));
+        writer.println("        );");
+        writer.println("    }");
+    }
+
+    /**
+     * Parameters map allows null values similar to the reflective implementation it replaces
+     */
+    private String parametersExpression(List<? extends VariableElement> parameters) {
+        if (parameters.isEmpty()) {
+            return "java.util.Map.of()";
+        }
+        if (parameters.size() == 1) {
+            var name = parameters.get(0).getSimpleName().toString();
+            var key = processingEnv.getElementUtils().getConstantExpression(name);
+            return "java.util.Collections.singletonMap(" + key + ", " + name + ")";
+        }
+        return "new java.util.HashMap<>(" + parameters.size() * 2 + ")";
+    }
+
+    private boolean validate(ExecutableElement method) {
+        var methodName = method.getSimpleName().toString();
+        if (getErrorTemplate(method) == null) {
+            error(method, "Method " + methodName + " doesn't annotated with @ErrorTemplate. "
+                    + "Every method must be annotated with @ErrorTemplate annotation to implement Error API.");
+            return false;
+        }
+
+        var parameterNames = method.getParameters().stream()
+                .map(p -> p.getSimpleName().toString())
+                .toList();
+        var matcher = MUSTACHE_PARAMETER_REGEXP.matcher(getValue(method, "message"));
+        while (matcher.find()) {
+            var parameterName = matcher.group(1);
+            if (!parameterNames.contains(parameterName)) {
+                error(method, "Method " + methodName + " has no parameter with name " + parameterName
+                        + " in method signature while having it in template.");
+                return false;
+            }
+        }
+
+        var httpStatus = HttpStatus.valueOf(getValue(method, "httpStatus"));
+        if (!Boolean.parseBoolean(getValue(method, "stackTrace")) && !httpStatus.is4xxClientError()) {
+            error(method, "Method " + methodName + " has no stack trace while not being a client error. "
+                    + "Only expected client errors could skip stack trace.");
+            return false;
+        }
+        return true;
+    }
+
+    private AnnotationMirror getErrorTemplate(ExecutableElement method) {
+        for (var mirror : method.getAnnotationMirrors()) {
+            var annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(ERROR_TEMPLATE)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns string, enum constant name or boolean literal of the attribute, taking defaults into account
+     */
+    private String getValue(ExecutableElement method, String attribute) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils()
+                .getElementValuesWithDefaults(getErrorTemplate(method));
+        for (var entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                var value = entry.getValue().getValue();
+                if (value instanceof VariableElement enumConstant) {
+                    return enumConstant.getSimpleName().toString();
+                }
+                return String.valueOf(value);
+            }
+        }
+        throw new IllegalStateException("No attribute " + attribute + " in @ErrorTemplate");
+    }
+
+    private String templateConstantName(ExecutableElement method) {
+        var name = method.getSimpleName().toString();
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_MESSAGE";
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
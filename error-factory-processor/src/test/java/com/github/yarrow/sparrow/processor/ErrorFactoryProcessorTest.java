@@ -0,0 +1,239 @@
+package com.github.yarrow.sparrow.processor;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import javax.tools.JavaFileObject;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Factories are compiled against minimal copies of the error classes of the application, as the processor
+ * is built before them
+ */
+public class ErrorFactoryProcessorTest {
+
+    private static final String PACKAGE = "com.github.yarrow.sparrow.exception";
+
+    private static final JavaFileObject ERROR_TEMPLATE = JavaFileObjects.forSourceString(
+            PACKAGE + ".ErrorTemplate",
+            """
+                    package com.github.yarrow.sparrow.exception;
+
+                    import org.springframework.http.HttpStatus;
+
+                    @interface ErrorTemplate {
+                        String id();
+                        HttpStatus httpStatus();
+                        String summary();
+                        String message();
+                        ApplicationError.Level level() default ApplicationError.Level.ERROR;
+                        boolean stackTrace() default true;
+                    }
+                    """
+    );
+
+    private static final JavaFileObject APPLICATION_ERROR = JavaFileObjects.forSourceString(
+            PACKAGE + ".ApplicationError",
+            """
+                    package com.github.yarrow.sparrow.exception;
+
+                    import java.util.Map;
+                    import org.springframework.http.HttpStatus;
+
+                    class ApplicationError extends RuntimeException {
+                        ApplicationError(
+                                String code,
+                                HttpStatus httpStatus,
+                                String summary,
+                                Level level,
+                                String messageTemplate,
+                                MessageTemplate compiledMessageTemplate,
+                                Map<String, Object> parameters,
+                                boolean stackTrace
+                        ) {
+                            super(null, null, stackTrace, stackTrace);
+                        }
+
+                        enum Level {
+                            INFO, WARNING, ERROR
+                        }
+                    }
+                    """
+    );
+
+    private static final JavaFileObject MESSAGE_TEMPLATE = JavaFileObjects.forSourceString(
+            PACKAGE + ".MessageTemplate",
+            """
+                    package com.github.yarrow.sparrow.exception;
+
+                    class MessageTemplate {
+                        static MessageTemplate compile(String template) {
+                            return new MessageTemplate();
+                        }
+                    }
+                    """
+    );
+
+    @Test
+    public void messageParameterIsPassedToError() {
+        //Arrange
+        var factory = factory("""
+                @ErrorTemplate(
+                        id = "test.not-found",
+                        httpStatus = HttpStatus.NOT_FOUND,
+                        summary = "Not found",
+                        message = "Task {{taskId}} not found",
+                        stackTrace = false
+                )
+                ApplicationError taskNotFound(String taskId);
+                """);
+
+        //Act
+        var compilation = compile(factory);
+
+        //Assert
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile(PACKAGE + ".TestErrorFactoryImpl")
+                .contentsAsUtf8String()
+                .contains("TASK_NOT_FOUND_MESSAGE = MessageTemplate.compile(\"Task {{taskId}} not found\")");
+        assertThat(compilation).generatedSourceFile(PACKAGE + ".TestErrorFactoryImpl")
+                .contentsAsUtf8String()
+                .contains("java.util.Collections.singletonMap(\"taskId\", taskId)");
+    }
+
+    @Test
+    public void severalParametersArePutToMap() {
+        //Arrange
+        var factory = factory("""
+                @ErrorTemplate(
+                        id = "test.conflict",
+                        httpStatus = HttpStatus.CONFLICT,
+                        summary = "Conflict",
+                        message = "Task {{taskId}} conflicts with {{otherTaskId}}"
+                )
+                ApplicationError tasksConflict(String taskId, String otherTaskId);
+                """);
+
+        //Act
+        var compilation = compile(factory);
+
+        //Assert
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile(PACKAGE + ".TestErrorFactoryImpl")
+                .contentsAsUtf8String()
+                .contains("parameters.put(\"otherTaskId\", otherTaskId);");
+    }
+
+    @Test
+    public void clientErrorWithoutStackTraceIsGenerated() {
+        //Arrange
+        var factory = factory("""
+                @ErrorTemplate(
+                        id = "test.bad-request",
+                        httpStatus = HttpStatus.BAD_REQUEST,
+                        summary = "Bad request",
+                        message = "Bad request",
+                        stackTrace = false
+                )
+                ApplicationError badRequest();
+                """);
+
+        //Act
+        var compilation = compile(factory);
+
+        //Assert
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile(PACKAGE + ".TestErrorFactoryImpl")
+                .contentsAsUtf8String()
+                .containsMatch("parameters,\\s+false\\s+\\);");
+    }
+
+    @Test
+    public void serverErrorWithoutStackTraceFailsCompilation() {
+        //Arrange
+        var factory = factory("""
+                @ErrorTemplate(
+                        id = "test.unknown",
+                        httpStatus = HttpStatus.INTERNAL_SERVER_ERROR,
+                        summary = "Unknown error",
+                        message = "Unknown error",
+                        stackTrace = false
+                )
+                ApplicationError internalServerError();
+                """);
+
+        //Act
+        var compilation = compile(factory);
+
+        //Assert
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("has no stack trace while not being a client error");
+    }
+
+    @Test
+    public void placeholderWithoutParameterFailsCompilation() {
+        //Arrange
+        var factory = factory("""
+                @ErrorTemplate(
+                        id = "test.not-found",
+                        httpStatus = HttpStatus.NOT_FOUND,
+                        summary = "Not found",
+                        message = "Task {{taskId}} not found"
+                )
+                ApplicationError taskNotFound(String id);
+                """);
+
+        //Act
+        var compilation = compile(factory);
+
+        //Assert
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("has no parameter with name taskId");
+    }
+
+    @Test
+    public void methodWithoutTemplateFailsCompilation() {
+        //Arrange
+        var factory = factory("""
+                @ErrorTemplate(
+                        id = "test.bad-request",
+                        httpStatus = HttpStatus.BAD_REQUEST,
+                        summary = "Bad request",
+                        message = "Bad request"
+                )
+                ApplicationError badRequest();
+
+                ApplicationError notFound();
+                """);
+
+        //Act
+        var compilation = compile(factory);
+
+        //Assert
+        assertThat(compilation).failed();
+        assertThat(compilation).hadErrorContaining("Method notFound doesn't annotated with @ErrorTemplate");
+    }
+
+    private static JavaFileObject factory(String methods) {
+        return JavaFileObjects.forSourceString(
+                PACKAGE + ".TestErrorFactory",
+                """
+                        package com.github.yarrow.sparrow.exception;
+
+                        import org.springframework.http.HttpStatus;
+
+                        interface TestErrorFactory {
+                        %s
+                        }
+                        """.formatted(methods)
+        );
+    }
+
+    private static Compilation compile(JavaFileObject factory) {
+        return javac()
+                .withProcessors(new ErrorFactoryProcessor())
+                .compile(ERROR_TEMPLATE, APPLICATION_ERROR, MESSAGE_TEMPLATE, factory);
+    }
+}
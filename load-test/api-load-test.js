@@ -0,0 +1,94 @@
+// k6 load test comparing request execution modes, run it once per mode against the same database:
+//   SPRING_THREADS_VIRTUAL_ENABLED=false ./gradlew bootRun   and   SPRING_THREADS_VIRTUAL_ENABLED=true ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api load-test/api-load-test.js
+// Throughput is reported as http_reqs, tail latency as p(99) of http_req_duration per endpoint tag
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const PASSWORD = 'P@ssw0rd-load';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 1000 },
+                { duration: '1m', target: 1000 },
+                { duration: '15s', target: 0 },
+            ],
+            exec: 'reads',
+        },
+        signIns: {
+            executor: 'constant-arrival-rate',
+            rate: 20,
+            timeUnit: '1s',
+            duration: '2m45s',
+            preAllocatedVUs: 50,
+            exec: 'signIn',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function json(body, token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers.Authorization = `Bearer ${token}`;
+    }
+    return { headers: headers };
+}
+
+//Project keys are letters only, so every run gets its own random key
+function randomKey() {
+    let key = 'LOAD';
+    for (let i = 0; i < 8; i++) {
+        key += String.fromCharCode(65 + Math.floor(Math.random() * 26));
+    }
+    return key;
+}
+
+export function setup() {
+    const email = `load-${Date.now()}@email.com`;
+    http.post(`${BASE_URL}/v1/auth/sign-up`, JSON.stringify({ username: 'load', email: email, password: PASSWORD }), json());
+    const token = http.post(`${BASE_URL}/v1/auth/sign-in`, JSON.stringify({ email: email, password: PASSWORD }), json())
+        .json('token');
+
+    const project = http.post(
+        `${BASE_URL}/v1/projects`,
+        JSON.stringify({ name: 'Load test', key: randomKey(), description: 'Load test project' }),
+        json(null, token)
+    ).json();
+    const taskIds = [];
+    for (let i = 0; i < 100; i++) {
+        const task = http.post(
+            `${BASE_URL}/v1/tasks`,
+            JSON.stringify({ projectId: project.id, name: `Task ${i}`, description: 'Load test task' }),
+            json(null, token)
+        ).json();
+        taskIds.push(task.id);
+    }
+    return { email: email, token: token, projectId: project.id, taskIds: taskIds };
+}
+
+export function reads(data) {
+    const params = json(null, data.token);
+    const taskId = data.taskIds[Math.floor(Math.random() * data.taskIds.length)];
+
+    params.tags = { endpoint: 'task' };
+    check(http.get(`${BASE_URL}/v1/tasks/${taskId}`, params), { 'task is returned': (r) => r.status === 200 });
+
+    params.tags = { endpoint: 'tasks' };
+    check(http.get(`${BASE_URL}/v1/tasks?projectId=${data.projectId}`, params), { 'tasks are listed': (r) => r.status === 200 });
+}
+
+export function signIn(data) {
+    const response = http.post(
+        `${BASE_URL}/v1/auth/sign-in`,
+        JSON.stringify({ email: data.email, password: PASSWORD }),
+        Object.assign(json(), { tags: { endpoint: 'sign-in' } })
+    );
+    check(response, { 'user is signed in': (r) => r.status === 200 });
+}
@@ -0,0 +1,120 @@
+// k6 load test of 10k concurrent clients, run it against the servlet and the reactive deployment with the same database:
+//   ./gradlew bootRun   and   SPRING_PROFILES_ACTIVE=reactive ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api -e AUTH_URL=http://localhost:8081/api load-test/concurrent-clients-load-test.js
+// Reactive profile doesn't serve authentication, so the token is issued by AUTH_URL which defaults to BASE_URL
+// Server threads and Mongo connections are sampled from the actuator metrics during the run and printed at the end
+import http from 'k6/http';
+import exec from 'k6/execution';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const AUTH_URL = __ENV.AUTH_URL || BASE_URL;
+const PASSWORD = 'P@ssw0rd-load';
+const CLIENTS = parseInt(__ENV.CLIENTS || '10000');
+
+const liveThreads = new Trend('server_live_threads');
+const mongoConnections = new Trend('server_mongo_connections');
+const mongoCheckedOutConnections = new Trend('server_mongo_checked_out_connections');
+
+export const options = {
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: CLIENTS },
+                { duration: '2m', target: CLIENTS },
+                { duration: '15s', target: 0 },
+            ],
+            exec: 'client',
+        },
+        metrics: {
+            executor: 'constant-arrival-rate',
+            rate: 1,
+            timeUnit: '5s',
+            duration: '3m15s',
+            preAllocatedVUs: 2,
+            exec: 'sampleServerMetrics',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function json(body, token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers.Authorization = `Bearer ${token}`;
+    }
+    return { headers: headers };
+}
+
+//Project keys are letters only, so every run gets its own random key
+function randomKey() {
+    let key = 'LOAD';
+    for (let i = 0; i < 8; i++) {
+        key += String.fromCharCode(65 + Math.floor(Math.random() * 26));
+    }
+    return key;
+}
+
+export function setup() {
+    const email = `load-${Date.now()}@email.com`;
+    http.post(`${AUTH_URL}/v1/auth/sign-up`, JSON.stringify({ username: 'load', email: email, password: PASSWORD }), json());
+    const token = http.post(`${AUTH_URL}/v1/auth/sign-in`, JSON.stringify({ email: email, password: PASSWORD }), json())
+        .json('token');
+
+    const project = http.post(
+        `${BASE_URL}/v1/projects`,
+        JSON.stringify({ name: 'Load test', key: randomKey(), description: 'Load test project' }),
+        json(null, token)
+    ).json();
+    const taskIds = [];
+    for (let i = 0; i < 100; i++) {
+        const task = http.post(
+            `${BASE_URL}/v1/tasks`,
+            JSON.stringify({ projectId: project.id, name: `Task ${i}`, description: 'Load test task' }),
+            json(null, token)
+        ).json();
+        taskIds.push(task.id);
+    }
+    return { token: token, projectId: project.id, taskIds: taskIds };
+}
+
+export function client(data) {
+    const params = json(null, data.token);
+    const taskId = data.taskIds[exec.vu.idInTest % data.taskIds.length];
+
+    params.tags = { endpoint: 'task' };
+    check(http.get(`${BASE_URL}/v1/tasks/${taskId}`, params), { 'task is returned': (r) => r.status === 200 });
+
+    params.tags = { endpoint: 'tasks' };
+    check(http.get(`${BASE_URL}/v1/tasks?projectId=${data.projectId}&limit=20`, params), {
+        'tasks are listed': (r) => r.status === 200,
+    });
+
+    params.tags = { endpoint: 'project' };
+    check(http.get(`${BASE_URL}/v1/projects/${data.projectId}`, params), { 'project is returned': (r) => r.status === 200 });
+}
+
+function metricValue(name, token) {
+    const response = http.get(`${BASE_URL}/actuator/metrics/${name}`, json(null, token));
+    if (response.status !== 200) {
+        return null;
+    }
+    return response.json('measurements.0.value');
+}
+
+export function sampleServerMetrics(data) {
+    const samples = [
+        [liveThreads, 'jvm.threads.live'],
+        [mongoConnections, 'mongodb.driver.pool.size'],
+        [mongoCheckedOutConnections, 'mongodb.driver.pool.checkedout'],
+    ];
+    for (const [trend, name] of samples) {
+        const value = metricValue(name, data.token);
+        if (value !== null) {
+            trend.add(value);
+        }
+    }
+}
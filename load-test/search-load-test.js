@@ -0,0 +1,106 @@
+// k6 load test of task search over a realistic corpus, run it against a database with the search text index:
+//   ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api -e PROJECTS=20 -e TASKS_PER_PROJECT=5000 load-test/search-load-test.js
+// User is a member of every seeded project, so a search scores the tasks of all of them, one project at a time
+// Latency is reported as p(99) of http_req_duration per endpoint tag, rare and common terms are tagged apart
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const PASSWORD = 'P@ssw0rd-load';
+const PROJECTS = parseInt(__ENV.PROJECTS || '20');
+const TASKS_PER_PROJECT = parseInt(__ENV.TASKS_PER_PROJECT || '5000');
+const BATCH_SIZE = 1000;
+
+//Words are picked with a skewed distribution, so some terms match most tasks and others only a few
+const VERBS = ['fix', 'add', 'update', 'remove', 'refactor', 'document', 'test', 'migrate', 'deploy', 'review'];
+const NOUNS = ['login', 'dashboard', 'invoice', 'report', 'search', 'cache', 'database', 'billing', 'profile',
+    'notification', 'export', 'import', 'pipeline', 'schema', 'webhook', 'scheduler', 'permissions', 'audit'];
+const DETAILS = ['timeout', 'crash', 'slow query', 'memory leak', 'typo', 'race condition', 'pagination',
+    'validation error', 'missing translation', 'broken link', 'retry policy', 'rate limit'];
+const COMMON_TERMS = ['fix', 'update', 'login', 'dashboard'];
+const RARE_TERMS = ['webhook', 'audit', 'memory leak', 'broken link'];
+
+export const options = {
+    setupTimeout: '30m',
+    scenarios: {
+        search: {
+            executor: 'constant-vus',
+            vus: 100,
+            duration: '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function json(body, token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers.Authorization = `Bearer ${token}`;
+    }
+    return { headers: headers };
+}
+
+//Project keys are letters only, so every run gets its own random key
+function randomKey() {
+    let key = 'SRCH';
+    for (let i = 0; i < 8; i++) {
+        key += String.fromCharCode(65 + Math.floor(Math.random() * 26));
+    }
+    return key;
+}
+
+function skewedPick(words) {
+    return words[Math.floor(Math.pow(Math.random(), 2) * words.length)];
+}
+
+function randomTask(projectId) {
+    const name = `${skewedPick(VERBS)} ${skewedPick(NOUNS)} ${skewedPick(DETAILS)}`;
+    const sentences = [];
+    for (let i = 0; i < 1 + Math.floor(Math.random() * 4); i++) {
+        sentences.push(`The ${skewedPick(NOUNS)} has a ${skewedPick(DETAILS)}, ${skewedPick(VERBS)} it.`);
+    }
+    return { projectId: projectId, name: name, description: sentences.join(' ') };
+}
+
+export function setup() {
+    const email = `search-${Date.now()}@email.com`;
+    http.post(`${BASE_URL}/v1/auth/sign-up`, JSON.stringify({ username: 'search', email: email, password: PASSWORD }), json());
+    const token = http.post(`${BASE_URL}/v1/auth/sign-in`, JSON.stringify({ email: email, password: PASSWORD }), json())
+        .json('token');
+
+    for (let p = 0; p < PROJECTS; p++) {
+        const project = http.post(
+            `${BASE_URL}/v1/projects`,
+            JSON.stringify({ name: `Search test ${p}`, key: randomKey(), description: 'Search test project' }),
+            json(null, token)
+        ).json();
+        for (let created = 0; created < TASKS_PER_PROJECT; created += BATCH_SIZE) {
+            const tasks = [];
+            for (let i = created; i < Math.min(created + BATCH_SIZE, TASKS_PER_PROJECT); i++) {
+                tasks.push(randomTask(project.id));
+            }
+            const response = http.post(`${BASE_URL}/v1/tasks:batch`, JSON.stringify({ tasks: tasks }), json(null, token));
+            check(response, { 'tasks are created': (r) => r.status === 200 });
+        }
+    }
+    return { token: token };
+}
+
+export default function (data) {
+    const params = json(null, data.token);
+    const common = Math.random() < 0.5;
+    const terms = common ? COMMON_TERMS : RARE_TERMS;
+    const q = encodeURIComponent(terms[Math.floor(Math.random() * terms.length)]);
+
+    params.tags = { endpoint: common ? 'search-common' : 'search-rare' };
+    const firstPage = http.get(`${BASE_URL}/v1/tasks/search?q=${q}&limit=20`, params);
+    check(firstPage, { 'tasks are found': (r) => r.status === 200 });
+
+    const cursor = firstPage.status === 200 ? firstPage.json('nextCursor') : null;
+    if (cursor) {
+        params.tags = { endpoint: common ? 'search-common-next' : 'search-rare-next' };
+        const nextPage = http.get(`${BASE_URL}/v1/tasks/search?q=${q}&limit=20&cursor=${cursor}`, params);
+        check(nextPage, { 'next page is found': (r) => r.status === 200 });
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.yarrow.sparrow.benchmark;
+
+import com.github.yarrow.sparrow.dto.response.ErrorResponse;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of creating an error and rendering it to the response, for constant and templated messages
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorFactoryBenchmark {
+
+    private static final String VALIDATION_MESSAGE = "Task name must be between 1 and 30 characters";
+
+    @Benchmark
+    public ErrorResponse taskNotFoundResponse() {
+        return ErrorFactory.get().taskNotFound().toResponse();
+    }
+
+    @Benchmark
+    public ErrorResponse validationFailedResponse() {
+        return ErrorFactory.get().validationFailed(VALIDATION_MESSAGE).toResponse();
+    }
+}
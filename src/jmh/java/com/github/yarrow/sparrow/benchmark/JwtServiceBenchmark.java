@@ -0,0 +1,82 @@
+package com.github.yarrow.sparrow.benchmark;
+
+import com.github.yarrow.sparrow.config.property.CacheProperties;
+import com.github.yarrow.sparrow.config.property.JwtProperties;
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
+import com.github.yarrow.sparrow.service.authentication.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of token checks made by the authentication filter per request: previous implementation decoding the key,
+ * building the parser and verifying the token twice versus current one with the verified token cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SIGNING_KEY = "VW1AHxycm69njF5s03rJP1LJONX0EGh6rgsbc4fehAaqYR6gcx";
+
+    private JwtService jwtService;
+    private CustomUserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setup() {
+        var spec = new CacheProperties.Spec(10_000, Duration.ofMinutes(10));
+        jwtService = new JwtService(
+                new JwtProperties(SIGNING_KEY),
+                new CacheProperties(spec, spec, spec, spec),
+                new SimpleMeterRegistry()
+        );
+
+        var user = User.builder()
+                .id(UUID.randomUUID().toString())
+                .email("user@email.com")
+                .password("password")
+                .build();
+        userDetails = CustomUserDetails.of(user);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean perRequestParsing() {
+        var id = parseClaims(token).getSubject();
+        return id.equals(userDetails.getId())
+                && parseClaims(token).getSubject().equals(userDetails.getId())
+                && !parseClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean cachedVerification() {
+        var id = jwtService.extractId(token);
+        return id.equals(userDetails.getId()) && jwtService.isTokenValid(token, userDetails);
+    }
+
+    private static Claims parseClaims(String token) {
+        var signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SIGNING_KEY));
+        return Jwts.parser().verifyWith(signingKey).build().parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.yarrow.sparrow.benchmark;
+
+import com.github.yarrow.sparrow.config.mongo.audit.EpochMilliToInstantConverter;
+import com.github.yarrow.sparrow.config.mongo.audit.InstantToEpochMilliConverter;
+import com.github.yarrow.sparrow.config.mongo.codec.EntityCodecs;
+import com.github.yarrow.sparrow.config.property.PersistenceProperties.IdRepresentation;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Decoding of a 10k tasks result set from raw BSON as the driver receives it: Document decoding followed by
+ * MappingMongoConverter versus hand-written TaskCodec reading the entity straight from BSON
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskDecodingBenchmark {
+
+    private static final int TASKS = 10_000;
+
+    private final DecoderContext decoderContext = DecoderContext.builder().build();
+    private final DocumentCodec documentCodec = new DocumentCodec();
+    private MappingMongoConverter converter;
+    private Codec<Task> taskCodec;
+    private List<RawBsonDocument> documents;
+
+    @Setup
+    public void setup() {
+        var conversions = new MongoCustomConversions(
+                List.of(
+                        new InstantToEpochMilliConverter(),
+                        new EpochMilliToInstantConverter()
+                )
+        );
+        var mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+        converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+
+        taskCodec = EntityCodecs.registry(IdRepresentation.STRING).get(Task.class);
+
+        //Source documents are written by the converter, so both paths read exactly what the application stores
+        var projectId = UUID.randomUUID().toString();
+        var statuses = TaskStatus.values();
+        documents = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            var task = Task.builder()
+                    .id(UUID.randomUUID().toString())
+                    .projectId(projectId)
+                    .name("Task " + i)
+                    .description("Description of the task number " + i)
+                    .assigneeUserId(i % 2 == 0 ? UUID.randomUUID().toString() : null)
+                    .status(statuses[i % statuses.length])
+                    .storyPoints((double) (i % 13))
+                    .build();
+            var document = new Document();
+            converter.write(task, document);
+            documents.add(new RawBsonDocument(document, documentCodec));
+        }
+    }
+
+    @Benchmark
+    public void converter(Blackhole blackhole) {
+        for (var raw : documents) {
+            var document = documentCodec.decode(raw.asBsonReader(), decoderContext);
+            blackhole.consume(converter.read(Task.class, document));
+        }
+    }
+
+    @Benchmark
+    public void codec(Blackhole blackhole) {
+        for (var raw : documents) {
+            blackhole.consume(taskCodec.decode(raw.asBsonReader(), decoderContext));
+        }
+    }
+}
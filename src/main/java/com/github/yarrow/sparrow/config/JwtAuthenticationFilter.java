@@ -1,8 +1,7 @@
 package com.github.yarrow.sparrow.config;
 
-import com.github.yarrow.sparrow.repository.UserRepository;
-import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
 import com.github.yarrow.sparrow.service.authentication.JwtService;
+import com.github.yarrow.sparrow.service.authentication.PrincipalCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +10,7 @@ import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,12 +18,13 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+@Profile("!reactive")
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -41,19 +42,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         var jwt = authHeader.substring(7);
         var userId = jwtService.extractId(jwt);
 
-        var userOptional = userRepository.findById(userId);
-        if (userOptional.isEmpty()) {
+        var principalOptional = principalCache.get(userId);
+        if (principalOptional.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        var user = userOptional.get();
+        var principal = principalOptional.get();
         if (SecurityContextHolder.getContext().getAuthentication() == null
                 && StringUtils.isNotEmpty(userId)
-                && jwtService.isTokenValid(jwt, user)
+                && jwtService.isTokenValid(jwt, principal)
         ) {
             var token = new UsernamePasswordAuthenticationToken(
-                    CustomUserDetails.of(user),
+                    principal,
                     null,
                     List.of()
             );
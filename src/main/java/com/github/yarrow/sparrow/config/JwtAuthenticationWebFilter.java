@@ -0,0 +1,62 @@
+package com.github.yarrow.sparrow.config;
+
+import com.github.yarrow.sparrow.repository.ReactiveUserRepository;
+import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
+import com.github.yarrow.sparrow.service.authentication.JwtService;
+import com.github.yarrow.sparrow.service.authentication.PrincipalCache;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of JwtAuthenticationFilter, principals absent in the cache are loaded without blocking
+ * It's not a bean, as every WebFilter bean is also applied to all requests outside the security chain
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        var authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.isEmpty(authHeader) || !StringUtils.startsWith(authHeader, "Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        var jwt = authHeader.substring(7);
+        var userId = jwtService.extractId(jwt);
+        if (StringUtils.isEmpty(userId)) {
+            return chain.filter(exchange);
+        }
+
+        return Mono.justOrEmpty(principalCache.getIfPresent(userId))
+                .switchIfEmpty(Mono.defer(() -> reactiveUserRepository.findById(userId)
+                        .map(CustomUserDetails::of)
+                        .doOnNext(principalCache::put)
+                ))
+                .filter(principal -> jwtService.isTokenValid(jwt, principal))
+                .map(principal -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, List.of())
+                ))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                //Chain is continued exactly once, with authentication only if the token is valid
+                .flatMap(context -> context
+                        .map(c -> chain.filter(exchange).contextWrite(c))
+                        .orElseGet(() -> chain.filter(exchange))
+                );
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.yarrow.sparrow.config;
+
+import com.github.yarrow.sparrow.repository.ReactiveUserRepository;
+import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
+import com.github.yarrow.sparrow.service.authentication.JwtService;
+import com.github.yarrow.sparrow.service.authentication.PrincipalCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Reactive profile serves only task and project API, tokens are issued by the servlet deployment
+ * sharing the same signing key and database
+ */
+@Profile("reactive")
+@Configuration
+@EnableWebFluxSecurity
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveSecurityConfiguration {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        var jwtAuthenticationWebFilter = new JwtAuthenticationWebFilter(
+                jwtService,
+                principalCache,
+                reactiveUserRepository
+        );
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/ping").permitAll()
+                        .anyExchange().authenticated()
+                )
+                //Stateless, same as the servlet configuration, rejected with 403 the same way
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .exceptionHandling(handling -> handling
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN))
+                )
+                .addFilterAt(jwtAuthenticationWebFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    @Bean
+    public ReactiveUserDetailsService reactiveUserDetailsService() {
+        return email -> reactiveUserRepository.findByEmail(email).map(CustomUserDetails::of);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.yarrow.sparrow.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Profile("!reactive")
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class RequestIdentityMapFilter extends OncePerRequestFilter {
+
+    private final ServletRequestIdentityMap requestIdentityMap;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        requestIdentityMap.open(request);
+        filterChain.doFilter(request, response);
+    }
+}
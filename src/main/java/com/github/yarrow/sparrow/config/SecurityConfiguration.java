@@ -2,12 +2,16 @@ package com.github.yarrow.sparrow.config;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
+import com.github.yarrow.sparrow.config.concurrency.Bulkhead;
+import com.github.yarrow.sparrow.config.concurrency.BulkheadPasswordEncoder;
+import com.github.yarrow.sparrow.config.property.ConcurrencyProperties;
 import com.github.yarrow.sparrow.repository.UserRepository;
 import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -22,12 +26,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+@Profile("!reactive")
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class SecurityConfiguration {
 
     private final UserRepository userRepository;
+    private final ConcurrencyProperties concurrencyProperties;
 
     @Bean
     public SecurityFilterChain securityFilterChain(
@@ -77,6 +83,7 @@ public class SecurityConfiguration {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        var bulkhead = new Bulkhead(concurrencyProperties.getPasswordHashing());
+        return new BulkheadPasswordEncoder(new BCryptPasswordEncoder(), bulkhead);
     }
 }
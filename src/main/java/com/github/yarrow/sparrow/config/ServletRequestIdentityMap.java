@@ -0,0 +1,49 @@
+package com.github.yarrow.sparrow.config;
+
+import com.github.yarrow.sparrow.service.access.RequestIdentityMap;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Identity map kept in request attributes, scope is opened per request by RequestIdentityMapFilter
+ */
+@Component
+public class ServletRequestIdentityMap implements RequestIdentityMap {
+
+    private static final String ATTRIBUTE_NAME = ServletRequestIdentityMap.class.getName();
+
+    public void open(HttpServletRequest request) {
+        request.setAttribute(ATTRIBUTE_NAME, new HashMap<Object, Map<Object, Object>>());
+    }
+
+    @Override
+    public void close() {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <KeyT, ValueT> Optional<Map<KeyT, ValueT>> get(Object owner) {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.empty();
+        }
+
+        var maps = (Map<Object, Map<Object, Object>>) requestAttributes.getAttribute(
+                ATTRIBUTE_NAME,
+                RequestAttributes.SCOPE_REQUEST
+        );
+        if (maps == null) {
+            return Optional.empty();
+        }
+        return Optional.of((Map<KeyT, ValueT>) maps.computeIfAbsent(owner, o -> new HashMap<>()));
+    }
+}
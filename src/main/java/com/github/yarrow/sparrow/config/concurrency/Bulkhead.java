@@ -0,0 +1,82 @@
+package com.github.yarrow.sparrow.config.concurrency;
+
+import com.github.yarrow.sparrow.config.property.ConcurrencyProperties;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Semaphore limiting concurrent calls, calls waiting longer than allowed are rejected as service unavailable
+ * Permits are re-entrant per thread, so nested calls (e.g. a repository using EntityReader) hold a single permit
+ */
+public class Bulkhead {
+
+    private final Semaphore semaphore;
+    private final long maxWaitNanos;
+    private final ThreadLocal<Integer> holdCount = ThreadLocal.withInitial(() -> 0);
+
+    public Bulkhead(ConcurrencyProperties.BulkheadSpec spec) {
+        this.semaphore = new Semaphore(spec.getMaxConcurrentCalls(), true);
+        this.maxWaitNanos = spec.getMaxWait().toNanos();
+    }
+
+    public <T> T call(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Iterator holding a permit only while the next batch is fetched, so an iteration consumed by a slow client
+     * doesn't keep other calls waiting. Items left in the fetched batch, as told by available, are taken without one
+     */
+    public <T> Iterator<T> iterator(Iterator<T> iterator, IntSupplier available) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return available.getAsInt() > 0 || call(iterator::hasNext);
+            }
+
+            @Override
+            public T next() {
+                return available.getAsInt() > 0 ? iterator.next() : call(iterator::next);
+            }
+        };
+    }
+
+    /**
+     * Every successful acquire must be followed by release on the same thread
+     */
+    public void acquire() {
+        var held = holdCount.get();
+        if (held > 0) {
+            holdCount.set(held + 1);
+            return;
+        }
+        try {
+            if (!semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw ErrorFactory.get().serviceUnavailable();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ErrorFactory.get().serviceUnavailable();
+        }
+        holdCount.set(1);
+    }
+
+    public void release() {
+        var held = holdCount.get();
+        if (held > 1) {
+            holdCount.set(held - 1);
+            return;
+        }
+        holdCount.remove();
+        semaphore.release();
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.yarrow.sparrow.config.concurrency;
+
+import com.github.yarrow.sparrow.config.property.ConcurrencyProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request threads are switched to virtual ones with spring.threads.virtual.enabled, bulkheads are applied in both modes
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    /**
+     * Shared by repositories and direct MongoTemplate usages
+     */
+    @Bean
+    public Bulkhead mongoBulkhead(ConcurrencyProperties concurrencyProperties) {
+        return new Bulkhead(concurrencyProperties.getMongo());
+    }
+
+    @Bean
+    public static RepositoryBulkheadPostProcessor repositoryBulkheadPostProcessor(
+            ObjectProvider<Bulkhead> mongoBulkhead
+    ) {
+        return new RepositoryBulkheadPostProcessor(mongoBulkhead);
+    }
+}
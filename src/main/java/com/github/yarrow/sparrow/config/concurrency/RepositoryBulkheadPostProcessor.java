@@ -0,0 +1,45 @@
+package com.github.yarrow.sparrow.config.concurrency;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.lang.NonNull;
+
+/**
+ * Every repository call holds a permit of the shared Mongo bulkhead, so concurrent database calls never exceed
+ * the connection pool no matter how many request threads there are
+ * The bulkhead is resolved on the first call, as post processors are created before properties are bound
+ * Reactive repositories return before the query is executed, they are bounded by the connection pool itself
+ */
+public class RepositoryBulkheadPostProcessor implements BeanPostProcessor {
+
+    private final Supplier<Bulkhead> bulkhead;
+
+    public RepositoryBulkheadPostProcessor(ObjectProvider<Bulkhead> mongoBulkhead) {
+        this.bulkhead = Suppliers.memoize(mongoBulkhead::getObject);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof Repository<?, ?>
+                && !(bean instanceof ReactiveCrudRepository<?, ?>)
+                && bean instanceof Advised advised
+        ) {
+            advised.addAdvice((MethodInterceptor) invocation -> {
+                var mongoBulkhead = bulkhead.get();
+                mongoBulkhead.acquire();
+                try {
+                    return invocation.proceed();
+                } finally {
+                    mongoBulkhead.release();
+                }
+            });
+        }
+        return bean;
+    }
+}
@@ -1,13 +1,26 @@
 package com.github.yarrow.sparrow.config.mongo;
 
+import com.github.yarrow.sparrow.config.mongo.uuid.BinaryIdEventListener;
+import com.github.yarrow.sparrow.config.mongo.uuid.DualIdMongoTemplate;
+import com.github.yarrow.sparrow.config.mongo.uuid.MigrateOnSaveEventListener;
+import com.github.yarrow.sparrow.config.mongo.uuid.UuidBinaryMigration;
+import com.github.yarrow.sparrow.config.property.AccessProperties;
 import com.github.yarrow.sparrow.domain.listener.GenerateEntityIdEventListener;
 import de.flapdoodle.embed.mongo.commands.MongodArguments;
 import de.flapdoodle.embed.mongo.config.Storage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 
 @Configuration
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -25,4 +38,40 @@ public class MongoConfig {
     public GenerateEntityIdEventListener generateEntityIdEventListener() {
         return new GenerateEntityIdEventListener();
     }
+
+    @ConditionalOnExpression("!'${taskl.persistence.id-representation}'.equalsIgnoreCase('string')")
+    @Bean
+    public BinaryIdEventListener binaryIdEventListener() {
+        return new BinaryIdEventListener();
+    }
+
+    /**
+     * Replaces the auto-configured template, so filters of all queries match ids in both representations
+     * $lookup joins can't match ids of different representations, so the deployments relying on them are rejected:
+     * the reactive one and LOOKUP secured task query
+     */
+    @ConditionalOnProperty(name = "taskl.persistence.id-representation", havingValue = "migrating")
+    @Bean
+    public MongoTemplate mongoTemplate(
+            MongoDatabaseFactory mongoDatabaseFactory,
+            MongoConverter mongoConverter,
+            AccessProperties accessProperties,
+            Environment environment
+    ) {
+        if (environment.acceptsProfiles(Profiles.of("reactive"))) {
+            throw new IllegalStateException("Migrating id representation is not supported by the reactive profile");
+        }
+        if (accessProperties.getSecuredTaskQuery() == AccessProperties.SecuredTaskQuery.LOOKUP) {
+            throw new IllegalStateException("Migrating id representation is not supported by LOOKUP task query");
+        }
+        return new DualIdMongoTemplate(mongoDatabaseFactory, mongoConverter);
+    }
+
+    @ConditionalOnProperty(name = "taskl.persistence.id-representation", havingValue = "migrating")
+    @Bean
+    public MigrateOnSaveEventListener migrateOnSaveEventListener(
+            ObjectProvider<UuidBinaryMigration> uuidBinaryMigration
+    ) {
+        return new MigrateOnSaveEventListener(uuidBinaryMigration);
+    }
 }
@@ -0,0 +1,50 @@
+package com.github.yarrow.sparrow.config.mongo;
+
+import com.github.yarrow.sparrow.domain.Task;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.stereotype.Component;
+
+/**
+ * Text index of task search is prefixed by project, so a search scans only the tasks of one project
+ * Index annotations can't declare a text index with a prefix and weights, so it is ensured on start-up
+ * regardless of automatic index creation. Matches in the name weigh twice as much as ones in the description
+ * A collection has only one text index, so a text index of another shape is dropped first
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class TaskTextIndexRunner implements ApplicationRunner {
+
+    static final String INDEX_NAME = "projectId_name_description_text";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var indexOps = mongoTemplate.indexOps(Task.class);
+        indexOps.getIndexInfo().stream()
+                .filter(index -> !index.getName().equals(INDEX_NAME))
+                .filter(index -> index.getIndexFields().stream().anyMatch(IndexField::isText))
+                .forEach(index -> indexOps.dropIndex(index.getName()));
+        indexOps.ensureIndex(new IndexDefinition() {
+            @Override
+            public Document getIndexKeys() {
+                return new Document("projectId", 1)
+                        .append("name", "text")
+                        .append("description", "text");
+            }
+
+            @Override
+            public Document getIndexOptions() {
+                return new Document("name", INDEX_NAME)
+                        .append("weights", new Document("name", 2).append("description", 1));
+            }
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.yarrow.sparrow.config.mongo;
+
+import static com.github.yarrow.sparrow.util.Constants.Transaction.MAX_ATTEMPTS;
+
+import com.mongodb.MongoException;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the callback in a transaction, which is retried as a whole on transient transaction errors, e.g. on write
+ * conflicts of concurrent task writes incrementing the counters of the same project
+ * Within an outer transaction the callback joins it and isn't retried, as the outer one is aborted as a whole
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class TransactionRetry {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> T execute(Supplier<T> callback) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return callback.get();
+        }
+        for (var attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> callback.get());
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_ATTEMPTS || !isTransient(e)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public void executeWithoutResult(Runnable callback) {
+        execute(() -> {
+            callback.run();
+            return null;
+        });
+    }
+
+    static boolean isTransient(Throwable e) {
+        for (var cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,5 +1,12 @@
 package com.github.yarrow.sparrow.config.mongo.audit;
 
+import com.github.yarrow.sparrow.config.mongo.uuid.BinaryToUuidStringConverter;
+import com.github.yarrow.sparrow.config.mongo.uuid.UuidBinaryValueConverter;
+import com.github.yarrow.sparrow.config.property.PersistenceProperties;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.User;
 import java.time.Clock;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -16,15 +23,35 @@ import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
 public class MongoAuditConfig {
 
     private final Clock clock;
+    private final PersistenceProperties persistenceProperties;
 
+    /**
+     * Binary UUIDs are always readable, while id references are written as binaries only in binary and migrating
+     * representations
+     */
     @Bean
     public MongoCustomConversions mongoCustomConversions() {
-        return new MongoCustomConversions(
-                List.of(
-                    new InstantToEpochMilliConverter(),
-                    new EpochMilliToInstantConverter()
-                )
-        );
+        return MongoCustomConversions.create(adapter -> {
+            adapter.registerConverters(
+                    List.of(
+                        new InstantToEpochMilliConverter(),
+                        new EpochMilliToInstantConverter(),
+                        new BinaryToUuidStringConverter()
+                    )
+            );
+            if (persistenceProperties.getIdRepresentation().isWrittenAsBinary()) {
+                var converter = new UuidBinaryValueConverter();
+                adapter.configurePropertyConversions(registrar -> registrar
+                        .registerConverter(Task.class, "id", converter)
+                        .registerConverter(Task.class, "projectId", converter)
+                        .registerConverter(Task.class, "assigneeUserId", converter)
+                        .registerConverter(Project.class, "id", converter)
+                        .registerConverter(Project.class, "memberUserIds", converter)
+                        .registerConverter(User.class, "id", converter)
+                        .registerConverter(ProjectTaskStats.class, "id", converter)
+                );
+            }
+        });
     }
 
     @Bean
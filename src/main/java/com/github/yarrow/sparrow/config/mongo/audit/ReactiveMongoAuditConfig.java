@@ -0,0 +1,15 @@
+package com.github.yarrow.sparrow.config.mongo.audit;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.config.EnableReactiveMongoAuditing;
+
+/**
+ * Reactive template runs its own entity callbacks, so auditing is enabled for it separately
+ * Conversions and date time provider are shared with MongoAuditConfig
+ */
+@Profile("reactive")
+@Configuration
+@EnableReactiveMongoAuditing(dateTimeProviderRef = "dateTimeProvider")
+public class ReactiveMongoAuditConfig {
+}
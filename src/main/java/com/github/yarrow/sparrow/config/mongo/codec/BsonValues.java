@@ -0,0 +1,155 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.config.mongo.uuid.UuidBinaries;
+import com.github.yarrow.sparrow.config.property.PersistenceProperties.IdRepresentation;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+import org.bson.BsonBinary;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.types.ObjectId;
+
+/**
+ * Reading and writing of field values the same way MappingMongoConverter does:
+ * null fields are not written, numbers are read from any numeric type, instants are stored as epoch millis
+ * and string ids that are valid ObjectIds are stored as ObjectIds
+ * Ids and id references are read from any representation and written as binaries in binary and migrating
+ * representations
+ */
+@UtilityClass
+class BsonValues {
+
+    String readId(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case OBJECT_ID -> reader.readObjectId().toHexString();
+            case BINARY -> UuidBinaries.toUuid(reader.readBinaryData().getData()).toString();
+            default -> readString(reader);
+        };
+    }
+
+    List<String> readIds(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+
+        var values = new ArrayList<String>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(readId(reader));
+        }
+        reader.readEndArray();
+        return values;
+    }
+
+    void writeId(BsonWriter writer, String id, IdRepresentation idRepresentation) {
+        if (id == null) {
+            return;
+        }
+        writer.writeName("_id");
+        if (ObjectId.isValid(id)) {
+            writer.writeObjectId(new ObjectId(id));
+        } else {
+            writeIdValue(writer, id, idRepresentation);
+        }
+    }
+
+    void writeReference(BsonWriter writer, String name, String id, IdRepresentation idRepresentation) {
+        if (id != null) {
+            writer.writeName(name);
+            writeIdValue(writer, id, idRepresentation);
+        }
+    }
+
+    void writeReferences(BsonWriter writer, String name, Collection<String> ids, IdRepresentation idRepresentation) {
+        if (ids == null) {
+            return;
+        }
+        writer.writeStartArray(name);
+        for (var id : ids) {
+            if (id == null) {
+                writer.writeNull();
+            } else {
+                writeIdValue(writer, id, idRepresentation);
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    private void writeIdValue(BsonWriter writer, String id, IdRepresentation idRepresentation) {
+        if (idRepresentation.isWrittenAsBinary() && UuidBinaries.isUuid(id)) {
+            writer.writeBinaryData(new BsonBinary(UUID.fromString(id)));
+        } else {
+            writer.writeString(id);
+        }
+    }
+
+    String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        return reader.readString();
+    }
+
+    Double readDouble(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            case INT32 -> (double) reader.readInt32();
+            case INT64 -> (double) reader.readInt64();
+            case DECIMAL128 -> reader.readDecimal128().doubleValue();
+            default -> reader.readDouble();
+        };
+    }
+
+    Long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            case INT32 -> (long) reader.readInt32();
+            default -> reader.readInt64();
+        };
+    }
+
+    Instant readInstant(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.DATE_TIME) {
+            return Instant.ofEpochMilli(reader.readDateTime());
+        }
+        var epochMilli = readLong(reader);
+        return epochMilli == null ? null : Instant.ofEpochMilli(epochMilli);
+    }
+
+    void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    void writeDouble(BsonWriter writer, String name, Double value) {
+        if (value != null) {
+            writer.writeDouble(name, value);
+        }
+    }
+
+    void writeLong(BsonWriter writer, String name, Long value) {
+        if (value != null) {
+            writer.writeInt64(name, value);
+        }
+    }
+
+    void writeInstant(BsonWriter writer, String name, Instant value) {
+        if (value != null) {
+            writer.writeInt64(name, value.toEpochMilli());
+        }
+    }
+}
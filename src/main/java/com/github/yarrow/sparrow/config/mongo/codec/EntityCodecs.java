@@ -0,0 +1,27 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.config.property.PersistenceProperties.IdRepresentation;
+import com.mongodb.MongoClientSettings;
+import lombok.experimental.UtilityClass;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+
+@UtilityClass
+public class EntityCodecs {
+
+    /**
+     * Entity codecs take precedence, the rest of the types are served by the default registry of the driver
+     */
+    public CodecRegistry registry(IdRepresentation idRepresentation) {
+        var taskStatusCodec = new TaskStatusCodec();
+        return CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(
+                        taskStatusCodec,
+                        new TaskCodec(taskStatusCodec, idRepresentation),
+                        new ProjectCodec(idRepresentation),
+                        new UserCodec(idRepresentation)
+                ),
+                MongoClientSettings.getDefaultCodecRegistry()
+        );
+    }
+}
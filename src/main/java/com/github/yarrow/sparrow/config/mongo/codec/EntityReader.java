@@ -0,0 +1,108 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.config.concurrency.Bulkhead;
+import com.github.yarrow.sparrow.config.property.PersistenceProperties;
+import com.google.common.collect.Streams;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads entities with MappingMongoConverter or, on the codec read path, decodes them straight from BSON with
+ * EntityCodecs. Queries are mapped the same way as by MongoTemplate and run within the current transaction
+ * Reads hold a permit of the Mongo bulkhead, streams hold it only while fetching a batch
+ */
+@Component
+public class EntityReader {
+
+    private final MongoTemplate mongoTemplate;
+    private final Bulkhead mongoBulkhead;
+    private final PersistenceProperties persistenceProperties;
+    private final QueryMapper queryMapper;
+    private final CodecRegistry codecRegistry;
+
+    @Autowired
+    public EntityReader(
+            MongoTemplate mongoTemplate,
+            Bulkhead mongoBulkhead,
+            PersistenceProperties persistenceProperties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.mongoBulkhead = mongoBulkhead;
+        this.persistenceProperties = persistenceProperties;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.codecRegistry = EntityCodecs.registry(persistenceProperties.getIdRepresentation());
+    }
+
+    public <T> List<T> find(Query query, Class<T> entityClass) {
+        return mongoBulkhead.call(() -> switch (persistenceProperties.getReadPath()) {
+            case CONVERTER -> mongoTemplate.find(query, entityClass);
+            case CODEC -> mongoTemplate.execute(entityClass, collection ->
+                    decodingFind(collection, query, entityClass).into(new ArrayList<>())
+            );
+        });
+    }
+
+    /**
+     * Stream is backed by Mongo cursor and must be closed after consumption
+     * A permit is held only while a batch of the cursor is fetched, not while the stream is open
+     */
+    public <T> Stream<T> stream(Query query, Class<T> entityClass) {
+        return switch (persistenceProperties.getReadPath()) {
+            case CONVERTER -> {
+                var converter = mongoTemplate.getConverter();
+                yield stream(query, entityClass, collection -> collection)
+                        .map(document -> converter.read(entityClass, document));
+            }
+            case CODEC -> stream(query, entityClass, collection ->
+                    collection.withCodecRegistry(codecRegistry).withDocumentClass(entityClass)
+            );
+        };
+    }
+
+    private <T, D> Stream<D> stream(
+            Query query,
+            Class<T> entityClass,
+            Function<MongoCollection<Document>, MongoCollection<D>> prepareCollection
+    ) {
+        var cursor = mongoBulkhead.call(() -> mongoTemplate.execute(entityClass, collection ->
+                find(prepareCollection.apply(collection), query, entityClass).cursor()
+        ));
+        return Streams.stream(mongoBulkhead.iterator(cursor, cursor::available)).onClose(cursor::close);
+    }
+
+    private <T> FindIterable<T> decodingFind(
+            MongoCollection<Document> collection,
+            Query query,
+            Class<T> entityClass
+    ) {
+        return find(collection.withCodecRegistry(codecRegistry).withDocumentClass(entityClass), query, entityClass);
+    }
+
+    private <D> FindIterable<D> find(MongoCollection<D> collection, Query query, Class<?> entityClass) {
+        var entity = mongoTemplate.getConverter().getMappingContext().getPersistentEntity(entityClass);
+        var iterable = collection
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity));
+        if (!query.getFieldsObject().isEmpty()) {
+            iterable = iterable.projection(queryMapper.getMappedFields(query.getFieldsObject(), entity));
+        }
+        if (query.getSkip() > 0) {
+            iterable = iterable.skip(Math.toIntExact(query.getSkip()));
+        }
+        if (query.getLimit() > 0) {
+            iterable = iterable.limit(query.getLimit());
+        }
+        return iterable;
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.config.property.PersistenceProperties.IdRepresentation;
+import com.github.yarrow.sparrow.domain.Project;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Reads and writes projects in the same document shape as MappingMongoConverter, including the type hint
+ * Timestamps are stored as epoch millis, the same as by InstantToEpochMilliConverter
+ */
+@RequiredArgsConstructor
+public class ProjectCodec implements Codec<Project> {
+
+    private final IdRepresentation idRepresentation;
+
+    @Override
+    public void encode(BsonWriter writer, Project project, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeId(writer, project.getId(), idRepresentation);
+        BsonValues.writeString(writer, "key", project.getKey());
+        BsonValues.writeLong(writer, "version", project.getVersion());
+        BsonValues.writeInstant(writer, "createdTs", project.getCreatedTs());
+        BsonValues.writeInstant(writer, "updatedTs", project.getUpdatedTs());
+        BsonValues.writeString(writer, "name", project.getName());
+        BsonValues.writeString(writer, "description", project.getDescription());
+        BsonValues.writeReferences(writer, "memberUserIds", project.getMemberUserIds(), idRepresentation);
+        writer.writeString("_class", Project.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Project decode(BsonReader reader, DecoderContext decoderContext) {
+        var project = Project.builder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> project.id(BsonValues.readId(reader));
+                case "key" -> project.key(BsonValues.readString(reader));
+                case "version" -> project.version(BsonValues.readLong(reader));
+                case "createdTs" -> project.createdTs(BsonValues.readInstant(reader));
+                case "updatedTs" -> project.updatedTs(BsonValues.readInstant(reader));
+                case "name" -> project.name(BsonValues.readString(reader));
+                case "description" -> project.description(BsonValues.readString(reader));
+                case "memberUserIds" -> project.memberUserIds(BsonValues.readIds(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return project.build();
+    }
+
+    @Override
+    public Class<Project> getEncoderClass() {
+        return Project.class;
+    }
+}
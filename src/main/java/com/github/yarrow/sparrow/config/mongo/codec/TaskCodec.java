@@ -0,0 +1,73 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.config.property.PersistenceProperties.IdRepresentation;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Reads and writes tasks in the same document shape as MappingMongoConverter, including the type hint
+ * Text score is only read, as it is computed by a text search
+ */
+@RequiredArgsConstructor
+public class TaskCodec implements Codec<Task> {
+
+    private final Codec<TaskStatus> taskStatusCodec;
+    private final IdRepresentation idRepresentation;
+
+    @Override
+    public void encode(BsonWriter writer, Task task, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeId(writer, task.getId(), idRepresentation);
+        BsonValues.writeReference(writer, "projectId", task.getProjectId(), idRepresentation);
+        BsonValues.writeString(writer, "name", task.getName());
+        BsonValues.writeString(writer, "description", task.getDescription());
+        BsonValues.writeReference(writer, "assigneeUserId", task.getAssigneeUserId(), idRepresentation);
+        if (task.getStatus() != null) {
+            writer.writeName("status");
+            encoderContext.encodeWithChildContext(taskStatusCodec, writer, task.getStatus());
+        }
+        BsonValues.writeDouble(writer, "storyPoints", task.getStoryPoints());
+        writer.writeString("_class", Task.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Task decode(BsonReader reader, DecoderContext decoderContext) {
+        var task = Task.builder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> task.id(BsonValues.readId(reader));
+                case "projectId" -> task.projectId(BsonValues.readId(reader));
+                case "name" -> task.name(BsonValues.readString(reader));
+                case "description" -> task.description(BsonValues.readString(reader));
+                case "assigneeUserId" -> task.assigneeUserId(BsonValues.readId(reader));
+                case "status" -> task.status(reader.getCurrentBsonType() == BsonType.NULL
+                        ? readNull(reader)
+                        : decoderContext.decodeWithChildContext(taskStatusCodec, reader));
+                case "storyPoints" -> task.storyPoints(BsonValues.readDouble(reader));
+                case "score" -> task.score(BsonValues.readDouble(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return task.build();
+    }
+
+    @Override
+    public Class<Task> getEncoderClass() {
+        return Task.class;
+    }
+
+    private static TaskStatus readNull(BsonReader reader) {
+        reader.readNull();
+        return null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Status is stored by its name, the same way as enums are stored by MappingMongoConverter
+ */
+public class TaskStatusCodec implements Codec<TaskStatus> {
+
+    @Override
+    public void encode(BsonWriter writer, TaskStatus value, EncoderContext encoderContext) {
+        writer.writeString(value.name());
+    }
+
+    @Override
+    public TaskStatus decode(BsonReader reader, DecoderContext decoderContext) {
+        return TaskStatus.valueOf(reader.readString());
+    }
+
+    @Override
+    public Class<TaskStatus> getEncoderClass() {
+        return TaskStatus.class;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.config.property.PersistenceProperties.IdRepresentation;
+import com.github.yarrow.sparrow.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Reads and writes users in the same document shape as MappingMongoConverter, including the type hint
+ */
+@RequiredArgsConstructor
+public class UserCodec implements Codec<User> {
+
+    private final IdRepresentation idRepresentation;
+
+    @Override
+    public void encode(BsonWriter writer, User user, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeId(writer, user.getId(), idRepresentation);
+        BsonValues.writeString(writer, "username", user.getUsername());
+        BsonValues.writeString(writer, "email", user.getEmail());
+        BsonValues.writeString(writer, "password", user.getPassword());
+        BsonValues.writeString(writer, "phoneNumber", user.getPhoneNumber());
+        writer.writeString("_class", User.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public User decode(BsonReader reader, DecoderContext decoderContext) {
+        var user = User.builder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> user.id(BsonValues.readId(reader));
+                case "username" -> user.username(BsonValues.readString(reader));
+                case "email" -> user.email(BsonValues.readString(reader));
+                case "password" -> user.password(BsonValues.readString(reader));
+                case "phoneNumber" -> user.phoneNumber(BsonValues.readString(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return user.build();
+    }
+
+    @Override
+    public Class<User> getEncoderClass() {
+        return User.class;
+    }
+}
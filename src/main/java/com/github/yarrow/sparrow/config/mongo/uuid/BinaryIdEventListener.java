@@ -0,0 +1,22 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import com.github.yarrow.sparrow.domain.MongoDocument;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeSaveEvent;
+
+/**
+ * Converter writes entity ids on its own bypassing value converters, so ids are replaced in the saved document
+ * Other id references are converted by UuidBinaryValueConverter
+ */
+public class BinaryIdEventListener extends AbstractMongoEventListener<MongoDocument> {
+
+    @Override
+    public void onBeforeSave(@NotNull BeforeSaveEvent<MongoDocument> event) {
+        super.onBeforeSave(event);
+        var document = event.getDocument();
+        if (document != null) {
+            document.computeIfPresent("_id", (key, id) -> UuidBinaries.toStored(id));
+        }
+    }
+}
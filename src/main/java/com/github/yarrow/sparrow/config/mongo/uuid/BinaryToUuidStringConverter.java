@@ -0,0 +1,18 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import org.bson.types.Binary;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+
+/**
+ * Entity ids are read by the converter itself, so binary ids are converted to strings with the reading converter
+ */
+@ReadingConverter
+public class BinaryToUuidStringConverter implements Converter<Binary, String> {
+
+    @Override
+    public String convert(@NotNull Binary binary) {
+        return UuidBinaries.fromStored(binary).toString();
+    }
+}
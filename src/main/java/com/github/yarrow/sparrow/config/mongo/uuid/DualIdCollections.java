@@ -0,0 +1,121 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.bson.BsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+/**
+ * Collections applying DualIdFilters to filters, updates, pipelines and bulk writes of every call
+ * Replacements are left as is: saved documents are migrated beforehand by MigrateOnSaveEventListener,
+ * as a replacement can't change the id of a matched document
+ */
+@UtilityClass
+class DualIdCollections {
+
+    private static final Set<String> FILTERED_METHODS = Set.of(
+            "find",
+            "countDocuments",
+            "distinct",
+            "deleteOne",
+            "deleteMany",
+            "updateOne",
+            "updateMany",
+            "findOneAndDelete",
+            "findOneAndUpdate"
+    );
+
+    @SuppressWarnings("unchecked")
+    <T> MongoCollection<T> wrap(MongoCollection<T> collection) {
+        return (MongoCollection<T>) Proxy.newProxyInstance(
+                MongoCollection.class.getClassLoader(),
+                new Class<?>[]{MongoCollection.class},
+                (proxy, method, args) -> invoke(collection, method, args)
+        );
+    }
+
+    private Object invoke(MongoCollection<?> collection, Method method, Object[] args) throws Throwable {
+        if (args != null) {
+            mapArguments(method.getName(), args, collection.getCodecRegistry());
+        }
+        Object result;
+        try {
+            result = method.invoke(collection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+        //Collections derived with withCodecRegistry(), withDocumentClass() etc. are rewritten the same way
+        return result instanceof MongoCollection<?> derived ? wrap(derived) : result;
+    }
+
+    /**
+     * The first Bson argument is a filter and the second one is an update, the same for all filtered methods
+     */
+    private void mapArguments(String methodName, Object[] args, CodecRegistry codecRegistry) {
+        if (FILTERED_METHODS.contains(methodName)) {
+            var bsonIndex = 0;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] instanceof Bson bson) {
+                    var document = toDocument(bson, codecRegistry);
+                    args[i] = bsonIndex++ == 0 ? DualIdFilters.filter(document) : DualIdFilters.update(document);
+                }
+            }
+        } else if (methodName.equals("aggregate") || methodName.equals("bulkWrite")) {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] instanceof List<?> list) {
+                    args[i] = list.stream()
+                            .map(element -> methodName.equals("aggregate")
+                                    ? DualIdFilters.stage(toDocument((Bson) element, codecRegistry))
+                                    : writeModel((WriteModel<?>) element, codecRegistry)
+                            )
+                            .toList();
+                }
+            }
+        }
+    }
+
+    private <T> WriteModel<T> writeModel(WriteModel<T> model, CodecRegistry codecRegistry) {
+        if (model instanceof UpdateOneModel<T> update && update.getUpdate() != null) {
+            return new UpdateOneModel<>(
+                    DualIdFilters.filter(toDocument(update.getFilter(), codecRegistry)),
+                    DualIdFilters.update(toDocument(update.getUpdate(), codecRegistry)),
+                    update.getOptions()
+            );
+        }
+        if (model instanceof UpdateManyModel<T> update && update.getUpdate() != null) {
+            return new UpdateManyModel<>(
+                    DualIdFilters.filter(toDocument(update.getFilter(), codecRegistry)),
+                    DualIdFilters.update(toDocument(update.getUpdate(), codecRegistry)),
+                    update.getOptions()
+            );
+        }
+        if (model instanceof DeleteOneModel<T> delete) {
+            return new DeleteOneModel<>(
+                    DualIdFilters.filter(toDocument(delete.getFilter(), codecRegistry)),
+                    delete.getOptions()
+            );
+        }
+        if (model instanceof DeleteManyModel<T> delete) {
+            return new DeleteManyModel<>(
+                    DualIdFilters.filter(toDocument(delete.getFilter(), codecRegistry)),
+                    delete.getOptions()
+            );
+        }
+        return model;
+    }
+
+    private BsonDocument toDocument(Bson bson, CodecRegistry codecRegistry) {
+        return bson.toBsonDocument(BsonDocument.class, codecRegistry);
+    }
+}
@@ -0,0 +1,184 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Rewrites filters so ids and id references match both string and binary UUIDs, which co-exist while
+ * UuidBinaryMigration is running
+ * Equality is rewritten: plain values, $eq, $ne, $in and $nin, also within $and, $or and $nor
+ * Ranges are rewritten to $or of string and binary bounds, as Mongo compares values of the same type only
+ * $lookup joins compare values of one representation only, so they can't be used while ids are migrated
+ * Text search filters are left as they are, as the prefix of a compound text index must be matched by equality
+ */
+@UtilityClass
+public class DualIdFilters {
+
+    /**
+     * Fields holding ids in any collection, the same as converted by UuidBinaryMigration
+     */
+    private static final Set<String> ID_FIELDS = Set.of("_id", "projectId", "assigneeUserId", "memberUserIds");
+    private static final Set<String> LOGICAL_OPERATORS = Set.of("$and", "$or", "$nor");
+    private static final Set<String> RANGE_OPERATORS = Set.of("$gt", "$gte", "$lt", "$lte");
+
+    public BsonDocument filter(BsonDocument filter) {
+        if (filter.containsKey("$text")) {
+            return filter;
+        }
+        var mapped = new BsonDocument();
+        var ranges = new BsonArray();
+        filter.forEach((key, value) -> {
+            if (isIdRange(key, value)) {
+                ranges.add(bothRepresentationRanges(key, value.asDocument()));
+            } else {
+                mapped.put(key, filterValue(key, value));
+            }
+        });
+        if (!ranges.isEmpty()) {
+            var conditions = mapped.isArray("$and") ? mapped.getArray("$and") : new BsonArray();
+            conditions.addAll(ranges);
+            mapped.put("$and", conditions);
+        }
+        return mapped;
+    }
+
+    /**
+     * Removal of ids from arrays with $pull and $pullAll removes both representations
+     */
+    public BsonDocument update(BsonDocument update) {
+        var mapped = new BsonDocument();
+        update.forEach((operator, fields) -> {
+            if ((!operator.equals("$pull") && !operator.equals("$pullAll")) || !fields.isDocument()) {
+                mapped.put(operator, fields);
+                return;
+            }
+            var mappedFields = new BsonDocument();
+            fields.asDocument().forEach((field, value) -> {
+                if (!ID_FIELDS.contains(field)) {
+                    mappedFields.put(field, value);
+                } else if (operator.equals("$pullAll")) {
+                    mappedFields.put(field, bothRepresentations(value));
+                } else {
+                    mappedFields.put(field, filterValue(field, value));
+                }
+            });
+            mapped.put(operator, mappedFields);
+        });
+        return mapped;
+    }
+
+    /**
+     * Filters of $match stages, also within $lookup pipelines, are rewritten
+     */
+    public BsonDocument stage(BsonDocument stage) {
+        if (stage.isDocument("$match")) {
+            return new BsonDocument("$match", filter(stage.getDocument("$match")));
+        }
+        if (stage.isDocument("$lookup") && stage.getDocument("$lookup").isArray("pipeline")) {
+            var lookup = stage.getDocument("$lookup").clone();
+            var pipeline = new BsonArray();
+            lookup.getArray("pipeline").forEach(nested -> pipeline.add(stage(nested.asDocument())));
+            lookup.put("pipeline", pipeline);
+            return new BsonDocument("$lookup", lookup);
+        }
+        return stage;
+    }
+
+    private BsonValue filterValue(String key, BsonValue value) {
+        if (LOGICAL_OPERATORS.contains(key) && value.isArray()) {
+            var conditions = new BsonArray();
+            value.asArray().forEach(condition -> conditions.add(
+                    condition.isDocument() ? filter(condition.asDocument()) : condition
+            ));
+            return conditions;
+        }
+        if (!ID_FIELDS.contains(key) || value.isArray()) {
+            return value;
+        }
+        if (value.isDocument() && !value.asDocument().isEmpty() && value.asDocument().getFirstKey().startsWith("$")) {
+            var operators = new BsonDocument();
+            value.asDocument().forEach((operator, operand) -> {
+                switch (operator) {
+                    case "$eq" -> operators.put("$in", bothRepresentations(operand));
+                    case "$ne" -> operators.put("$nin", bothRepresentations(operand));
+                    case "$in", "$nin" -> operators.put(operator, bothRepresentations(operand));
+                    default -> operators.put(operator, operand);
+                }
+            });
+            return operators;
+        }
+        var values = bothRepresentations(value);
+        return values.size() == 1 ? value : new BsonDocument("$in", values);
+    }
+
+    private boolean isIdRange(String key, BsonValue value) {
+        return ID_FIELDS.contains(key)
+                && value.isDocument()
+                && value.asDocument().entrySet().stream().anyMatch(operator ->
+                        RANGE_OPERATORS.contains(operator.getKey()) && otherRepresentation(operator.getValue()) != null
+                );
+    }
+
+    /**
+     * Bounds of one representation match only ids of the same one, so the range is matched by either of them
+     * Other operators of the field are applied to both
+     */
+    private BsonDocument bothRepresentationRanges(String key, BsonDocument operators) {
+        var bounds = new BsonDocument();
+        var otherBounds = new BsonDocument();
+        operators.forEach((operator, operand) -> {
+            if (RANGE_OPERATORS.contains(operator)) {
+                var other = otherRepresentation(operand);
+                bounds.put(operator, operand);
+                otherBounds.put(operator, other == null ? operand : other);
+            } else {
+                var mapped = filterValue(key, new BsonDocument(operator, operand)).asDocument();
+                bounds.putAll(mapped);
+                otherBounds.putAll(mapped);
+            }
+        });
+        return new BsonDocument("$or", new BsonArray(List.of(
+                new BsonDocument(key, bounds),
+                new BsonDocument(key, otherBounds)
+        )));
+    }
+
+    private BsonArray bothRepresentations(BsonValue value) {
+        var values = new BsonArray();
+        if (value.isArray()) {
+            value.asArray().forEach(element -> addBothRepresentations(values, element));
+        } else {
+            addBothRepresentations(values, value);
+        }
+        return values;
+    }
+
+    private void addBothRepresentations(BsonArray values, BsonValue value) {
+        values.add(value);
+        var other = otherRepresentation(value);
+        if (other != null) {
+            values.add(other);
+        }
+    }
+
+    /**
+     * The same UUID in the other representation, null if the value is not a UUID
+     */
+    private BsonValue otherRepresentation(BsonValue value) {
+        if (value.isString() && UuidBinaries.isUuid(value.asString().getValue())) {
+            return new BsonBinary(UUID.fromString(value.asString().getValue()));
+        }
+        if (value.isBinary() && value.asBinary().getType() == BsonBinarySubType.UUID_STANDARD.getValue()) {
+            return new BsonString(UuidBinaries.toUuid(value.asBinary().getData()).toString());
+        }
+        return null;
+    }
+}
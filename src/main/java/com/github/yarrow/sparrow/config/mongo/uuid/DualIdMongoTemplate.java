@@ -0,0 +1,27 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * Template of the migrating id representation, every collection it uses matches ids in both representations
+ */
+public class DualIdMongoTemplate extends MongoTemplate {
+
+    public DualIdMongoTemplate(MongoDatabaseFactory mongoDatabaseFactory, MongoConverter mongoConverter) {
+        super(mongoDatabaseFactory, mongoConverter);
+    }
+
+    @Override
+    public MongoCollection<Document> getCollection(String collectionName) {
+        return DualIdCollections.wrap(super.getCollection(collectionName));
+    }
+
+    @Override
+    protected MongoCollection<Document> prepareCollection(MongoCollection<Document> collection) {
+        return DualIdCollections.wrap(super.prepareCollection(collection));
+    }
+}
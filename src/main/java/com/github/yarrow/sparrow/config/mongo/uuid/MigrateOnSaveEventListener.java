@@ -0,0 +1,28 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import com.github.yarrow.sparrow.domain.MongoDocument;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+
+/**
+ * Saves replace documents by binary id, so a document still stored with a string id is migrated first,
+ * otherwise the save would insert a second document which the migration would overwrite later
+ * Used by the migrating id representation only
+ */
+@RequiredArgsConstructor
+public class MigrateOnSaveEventListener extends AbstractMongoEventListener<MongoDocument> {
+
+    private final ObjectProvider<UuidBinaryMigration> uuidBinaryMigration;
+
+    @Override
+    public void onBeforeConvert(@NotNull BeforeConvertEvent<MongoDocument> event) {
+        super.onBeforeConvert(event);
+        var entity = event.getSource();
+        if (entity.getId() != null && UuidBinaries.isUuid(entity.getId())) {
+            uuidBinaryMigration.getObject().migrate(entity.getClass(), entity.getId());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import com.github.yarrow.sparrow.config.property.PersistenceProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Converts ids for queries which aren't mapped against an entity, e.g. pipelines of $lookup stages
+ */
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class StoredIds {
+
+    private final PersistenceProperties persistenceProperties;
+
+    public Object toStored(Object ids) {
+        return switch (persistenceProperties.getIdRepresentation()) {
+            case STRING -> ids;
+            case MIGRATING, BINARY -> UuidBinaries.toStored(ids);
+        };
+    }
+}
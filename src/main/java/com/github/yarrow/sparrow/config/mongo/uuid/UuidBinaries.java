@@ -0,0 +1,73 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+import org.bson.BsonBinarySubType;
+import org.bson.types.Binary;
+
+/**
+ * Conversion between string UUIDs used by entities and DTOs and BSON binary UUIDs of subtype 4
+ * Values which are not UUIDs are left as is, so ids created before UUIDs are still readable and queryable
+ */
+@UtilityClass
+public class UuidBinaries {
+
+    private static final int UUID_STRING_LENGTH = 36;
+
+    public boolean isUuid(String value) {
+        if (value.length() != UUID_STRING_LENGTH) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public Binary toBinary(UUID uuid) {
+        var bytes = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        return new Binary(BsonBinarySubType.UUID_STANDARD, bytes);
+    }
+
+    public UUID toUuid(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * String UUIDs, also within collections and arrays, are converted to binaries, other values are returned as is
+     */
+    public Object toStored(Object value) {
+        if (value instanceof String string && isUuid(string)) {
+            return toBinary(UUID.fromString(string));
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(UuidBinaries::toStored).toList();
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.stream(array).map(UuidBinaries::toStored).toArray();
+        }
+        return value;
+    }
+
+    /**
+     * UUID binaries, also within collections, are converted to strings, other values are returned as is
+     */
+    public Object fromStored(Object value) {
+        if (value instanceof Binary binary && binary.getType() == BsonBinarySubType.UUID_STANDARD.getValue()) {
+            return toUuid(binary.getData()).toString();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(UuidBinaries::fromStored).toList();
+        }
+        return value;
+    }
+}
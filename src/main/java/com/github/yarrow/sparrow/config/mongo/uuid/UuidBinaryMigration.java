@@ -0,0 +1,141 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import com.github.yarrow.sparrow.config.concurrency.Bulkhead;
+import com.github.yarrow.sparrow.domain.MongoDocument;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.User;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Sorts;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Online migration of string UUID ids and id references to binary UUIDs
+ * Every document is re-read and replaced in its own transaction, so concurrent writes are never lost
+ * and the migration could be stopped and resumed at any moment: documents with string ids are the remaining work
+ * Serving instances use the migrating id representation meanwhile, so documents of both representations are found
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class UuidBinaryMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * Fields holding ids of other documents, the same as converted by UuidBinaryValueConverter
+     */
+    static final Map<Class<? extends MongoDocument>, List<String>> REFERENCE_FIELDS = Map.of(
+            Task.class, List.of("projectId", "assigneeUserId"),
+            Project.class, List.of("memberUserIds"),
+            User.class, List.of(),
+            ProjectTaskStats.class, List.of()
+    );
+
+    private final MongoTemplate mongoTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Bulkhead mongoBulkhead;
+
+    /**
+     * Returns number of migrated documents, string ids which are not UUIDs are left as is
+     */
+    public long migrate(Class<? extends MongoDocument> entityClass) {
+        var collectionName = mongoTemplate.getCollectionName(entityClass);
+        var migrated = 0L;
+        String lastId = null;
+        while (true) {
+            var batch = findStringIds(entityClass, lastId);
+            if (batch.isEmpty()) {
+                log.info("Migration of {} is finished, {} documents migrated", collectionName, migrated);
+                return migrated;
+            }
+            for (var id : batch) {
+                if (UuidBinaries.isUuid(id) && migrate(entityClass, id)) {
+                    migrated++;
+                }
+            }
+            lastId = batch.get(batch.size() - 1);
+            log.info("Migration of {} is in progress, {} documents migrated", collectionName, migrated);
+        }
+    }
+
+    /**
+     * Migrates a single document, returns false if there is no document with the string id
+     */
+    public boolean migrate(Class<? extends MongoDocument> entityClass, String id) {
+        var referenceFields = REFERENCE_FIELDS.get(entityClass);
+        return mongoBulkhead.call(() -> migrate(entityClass, id, referenceFields));
+    }
+
+    /**
+     * Index sizes in bytes as reported by collStats, including the total size under "totalIndexSize"
+     * WiredTiger reuses space of removed index entries, it is returned to the file system only by compact
+     */
+    public Map<String, Long> indexSizes(Class<? extends MongoDocument> entityClass) {
+        var collectionName = mongoTemplate.getCollectionName(entityClass);
+        var stats = mongoTemplate.executeCommand(new Document("collStats", collectionName));
+        var sizes = new LinkedHashMap<String, Long>();
+        sizes.put("totalIndexSize", stats.get("totalIndexSize", Number.class).longValue());
+        stats.get("indexSizes", Document.class).forEach((index, size) -> sizes.put(index, ((Number) size).longValue()));
+        return sizes;
+    }
+
+    private List<String> findStringIds(Class<?> entityClass, String lastId) {
+        Bson filter = lastId == null
+                ? Filters.type("_id", BsonType.STRING)
+                : Filters.and(Filters.type("_id", BsonType.STRING), Filters.gt("_id", lastId));
+        return mongoBulkhead.call(() -> mongoTemplate.execute(entityClass, collection -> collection.find(filter)
+                .projection(new Document("_id", 1))
+                .sort(Sorts.ascending("_id"))
+                .limit(BATCH_SIZE)
+                .map(document -> document.getString("_id"))
+                .into(new ArrayList<>())
+        ));
+    }
+
+    private boolean migrate(Class<?> entityClass, String id, List<String> referenceFields) {
+        var migrated = transactionTemplate.execute(status -> mongoTemplate.execute(entityClass, collection -> {
+            //The type is matched explicitly, as filters match both representations in migrating representation
+            var document = collection.findOneAndDelete(Filters.and(
+                    Filters.eq("_id", id),
+                    Filters.type("_id", BsonType.STRING)
+            ));
+            if (document == null) {
+                return false;
+            }
+            document.put("_id", UuidBinaries.toStored(id));
+            for (var field : referenceFields) {
+                document.computeIfPresent(field, (key, value) -> toStoredReferences(value));
+            }
+            collection.replaceOne(
+                    Filters.eq("_id", document.get("_id")),
+                    document,
+                    new ReplaceOptions().upsert(true)
+            );
+            return true;
+        }));
+        return Boolean.TRUE.equals(migrated);
+    }
+
+    /**
+     * Arrays could hold the same id in both representations, if it was added while the migration was running
+     */
+    private Object toStoredReferences(Object value) {
+        var stored = UuidBinaries.toStored(value);
+        return stored instanceof List<?> list ? list.stream().distinct().toList() : stored;
+    }
+}
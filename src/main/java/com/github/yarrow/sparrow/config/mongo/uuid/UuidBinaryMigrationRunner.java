@@ -0,0 +1,38 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs UuidBinaryMigration for every collection on start-up and reports index sizes before and after it
+ * Could be started alongside instances serving in migrating id representation, which should be switched
+ * to binary representation once it's finished
+ * Space of removed index entries is reused by WiredTiger, so index sizes shrink only after compact
+ */
+@Slf4j
+@Profile("id-migration")
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class UuidBinaryMigrationRunner implements ApplicationRunner {
+
+    private final UuidBinaryMigration uuidBinaryMigration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (var entityClass : UuidBinaryMigration.REFERENCE_FIELDS.keySet()) {
+            var before = uuidBinaryMigration.indexSizes(entityClass);
+            var migrated = uuidBinaryMigration.migrate(entityClass);
+            var after = uuidBinaryMigration.indexSizes(entityClass);
+            before.forEach((index, sizeBefore) -> log.info(
+                    "{} {}: {} documents migrated, index size {} -> {} bytes before compact",
+                    entityClass.getSimpleName(), index, migrated, sizeBefore, after.getOrDefault(index, 0L)
+            ));
+        }
+        log.info("Migration is finished, id representation of serving instances could be switched to binary");
+    }
+}
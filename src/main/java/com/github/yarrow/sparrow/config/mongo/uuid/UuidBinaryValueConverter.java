@@ -0,0 +1,20 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoValueConverter;
+
+/**
+ * Stores id references as binary UUIDs, applied to entity writes as well as to query and update values
+ */
+public class UuidBinaryValueConverter implements MongoValueConverter<Object, Object> {
+
+    @Override
+    public Object read(Object value, MongoConversionContext context) {
+        return UuidBinaries.fromStored(value);
+    }
+
+    @Override
+    public Object write(Object value, MongoConversionContext context) {
+        return UuidBinaries.toStored(value);
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.yarrow.sparrow.config.property;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "taskl.access")
+@Value
+@AllArgsConstructor(onConstructor_ = @ConstructorBinding)
+public class AccessProperties {
+
+    @NotNull
+    SecuredTaskQuery securedTaskQuery;
+
+    public enum SecuredTaskQuery {
+        /**
+         * Tasks and their accessible projects are queried one after another and joined in memory
+         */
+        SEPARATE,
+        /**
+         * Tasks are joined with accessible projects by a single aggregation
+         */
+        LOOKUP,
+        /**
+         * Tasks are queried by ids and checked against cached memberships of the user
+         */
+        MEMBERSHIP_CACHE
+    }
+}
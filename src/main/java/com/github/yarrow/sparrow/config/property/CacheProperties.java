@@ -0,0 +1,34 @@
+package com.github.yarrow.sparrow.config.property;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "taskl.cache")
+@Value
+@AllArgsConstructor(onConstructor_ = @ConstructorBinding)
+public class CacheProperties {
+
+    @NotNull
+    Spec principal;
+    @NotNull
+    Spec jwt;
+    @NotNull
+    Spec projectKey;
+    @NotNull
+    Spec projectMembership;
+
+    /**
+     * Caches are bounded both by size and by time since last write
+     */
+    @Value
+    public static class Spec {
+
+        long maximumSize;
+        @NotNull
+        Duration expireAfterWrite;
+    }
+}
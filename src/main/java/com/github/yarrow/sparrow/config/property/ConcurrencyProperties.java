@@ -0,0 +1,30 @@
+package com.github.yarrow.sparrow.config.property;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+/**
+ * Limits of concurrent calls to shared resources, so unbounded number of virtual threads can't exhaust them
+ */
+@ConfigurationProperties(prefix = "taskl.concurrency")
+@Value
+@AllArgsConstructor(onConstructor_ = @ConstructorBinding)
+public class ConcurrencyProperties {
+
+    @NotNull
+    BulkheadSpec mongo;
+    @NotNull
+    BulkheadSpec passwordHashing;
+
+    @Value
+    public static class BulkheadSpec {
+
+        int maxConcurrentCalls;
+        @NotNull
+        Duration maxWait;
+    }
+}
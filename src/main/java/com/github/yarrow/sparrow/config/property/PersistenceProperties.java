@@ -0,0 +1,58 @@
+package com.github.yarrow.sparrow.config.property;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "taskl.persistence")
+@Value
+@AllArgsConstructor(onConstructor_ = @ConstructorBinding)
+public class PersistenceProperties {
+
+    @NotNull
+    ReadPath readPath;
+    @NotNull
+    IdRepresentation idRepresentation;
+    /**
+     * Number of documents written by a single unordered bulk insert of a batch
+     */
+    @Positive
+    int insertChunkSize;
+
+    public enum ReadPath {
+        /**
+         * Entities are read by MappingMongoConverter, the same as everywhere else
+         */
+        CONVERTER,
+        /**
+         * List queries decode entities straight from BSON with hand-written codecs
+         */
+        CODEC
+    }
+
+    public enum IdRepresentation {
+        /**
+         * Ids and id references are stored as 36 characters strings
+         */
+        STRING,
+        /**
+         * Representation of serving instances while UuidBinaryMigration is running: ids are written as binaries
+         * and filters match both representations, binary representation should be enabled once it's finished
+         * Supported by the servlet deployment with a secured task query other than LOOKUP only
+         * Task search matches binary project references only, so tasks are found by it once they are migrated
+         */
+        MIGRATING,
+        /**
+         * UUID ids and id references are stored as BSON binaries of subtype 4, existing documents are converted
+         * by UuidBinaryMigration
+         */
+        BINARY;
+
+        public boolean isWrittenAsBinary() {
+            return this != STRING;
+        }
+    }
+}
@@ -9,6 +9,10 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @EnableConfigurationProperties({
         JwtProperties.class,
+        CacheProperties.class,
+        AccessProperties.class,
+        ConcurrencyProperties.class,
+        PersistenceProperties.class,
 })
 public class PropertyConfig {
 
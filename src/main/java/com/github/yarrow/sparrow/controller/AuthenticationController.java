@@ -7,11 +7,13 @@ import com.github.yarrow.sparrow.service.authentication.AuthenticationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+@Profile("!reactive")
 @RestController
 @RequestMapping("/v1/auth")
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -1,31 +1,58 @@
 package com.github.yarrow.sparrow.controller;
 
+import static com.github.yarrow.sparrow.util.Constants.Board.DEFAULT_COLUMN_LIMIT;
+import static com.github.yarrow.sparrow.util.Constants.Board.MAX_COLUMN_LIMIT;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.yarrow.sparrow.domain.ProjectField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskStatus;
 import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateProjectMembersRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectBoardResponse;
 import com.github.yarrow.sparrow.dto.response.ProjectResponse;
 import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectStatsResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
 import com.github.yarrow.sparrow.service.project.ProjectService;
+import com.github.yarrow.sparrow.service.task.TaskService;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Validated
+@Profile("!reactive")
 @RestController
 @RequestMapping("/v1/projects")
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ProjectResponse saveProject(@RequestBody @Valid CreateProjectRequest request) {
@@ -38,8 +65,11 @@ public class ProjectController {
     }
 
     @GetMapping("/{projectIdOrKey}")
-    public ProjectResponse getProjectByIdOrKey(@PathVariable String projectIdOrKey) {
-        return projectService.getProjectByIdOrKey(projectIdOrKey);
+    public ProjectResponse getProjectByIdOrKey(
+            @PathVariable String projectIdOrKey,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return projectService.getProjectByIdOrKey(projectIdOrKey, FieldsUtil.parse(ProjectField.class, fields));
     }
 
     @PutMapping("/{projectIdOrKey}")
@@ -52,4 +82,92 @@ public class ProjectController {
                 request.orElse(UpdateProjectRequest.builder().build())
         );
     }
+
+    @PostMapping("/{projectIdOrKey}/members/{userId}")
+    public void addProjectMember(@PathVariable String projectIdOrKey, @PathVariable String userId) {
+        projectService.addProjectMembers(projectIdOrKey, List.of(userId));
+    }
+
+    @DeleteMapping("/{projectIdOrKey}/members/{userId}")
+    public void removeProjectMember(@PathVariable String projectIdOrKey, @PathVariable String userId) {
+        projectService.removeProjectMembers(projectIdOrKey, List.of(userId));
+    }
+
+    @PostMapping("/{projectIdOrKey}/members")
+    public void addProjectMembers(
+            @PathVariable String projectIdOrKey,
+            @RequestBody @Valid UpdateProjectMembersRequest request
+    ) {
+        projectService.addProjectMembers(projectIdOrKey, request.getUserIds());
+    }
+
+    /**
+     * Batch removal uses POST, as request body is not guaranteed to be supported for DELETE
+     */
+    @PostMapping("/{projectIdOrKey}/members:remove")
+    public void removeProjectMembers(
+            @PathVariable String projectIdOrKey,
+            @RequestBody @Valid UpdateProjectMembersRequest request
+    ) {
+        projectService.removeProjectMembers(projectIdOrKey, request.getUserIds());
+    }
+
+    @GetMapping("/{projectIdOrKey}/board")
+    public ProjectBoardResponse getProjectBoard(
+            @PathVariable String projectIdOrKey,
+            @RequestParam(defaultValue = DEFAULT_COLUMN_LIMIT)
+            @Min(value = 1, message = "{taskl.validation.pagination.limit.min}")
+            @Max(value = MAX_COLUMN_LIMIT, message = "{taskl.validation.pagination.limit.max}")
+            int limit
+    ) {
+        return taskService.getProjectBoard(projectIdOrKey, limit);
+    }
+
+    @GetMapping("/{projectIdOrKey}/stats")
+    public ProjectStatsResponse getProjectStats(@PathVariable String projectIdOrKey) {
+        return taskService.getProjectStats(projectIdOrKey);
+    }
+
+    /**
+     * The patch is applied to every task of the project matching the filter, each task is reported separately
+     */
+    @PostMapping("/{projectIdOrKey}/tasks:batchUpdate")
+    public TaskBatchResponse updateProjectTasks(
+            @PathVariable String projectIdOrKey,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String assigneeUserId,
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @RequestParam(required = false) Double minStoryPoints,
+            @RequestParam(required = false) Double maxStoryPoints,
+            @RequestBody @Valid UpdateTaskRequest patch
+    ) {
+        var filter = TaskFilter.builder()
+                .statuses(status)
+                .assigneeUserId(assigneeUserId)
+                .unassigned(unassigned)
+                .minStoryPoints(minStoryPoints)
+                .maxStoryPoints(maxStoryPoints)
+                .build();
+        return taskService.updateTasksByProjectId(projectIdOrKey, filter, patch);
+    }
+
+    /**
+     * Tasks are written one JSON per line straight from the database cursor, so heap usage doesn't depend on
+     * project size
+     */
+    @GetMapping("/{projectIdOrKey}/tasks:export")
+    public void exportProjectTasks(
+            @PathVariable String projectIdOrKey,
+            HttpServletResponse response
+    ) throws IOException {
+        try (var tasks = taskService.streamTasksByProjectIdOrKey(projectIdOrKey)) {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            var outputStream = response.getOutputStream();
+            var iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                outputStream.write('\n');
+            }
+        }
+    }
 }
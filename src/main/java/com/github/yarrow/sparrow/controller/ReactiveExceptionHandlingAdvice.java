@@ -0,0 +1,75 @@
+package com.github.yarrow.sparrow.controller;
+
+import com.github.yarrow.sparrow.dto.response.ErrorResponse;
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.google.common.base.Throwables;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+/**
+ * Same error responses as ExceptionHandlingAdvice for the exceptions of WebFlux
+ */
+@Slf4j
+@Profile("reactive")
+@RestControllerAdvice
+public class ReactiveExceptionHandlingAdvice {
+
+    /**
+     * Here we're getting http code from threw error so only ResponseEntity is needed
+     */
+    @ExceptionHandler(ApplicationError.class)
+    public ResponseEntity<ErrorResponse> applicationErrorHandler(ApplicationError e) {
+        return ResponseEntity.status(e.getHttpStatus().value()).body(e.toResponse());
+    }
+
+    /**
+     * Missing parameters and unreadable bodies are both reported as input exceptions
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ErrorResponse serverWebInputExceptionHandler() {
+        return ErrorFactory.get().badRequest().toResponse();
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ErrorResponse webExchangeBindExceptionHandler(WebExchangeBindException e) {
+        var message = "Bad request";
+        var fieldError = e.getBindingResult().getFieldError();
+        if (fieldError != null) {
+            var fieldErrorMessage = fieldError.getDefaultMessage();
+            if (StringUtils.isNotBlank(fieldErrorMessage)) {
+                message = fieldErrorMessage;
+            }
+        }
+
+        return ErrorFactory.get().validationFailed(message).toResponse();
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(value = HttpStatus.BAD_REQUEST)
+    public ErrorResponse constraintViolationExceptionHandler(ConstraintViolationException e) {
+        var message = e.getConstraintViolations().iterator().next().getMessage();
+        return ErrorFactory.get().validationFailed(message).toResponse();
+    }
+
+    @ExceptionHandler(Exception.class)
+    @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
+    public ErrorResponse unknownExceptionHandler(Exception e) {
+        log.error("Unknown exception threw to user, message: {}, stacktrace {}",
+                e.getMessage(),
+                Throwables.getStackTraceAsString(e)
+        );
+        return ErrorFactory.get().internalServerError().toResponse();
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.yarrow.sparrow.controller;
+
+import static com.github.yarrow.sparrow.util.Constants.Board.DEFAULT_COLUMN_LIMIT;
+import static com.github.yarrow.sparrow.util.Constants.Board.MAX_COLUMN_LIMIT;
+
+import com.github.yarrow.sparrow.domain.ProjectField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateProjectMembersRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectBoardResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectStatsResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskResponse;
+import com.github.yarrow.sparrow.service.project.ReactiveProjectService;
+import com.github.yarrow.sparrow.service.task.ReactiveTaskService;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of ProjectController served by the reactive profile under the same paths
+ */
+@Validated
+@Profile("reactive")
+@RestController
+@RequestMapping("/v1/projects")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveProjectController {
+
+    private final ReactiveProjectService reactiveProjectService;
+    private final ReactiveTaskService reactiveTaskService;
+
+    @PostMapping
+    public Mono<ProjectResponse> saveProject(@RequestBody @Valid CreateProjectRequest request) {
+        return reactiveProjectService.saveProject(request);
+    }
+
+    @GetMapping
+    public Mono<Collection<ProjectShortResponse>> getUserProjects() {
+        return reactiveProjectService.getUserProjects();
+    }
+
+    @GetMapping("/{projectIdOrKey}")
+    public Mono<ProjectResponse> getProjectByIdOrKey(
+            @PathVariable String projectIdOrKey,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return reactiveProjectService.getProjectByIdOrKey(projectIdOrKey, FieldsUtil.parse(ProjectField.class, fields));
+    }
+
+    /**
+     * Body is optional the same way as in ProjectController
+     */
+    @PutMapping("/{projectIdOrKey}")
+    public Mono<ProjectResponse> updateProjectByIdOrKey(
+            @PathVariable String projectIdOrKey,
+            @RequestBody(required = false) @Valid Mono<UpdateProjectRequest> request
+    ) {
+        return request.defaultIfEmpty(UpdateProjectRequest.builder().build())
+                .flatMap(r -> reactiveProjectService.updateProjectByIdOrKey(projectIdOrKey, r));
+    }
+
+    @PostMapping("/{projectIdOrKey}/members/{userId}")
+    public Mono<Void> addProjectMember(@PathVariable String projectIdOrKey, @PathVariable String userId) {
+        return reactiveProjectService.addProjectMembers(projectIdOrKey, List.of(userId));
+    }
+
+    @DeleteMapping("/{projectIdOrKey}/members/{userId}")
+    public Mono<Void> removeProjectMember(@PathVariable String projectIdOrKey, @PathVariable String userId) {
+        return reactiveProjectService.removeProjectMembers(projectIdOrKey, List.of(userId));
+    }
+
+    @PostMapping("/{projectIdOrKey}/members")
+    public Mono<Void> addProjectMembers(
+            @PathVariable String projectIdOrKey,
+            @RequestBody @Valid UpdateProjectMembersRequest request
+    ) {
+        return reactiveProjectService.addProjectMembers(projectIdOrKey, request.getUserIds());
+    }
+
+    /**
+     * Batch removal uses POST, as request body is not guaranteed to be supported for DELETE
+     */
+    @PostMapping("/{projectIdOrKey}/members:remove")
+    public Mono<Void> removeProjectMembers(
+            @PathVariable String projectIdOrKey,
+            @RequestBody @Valid UpdateProjectMembersRequest request
+    ) {
+        return reactiveProjectService.removeProjectMembers(projectIdOrKey, request.getUserIds());
+    }
+
+    @GetMapping("/{projectIdOrKey}/board")
+    public Mono<ProjectBoardResponse> getProjectBoard(
+            @PathVariable String projectIdOrKey,
+            @RequestParam(defaultValue = DEFAULT_COLUMN_LIMIT)
+            @Min(value = 1, message = "{taskl.validation.pagination.limit.min}")
+            @Max(value = MAX_COLUMN_LIMIT, message = "{taskl.validation.pagination.limit.max}")
+            int limit
+    ) {
+        return reactiveTaskService.getProjectBoard(projectIdOrKey, limit);
+    }
+
+    @GetMapping("/{projectIdOrKey}/stats")
+    public Mono<ProjectStatsResponse> getProjectStats(@PathVariable String projectIdOrKey) {
+        return reactiveTaskService.getProjectStats(projectIdOrKey);
+    }
+
+    /**
+     * The patch is applied to every task of the project matching the filter, each task is reported separately
+     */
+    @PostMapping("/{projectIdOrKey}/tasks:batchUpdate")
+    public Mono<TaskBatchResponse> updateProjectTasks(
+            @PathVariable String projectIdOrKey,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String assigneeUserId,
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @RequestParam(required = false) Double minStoryPoints,
+            @RequestParam(required = false) Double maxStoryPoints,
+            @RequestBody @Valid UpdateTaskRequest patch
+    ) {
+        var filter = TaskFilter.builder()
+                .statuses(status)
+                .assigneeUserId(assigneeUserId)
+                .unassigned(unassigned)
+                .minStoryPoints(minStoryPoints)
+                .maxStoryPoints(maxStoryPoints)
+                .build();
+        return reactiveTaskService.updateTasksByProjectId(projectIdOrKey, filter, patch);
+    }
+
+    /**
+     * Tasks are encoded one JSON per line as they are emitted by the database cursor
+     */
+    @GetMapping(value = "/{projectIdOrKey}/tasks:export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskResponse> exportProjectTasks(@PathVariable String projectIdOrKey) {
+        return reactiveTaskService.streamTasksByProjectIdOrKey(projectIdOrKey);
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.yarrow.sparrow.controller;
+
+import static com.github.yarrow.sparrow.util.Constants.Batch.MAX_TASKS;
+import static com.github.yarrow.sparrow.util.Constants.Pagination.DEFAULT_LIMIT;
+import static com.github.yarrow.sparrow.util.Constants.Pagination.MAX_LIMIT;
+import static com.github.yarrow.sparrow.util.Constants.Search.MAX_QUERY_LENGTH;
+
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskSort;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.CreateTasksRequest;
+import com.github.yarrow.sparrow.dto.request.GetTasksRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTasksRequest;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskListResponse;
+import com.github.yarrow.sparrow.dto.response.TaskPageResponse;
+import com.github.yarrow.sparrow.dto.response.TaskResponse;
+import com.github.yarrow.sparrow.service.task.ReactiveTaskService;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of TaskController served by the reactive profile under the same paths
+ */
+@Validated
+@Profile("reactive")
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService reactiveTaskService;
+
+    @PostMapping("/tasks")
+    public Mono<TaskResponse> createTask(@RequestBody @Valid CreateTaskRequest task) {
+        return reactiveTaskService.createTask(task);
+    }
+
+    /**
+     * Every task is reported separately, so the response is 200 even if some tasks were not created
+     */
+    @PostMapping("/tasks:batch")
+    public Mono<TaskBatchResponse> createTasks(@RequestBody @Valid CreateTasksRequest request) {
+        return reactiveTaskService.createTasks(request.getTasks());
+    }
+
+    /**
+     * Every task is reported separately, so the response is 200 even if some tasks were not updated
+     */
+    @PostMapping("/tasks:batchUpdate")
+    public Mono<TaskBatchResponse> updateTasks(@RequestBody @Valid UpdateTasksRequest request) {
+        return reactiveTaskService.updateTasks(request.getTasks());
+    }
+
+    @GetMapping("/tasks")
+    public Mono<TaskPageResponse> getTasksByProjectId(
+            @RequestParam @Valid @NotNull String projectId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String assigneeUserId,
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @RequestParam(required = false) Double minStoryPoints,
+            @RequestParam(required = false) Double maxStoryPoints,
+            @RequestParam(defaultValue = "ID") TaskSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT)
+            @Min(value = 1, message = "{taskl.validation.pagination.limit.min}")
+            @Max(value = MAX_LIMIT, message = "{taskl.validation.pagination.limit.max}")
+            int limit,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        var filter = TaskFilter.builder()
+                .statuses(status)
+                .assigneeUserId(assigneeUserId)
+                .unassigned(unassigned)
+                .minStoryPoints(minStoryPoints)
+                .maxStoryPoints(maxStoryPoints)
+                .sort(sort)
+                .build();
+        return reactiveTaskService.getTasksByProjectId(
+                projectId,
+                filter,
+                cursor,
+                limit,
+                FieldsUtil.parse(TaskField.class, fields)
+        );
+    }
+
+    /**
+     * Takes precedence over the project task list whenever ids are present
+     */
+    @GetMapping(value = "/tasks", params = "ids")
+    public Mono<TaskListResponse> getTasksByIds(
+            @RequestParam
+            @NotEmpty(message = "{taskl.validation.task.ids.empty}")
+            @Size(max = MAX_TASKS, message = "{taskl.validation.task.ids.size}")
+            List<String> ids,
+            @RequestParam(defaultValue = "false") boolean partial,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return reactiveTaskService.getTasksByIds(ids, partial, FieldsUtil.parse(TaskField.class, fields));
+    }
+
+    /**
+     * Same as getTasksByIds(), but ids are sent in the body, so their number is not limited by the URL length
+     */
+    @PostMapping("/tasks:batchGet")
+    public Mono<TaskListResponse> batchGetTasks(
+            @RequestBody @Valid GetTasksRequest request,
+            @RequestParam(defaultValue = "false") boolean partial,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return reactiveTaskService.getTasksByIds(request.getIds(), partial, FieldsUtil.parse(TaskField.class, fields));
+    }
+
+    /**
+     * Tasks of all projects of the user matching the query, the most relevant first
+     */
+    @GetMapping("/tasks/search")
+    public Mono<TaskPageResponse> searchTasks(
+            @RequestParam
+            @NotBlank(message = "{taskl.validation.task.search.query.blank}")
+            @Size(max = MAX_QUERY_LENGTH, message = "{taskl.validation.task.search.query.length}")
+            String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT)
+            @Min(value = 1, message = "{taskl.validation.pagination.limit.min}")
+            @Max(value = MAX_LIMIT, message = "{taskl.validation.pagination.limit.max}")
+            int limit,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return reactiveTaskService.searchTasks(q, cursor, limit, FieldsUtil.parse(TaskField.class, fields));
+    }
+
+    @GetMapping("/tasks/{taskId}")
+    public Mono<TaskResponse> getTaskById(
+            @PathVariable String taskId,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return reactiveTaskService.getTaskById(taskId, FieldsUtil.parse(TaskField.class, fields));
+    }
+
+    @PutMapping("/tasks/{taskId}")
+    public Mono<TaskResponse> updateTaskById(
+            @PathVariable String taskId,
+            @RequestBody @Valid UpdateTaskRequest request
+    ) {
+        return reactiveTaskService.updateTaskById(taskId, request);
+    }
+}
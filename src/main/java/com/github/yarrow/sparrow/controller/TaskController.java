@@ -1,14 +1,37 @@
 package com.github.yarrow.sparrow.controller;
 
+import static com.github.yarrow.sparrow.util.Constants.Batch.MAX_TASKS;
+import static com.github.yarrow.sparrow.util.Constants.Pagination.DEFAULT_LIMIT;
+import static com.github.yarrow.sparrow.util.Constants.Pagination.MAX_LIMIT;
+import static com.github.yarrow.sparrow.util.Constants.Search.MAX_QUERY_LENGTH;
+
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskSort;
+import com.github.yarrow.sparrow.domain.TaskStatus;
 import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.CreateTasksRequest;
+import com.github.yarrow.sparrow.dto.request.GetTasksRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTasksRequest;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskListResponse;
+import com.github.yarrow.sparrow.dto.response.TaskPageResponse;
 import com.github.yarrow.sparrow.dto.response.TaskResponse;
 import com.github.yarrow.sparrow.service.task.TaskService;
+import com.github.yarrow.sparrow.util.FieldsUtil;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
-import java.util.Collection;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,29 +43,124 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Validated
+@Profile("!reactive")
 @RestController
-@RequestMapping("/v1/tasks")
+@RequestMapping("/v1")
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class TaskController {
 
     private final TaskService taskService;
 
-    @PostMapping
+    @PostMapping("/tasks")
     public TaskResponse createTask(@RequestBody @Valid CreateTaskRequest task) {
         return taskService.createTask(task);
     }
 
-    @GetMapping
-    public Collection<TaskResponse> getTasksByProjectId(@RequestParam @Valid @NotNull String projectId) {
-        return taskService.getTasksByProjectId(projectId);
+    /**
+     * Every task is reported separately, so the response is 200 even if some tasks were not created
+     */
+    @PostMapping("/tasks:batch")
+    public TaskBatchResponse createTasks(@RequestBody @Valid CreateTasksRequest request) {
+        return taskService.createTasks(request.getTasks());
+    }
+
+    /**
+     * Every task is reported separately, so the response is 200 even if some tasks were not updated
+     */
+    @PostMapping("/tasks:batchUpdate")
+    public TaskBatchResponse updateTasks(@RequestBody @Valid UpdateTasksRequest request) {
+        return taskService.updateTasks(request.getTasks());
+    }
+
+    @GetMapping("/tasks")
+    public TaskPageResponse getTasksByProjectId(
+            @RequestParam @Valid @NotNull String projectId,
+            @RequestParam(required = false) Set<TaskStatus> status,
+            @RequestParam(required = false) String assigneeUserId,
+            @RequestParam(defaultValue = "false") boolean unassigned,
+            @RequestParam(required = false) Double minStoryPoints,
+            @RequestParam(required = false) Double maxStoryPoints,
+            @RequestParam(defaultValue = "ID") TaskSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT)
+            @Min(value = 1, message = "{taskl.validation.pagination.limit.min}")
+            @Max(value = MAX_LIMIT, message = "{taskl.validation.pagination.limit.max}")
+            int limit,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        var filter = TaskFilter.builder()
+                .statuses(status)
+                .assigneeUserId(assigneeUserId)
+                .unassigned(unassigned)
+                .minStoryPoints(minStoryPoints)
+                .maxStoryPoints(maxStoryPoints)
+                .sort(sort)
+                .build();
+        return taskService.getTasksByProjectId(
+                projectId,
+                filter,
+                cursor,
+                limit,
+                FieldsUtil.parse(TaskField.class, fields)
+        );
+    }
+
+    /**
+     * Takes precedence over the project task list whenever ids are present
+     */
+    @GetMapping(value = "/tasks", params = "ids")
+    public TaskListResponse getTasksByIds(
+            @RequestParam
+            @NotEmpty(message = "{taskl.validation.task.ids.empty}")
+            @Size(max = MAX_TASKS, message = "{taskl.validation.task.ids.size}")
+            List<String> ids,
+            @RequestParam(defaultValue = "false") boolean partial,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return taskService.getTasksByIds(ids, partial, FieldsUtil.parse(TaskField.class, fields));
+    }
+
+    /**
+     * Same as getTasksByIds(), but ids are sent in the body, so their number is not limited by the URL length
+     */
+    @PostMapping("/tasks:batchGet")
+    public TaskListResponse batchGetTasks(
+            @RequestBody @Valid GetTasksRequest request,
+            @RequestParam(defaultValue = "false") boolean partial,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return taskService.getTasksByIds(request.getIds(), partial, FieldsUtil.parse(TaskField.class, fields));
+    }
+
+    /**
+     * Tasks of all projects of the user matching the query, the most relevant first
+     * No more than the first MAX_OFFSET matching tasks are paged, the page past them is marked as truncated
+     */
+    @GetMapping("/tasks/search")
+    public TaskPageResponse searchTasks(
+            @RequestParam
+            @NotBlank(message = "{taskl.validation.task.search.query.blank}")
+            @Size(max = MAX_QUERY_LENGTH, message = "{taskl.validation.task.search.query.length}")
+            String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_LIMIT)
+            @Min(value = 1, message = "{taskl.validation.pagination.limit.min}")
+            @Max(value = MAX_LIMIT, message = "{taskl.validation.pagination.limit.max}")
+            int limit,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return taskService.searchTasks(q, cursor, limit, FieldsUtil.parse(TaskField.class, fields));
     }
 
-    @GetMapping("/{taskId}")
-    public TaskResponse getTaskById(@PathVariable String taskId) {
-        return taskService.getTaskById(taskId);
+    @GetMapping("/tasks/{taskId}")
+    public TaskResponse getTaskById(
+            @PathVariable String taskId,
+            @RequestParam(required = false) Set<String> fields
+    ) {
+        return taskService.getTaskById(taskId, FieldsUtil.parse(TaskField.class, fields));
     }
 
-    @PutMapping("/{taskId}")
+    @PutMapping("/tasks/{taskId}")
     public TaskResponse updateTaskById(@PathVariable String taskId, @RequestBody @Valid UpdateTaskRequest request) {
         return taskService.updateTaskById(taskId, request);
     }
@@ -0,0 +1,23 @@
+package com.github.yarrow.sparrow.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fields of a project response along with the project fields they are mapped from
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProjectField implements ResponseField {
+
+    ID("id", "id"),
+    KEY("key", "key"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    CREATED_TS("createdTs", "createdTs"),
+    UPDATED_TS("updatedTs", "updatedTs"),
+    MEMBER_USERS("memberUsers", "memberUserIds");
+
+    private final String responseName;
+    private final String entityField;
+}
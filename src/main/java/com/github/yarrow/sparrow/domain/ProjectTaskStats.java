@@ -0,0 +1,23 @@
+package com.github.yarrow.sparrow.domain;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Task counters of the project, kept in sync with tasks by $inc deltas on every task write
+ * Id of the document is the id of its project, so counters are read with a single lookup by primary key
+ */
+@Data
+@Builder
+@Document
+public class ProjectTaskStats implements MongoDocument {
+
+    @Id
+    private String id;
+    private Map<TaskStatus, TaskCounter> statuses;
+    private Map<String, TaskCounter> assignees;
+    private TaskCounter unassigned;
+}
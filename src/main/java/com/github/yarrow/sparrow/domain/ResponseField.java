@@ -0,0 +1,9 @@
+package com.github.yarrow.sparrow.domain;
+
+/**
+ * Field of a response which could be requested by its name in a sparse fieldset
+ */
+public interface ResponseField {
+
+    String getResponseName();
+}
@@ -3,21 +3,33 @@ package com.github.yarrow.sparrow.domain;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
+/**
+ * Indexes serve pages of project tasks filtered by status or assignee in id order, see TaskTextIndexRunner for search
+ */
 @Data
 @Builder
 @Document
+@CompoundIndexes({
+        @CompoundIndex(name = "projectId_id", def = "{'projectId': 1, '_id': 1}"),
+        @CompoundIndex(name = "projectId_status_id", def = "{'projectId': 1, 'status': 1, '_id': 1}"),
+        @CompoundIndex(name = "projectId_assigneeUserId_id", def = "{'projectId': 1, 'assigneeUserId': 1, '_id': 1}"),
+        @CompoundIndex(name = "projectId_storyPoints_id", def = "{'projectId': 1, 'storyPoints': 1, '_id': 1}")
+})
 public class Task implements MongoDocument {
 
     @Id
     private String id;
-    @Indexed
     private String projectId;
     private String name;
     private String description;
     private String assigneeUserId;
     private TaskStatus status;
     private Double storyPoints;
+    @TextScore
+    private Double score;
 }
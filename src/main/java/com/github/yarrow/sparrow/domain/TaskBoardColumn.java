@@ -0,0 +1,18 @@
+package com.github.yarrow.sparrow.domain;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Board column of the tasks with the same status: totals of all tasks and the first tasks ordered by id
+ */
+@Value
+@Builder
+public class TaskBoardColumn {
+
+    TaskStatus status;
+    long count;
+    double storyPoints;
+    List<Task> tasks;
+}
@@ -0,0 +1,15 @@
+package com.github.yarrow.sparrow.domain;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Number of tasks and sum of their story points, tasks without story points are counted with zero
+ */
+@Data
+@Builder
+public class TaskCounter {
+
+    private long count;
+    private double storyPoints;
+}
@@ -0,0 +1,23 @@
+package com.github.yarrow.sparrow.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Fields of a task response along with the task fields they are mapped from
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskField implements ResponseField {
+
+    ID("id", "id"),
+    PROJECT_ID("projectId", "projectId"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    ASSIGNEE_USER("assigneeUser", "assigneeUserId"),
+    STATUS("status", "status"),
+    STORY_POINTS("storyPoints", "storyPoints");
+
+    private final String responseName;
+    private final String entityField;
+}
@@ -0,0 +1,24 @@
+package com.github.yarrow.sparrow.domain;
+
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Filter of project tasks, absent fields don't restrict the result
+ * Tasks without story points don't match a story points range
+ */
+@Value
+@Builder
+public class TaskFilter {
+
+    public static final TaskFilter NONE = TaskFilter.builder().build();
+
+    Collection<TaskStatus> statuses;
+    String assigneeUserId;
+    boolean unassigned;
+    Double minStoryPoints;
+    Double maxStoryPoints;
+    @Builder.Default
+    TaskSort sort = TaskSort.ID;
+}
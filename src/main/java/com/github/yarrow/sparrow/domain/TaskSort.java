@@ -0,0 +1,11 @@
+package com.github.yarrow.sparrow.domain;
+
+/**
+ * Order of project tasks, ties are broken by id so every order is stable for cursor pagination
+ */
+public enum TaskSort {
+
+    ID,
+    STORY_POINTS_ASC,
+    STORY_POINTS_DESC
+}
@@ -1,6 +1,6 @@
 package com.github.yarrow.sparrow.domain.listener;
 
-import com.github.f4b6a3.uuid.alt.GUID;
+import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.yarrow.sparrow.domain.MongoDocument;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
@@ -8,6 +8,7 @@ import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
 
 /**
  * Generates UUID v7 entity ID
+ * IDs are monotonic within a millisecond, so ordering by ID is the same as ordering by creation time
  * ClassHealthTest ensures that every Mongo entity implements MongoDocument interface
  */
 public class GenerateEntityIdEventListener extends AbstractMongoEventListener<MongoDocument> {
@@ -17,7 +18,7 @@ public class GenerateEntityIdEventListener extends AbstractMongoEventListener<Mo
         super.onBeforeConvert(event);
         var entity = event.getSource();
         if (event.getSource().getId() == null) {
-            entity.setId(GUID.v7().toString());
+            entity.setId(UuidCreator.getTimeOrderedEpoch().toString());
         }
     }
 }
@@ -0,0 +1,21 @@
+package com.github.yarrow.sparrow.dto.request;
+
+import static com.github.yarrow.sparrow.util.Constants.Batch.MAX_TASKS;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class GetTasksRequest {
+
+    @NotEmpty(message = "{taskl.validation.task.ids.empty}")
+    @Size(max = MAX_TASKS, message = "{taskl.validation.task.ids.size}")
+    List<@NotNull String> ids;
+}
@@ -0,0 +1,20 @@
+package com.github.yarrow.sparrow.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class TaskUpdateItemRequest {
+
+    @NotNull
+    String taskId;
+
+    @Valid
+    @NotNull
+    UpdateTaskRequest update;
+}
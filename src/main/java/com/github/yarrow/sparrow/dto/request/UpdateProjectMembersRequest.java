@@ -0,0 +1,18 @@
+package com.github.yarrow.sparrow.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+@Value
+@Builder
+@Jacksonized
+public class UpdateProjectMembersRequest {
+
+    @NotEmpty(message = "{taskl.validation.project.members.empty}")
+    @Size(max = 1000, message = "{taskl.validation.project.members.size}")
+    Collection<String> userIds;
+}
@@ -0,0 +1,24 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Count and story points are totals of the column, while only the first tasks are returned
+ */
+@Value
+@Builder
+@Jacksonized
+public class BoardColumnResponse {
+
+    @NotNull
+    TaskStatus status;
+    long count;
+    double storyPoints;
+    @NotNull
+    Collection<TaskResponse> tasks;
+}
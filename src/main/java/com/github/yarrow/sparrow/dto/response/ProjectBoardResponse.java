@@ -0,0 +1,19 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Columns are returned for every task status in the order of statuses
+ */
+@Value
+@Builder
+@Jacksonized
+public class ProjectBoardResponse {
+
+    @NotNull
+    Collection<BoardColumnResponse> columns;
+}
@@ -0,0 +1,24 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Every status is present, while assignees are only the ones having tasks in the project, keyed by user id
+ */
+@Value
+@Builder
+@Jacksonized
+public class ProjectStatsResponse {
+
+    @NotNull
+    Map<TaskStatus, TaskCounterResponse> statuses;
+    @NotNull
+    Map<String, TaskCounterResponse> assignees;
+    @NotNull
+    TaskCounterResponse unassigned;
+}
@@ -0,0 +1,21 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import com.mongodb.lang.Nullable;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Either created task or error of the request at the same index of the batch
+ */
+@Value
+@Builder
+@Jacksonized
+public class TaskBatchItemResponse {
+
+    int index;
+    @Nullable
+    TaskResponse task;
+    @Nullable
+    ErrorResponse error;
+}
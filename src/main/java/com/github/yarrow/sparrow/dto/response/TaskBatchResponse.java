@@ -0,0 +1,19 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Items are in the order of the requested tasks, failure of one task doesn't prevent others from being created
+ */
+@Value
+@Builder
+@Jacksonized
+public class TaskBatchResponse {
+
+    @NotNull
+    List<TaskBatchItemResponse> items;
+}
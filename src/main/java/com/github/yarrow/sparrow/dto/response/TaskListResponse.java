@@ -0,0 +1,22 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Items are in the order of the requested ids, ids of tasks which are missing or inaccessible are listed apart
+ */
+@Value
+@Builder
+@Jacksonized
+public class TaskListResponse {
+
+    @NotNull
+    List<TaskResponse> items;
+
+    @NotNull
+    List<String> missingIds;
+}
@@ -0,0 +1,24 @@
+package com.github.yarrow.sparrow.dto.response;
+
+import com.mongodb.lang.Nullable;
+import jakarta.validation.constraints.NotNull;
+import java.util.Collection;
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Next cursor is null when the last page is returned
+ * Truncated is true when more tasks match, but no next cursor is returned, as search pages end at a bounded offset
+ */
+@Value
+@Builder
+@Jacksonized
+public class TaskPageResponse {
+
+    @NotNull
+    Collection<TaskResponse> items;
+    @Nullable
+    String nextCursor;
+    boolean truncated;
+}
@@ -1,10 +1,6 @@
 package com.github.yarrow.sparrow.exception;
 
-import com.github.mustachejava.DefaultMustacheFactory;
-import com.github.mustachejava.MustacheFactory;
 import com.github.yarrow.sparrow.dto.response.ErrorResponse;
-import java.io.StringReader;
-import java.io.StringWriter;
 import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -13,7 +9,6 @@ import org.springframework.http.HttpStatus;
 @EqualsAndHashCode(callSuper = false)
 public class ApplicationError extends RuntimeException {
 
-    private static final MustacheFactory MUSTACHE_FACTORY = new DefaultMustacheFactory();
     @Getter
     private final String code;
     @Getter
@@ -24,6 +19,8 @@ public class ApplicationError extends RuntimeException {
     private final Level level;
     private final String messageTemplate;
     private final Map<String, Object> parameters;
+    @EqualsAndHashCode.Exclude
+    private final MessageTemplate compiledMessageTemplate;
 
     public ApplicationError(
             String code,
@@ -33,19 +30,43 @@ public class ApplicationError extends RuntimeException {
             String messageTemplate,
             Map<String, Object> parameters
     ) {
+        this(
+                code,
+                httpStatus,
+                summary,
+                level,
+                messageTemplate,
+                MessageTemplate.compile(messageTemplate),
+                parameters,
+                true
+        );
+    }
+
+    /**
+     * Used by ErrorFactory with templates compiled once per error, errors without stack trace skip its capturing
+     */
+    ApplicationError(
+            String code,
+            HttpStatus httpStatus,
+            String summary,
+            Level level,
+            String messageTemplate,
+            MessageTemplate compiledMessageTemplate,
+            Map<String, Object> parameters,
+            boolean stackTrace
+    ) {
+        super(null, null, stackTrace, stackTrace);
         this.code = code;
         this.httpStatus = httpStatus;
         this.summary = summary;
         this.level = level;
         this.messageTemplate = messageTemplate;
+        this.compiledMessageTemplate = compiledMessageTemplate;
         this.parameters = parameters;
     }
 
     public String getMessage() {
-        var mustache = MUSTACHE_FACTORY.compile(new StringReader(messageTemplate), messageTemplate);
-        var writer = new StringWriter();
-        mustache.execute(writer, parameters);
-        return writer.toString();
+        return compiledMessageTemplate.render(parameters);
     }
 
     public ErrorResponse toResponse() {
@@ -1,21 +1,24 @@
 package com.github.yarrow.sparrow.exception;
 
+import com.github.yarrow.sparrow.util.Constants;
 import org.springframework.http.HttpStatus;
 
 /**
  * Error factory for reducing boilerplate of error handling code, make it declarative and support templating
+ * Implementation is generated at compile time by ErrorFactoryProcessor, which also validates templates
  */
 public interface ErrorFactory {
 
     static ErrorFactory get() {
-        return ErrorFactoryInitializer.INSTANCE;
+        return ErrorFactoryImpl.INSTANCE;
     }
 
     @ErrorTemplate(
             id = "taskl.api.error.bad-request",
             httpStatus = HttpStatus.BAD_REQUEST,
             summary = "Bad request",
-            message = "Bad request"
+            message = "Bad request",
+            stackTrace = false
     )
     ApplicationError badRequest();
 
@@ -23,15 +26,35 @@ public interface ErrorFactory {
             id = "taskl.api.error.validation-failed",
             httpStatus = HttpStatus.BAD_REQUEST,
             summary = "Validation failed",
-            message = "{{message}}"
+            message = "{{message}}",
+            stackTrace = false
     )
     ApplicationError validationFailed(String message);
 
+    @ErrorTemplate(
+            id = "taskl.api.error.invalid-cursor",
+            httpStatus = HttpStatus.BAD_REQUEST,
+            summary = "Bad request",
+            message = "Cursor is invalid",
+            stackTrace = false
+    )
+    ApplicationError invalidCursor();
+
+    @ErrorTemplate(
+            id = "taskl.api.error.unknown-field",
+            httpStatus = HttpStatus.BAD_REQUEST,
+            summary = "Bad request",
+            message = "Field {{field}} is unknown",
+            stackTrace = false
+    )
+    ApplicationError unknownField(String field);
+
     @ErrorTemplate(
             id = "taskl.api.error.authentication.email-already-in-use",
             httpStatus = HttpStatus.CONFLICT,
             summary = "Email already in use by an existing account",
-            message = "Email already in use by an existing account"
+            message = "Email already in use by an existing account",
+            stackTrace = false
     )
     ApplicationError emailAlreadyInUse();
 
@@ -39,7 +62,8 @@ public interface ErrorFactory {
             id = "taskl.api.error.authentication.no-user-with-such-email",
             httpStatus = HttpStatus.BAD_REQUEST,
             summary = "No user with such email",
-            message = "No user with such email"
+            message = "No user with such email",
+            stackTrace = false
     )
     ApplicationError noUserWithSuchEmail();
 
@@ -47,7 +71,8 @@ public interface ErrorFactory {
             id = "taskl.api.error.authentication.incorrect-password",
             httpStatus = HttpStatus.BAD_REQUEST,
             summary = "Incorrect password",
-            message = "Incorrect password"
+            message = "Incorrect password",
+            stackTrace = false
     )
     ApplicationError incorrectPassword();
 
@@ -55,7 +80,8 @@ public interface ErrorFactory {
             id = "taskl.api.error.user.not-found",
             httpStatus = HttpStatus.NOT_FOUND,
             summary = "User not found",
-            message = "User not found"
+            message = "User not found",
+            stackTrace = false
     )
     ApplicationError userNotFound();
 
@@ -63,7 +89,8 @@ public interface ErrorFactory {
             id = "taskl.api.error.project.not-found",
             httpStatus = HttpStatus.NOT_FOUND,
             summary = "Project not found",
-            message = "Project not found"
+            message = "Project not found",
+            stackTrace = false
     )
     ApplicationError projectNotFound();
 
@@ -71,7 +98,8 @@ public interface ErrorFactory {
             id = "taskl.api.error.task.not-found",
             httpStatus = HttpStatus.NOT_FOUND,
             summary = "Task not found",
-            message = "Task not found"
+            message = "Task not found",
+            stackTrace = false
     )
     ApplicationError taskNotFound();
 
@@ -79,10 +107,55 @@ public interface ErrorFactory {
             id = "taskl.api.error.task.invalid-assignee-nullify",
             httpStatus = HttpStatus.BAD_REQUEST,
             summary = "Bad request",
-            message = "Assignee id must be not present or null if nullifyAssigneeId is true"
+            message = "Assignee id must be not present or null if nullifyAssigneeId is true",
+            stackTrace = false
     )
     ApplicationError assigneeIdIsNotBlankOnNullify();
 
+    @ErrorTemplate(
+            id = "taskl.api.error.task.invalid-assignee-unassigned",
+            httpStatus = HttpStatus.BAD_REQUEST,
+            summary = "Bad request",
+            message = "Assignee id must be not present if unassigned is true",
+            stackTrace = false
+    )
+    ApplicationError assigneeIdIsNotBlankOnUnassignedFilter();
+
+    @ErrorTemplate(
+            id = "taskl.api.error.task.duplicated-in-batch",
+            httpStatus = HttpStatus.BAD_REQUEST,
+            summary = "Bad request",
+            message = "Task must be present only once in a batch",
+            stackTrace = false
+    )
+    ApplicationError taskIsDuplicatedInBatch();
+
+    @ErrorTemplate(
+            id = "taskl.api.error.task.too-many-matched",
+            httpStatus = HttpStatus.BAD_REQUEST,
+            summary = "Bad request",
+            message = "No more than " + Constants.Batch.MAX_TASKS + " tasks could be changed at once",
+            stackTrace = false
+    )
+    ApplicationError tooManyTasksMatched();
+
+    @ErrorTemplate(
+            id = "taskl.api.error.task.changed-concurrently",
+            httpStatus = HttpStatus.CONFLICT,
+            summary = "Conflict",
+            message = "Task was changed by another request, read it and try again",
+            stackTrace = false
+    )
+    ApplicationError taskChangedConcurrently();
+
+    @ErrorTemplate(
+            id = "taskl.api.error.service-unavailable",
+            httpStatus = HttpStatus.SERVICE_UNAVAILABLE,
+            summary = "Service unavailable",
+            message = "Service is overloaded, try again later"
+    )
+    ApplicationError serviceUnavailable();
+
     @ErrorTemplate(
             id = "taskl.api.error.unknown",
             httpStatus = HttpStatus.INTERNAL_SERVER_ERROR,
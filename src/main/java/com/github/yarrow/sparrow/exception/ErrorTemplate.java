@@ -19,4 +19,9 @@ import org.springframework.http.HttpStatus;
     String message();
 
     ApplicationError.Level level() default ApplicationError.Level.ERROR;
+
+    /**
+     * Expected client errors could skip stack trace capturing, as they're thrown on hot paths and never logged
+     */
+    boolean stackTrace() default true;
 }
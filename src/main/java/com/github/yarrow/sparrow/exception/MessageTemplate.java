@@ -0,0 +1,44 @@
+package com.github.yarrow.sparrow.exception;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import com.github.mustachejava.MustacheFactory;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Error message template compiled once. Messages without parameters are rendered without template engine
+ */
+class MessageTemplate {
+
+    private static final MustacheFactory MUSTACHE_FACTORY = new DefaultMustacheFactory();
+    private static final String PARAMETER_START = "{{";
+
+    private final String template;
+    @Nullable
+    private final Mustache mustache;
+
+    private MessageTemplate(String template, @Nullable Mustache mustache) {
+        this.template = template;
+        this.mustache = mustache;
+    }
+
+    static MessageTemplate compile(String template) {
+        if (!template.contains(PARAMETER_START)) {
+            return new MessageTemplate(template, null);
+        }
+        return new MessageTemplate(template, MUSTACHE_FACTORY.compile(new StringReader(template), template));
+    }
+
+    String render(Map<String, Object> parameters) {
+        if (mustache == null) {
+            return template;
+        }
+
+        var writer = new StringWriter(template.length() * 2);
+        mustache.execute(writer, parameters);
+        return writer.toString();
+    }
+}
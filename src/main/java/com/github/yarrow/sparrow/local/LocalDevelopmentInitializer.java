@@ -16,7 +16,7 @@ import org.springframework.stereotype.Component;
  * Creates user and prints its token to logs
  */
 @Slf4j
-@Profile("development")
+@Profile("development & !reactive")
 @Component
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class LocalDevelopmentInitializer {
@@ -1,13 +1,17 @@
 package com.github.yarrow.sparrow.mapper.project;
 
 import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectField;
 import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
 import com.github.yarrow.sparrow.dto.response.ProjectResponse;
 import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
 import com.github.yarrow.sparrow.mapper.user.UserMapperEnricher;
+import com.github.yarrow.sparrow.util.FieldsUtil;
 import java.util.Collection;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,6 +23,39 @@ public interface ProjectMapper {
     @Mapping(source = "memberUserIds", target = "memberUsers")
     ProjectResponse projectToProjectResponse(Project project);
 
+    /**
+     * Members are left empty to be enriched by the caller
+     */
+    @Named("projectToProjectResponseWithoutMembers")
+    @Mapping(target = "memberUsers", ignore = true)
+    ProjectResponse projectToProjectResponseWithoutMembers(Project project);
+
+    /**
+     * Fields which are not requested are left empty, members are fetched only if they are requested
+     */
+    default ProjectResponse projectToProjectResponse(Project project, Set<ProjectField> fields) {
+        return FieldsUtil.withFields(
+                ProjectField.class,
+                fields,
+                ProjectField.MEMBER_USERS,
+                () -> projectToProjectResponse(project),
+                () -> projectToProjectResponseWithoutMembers(project),
+                response -> retainFields(response, fields)
+        );
+    }
+
+    static ProjectResponse retainFields(ProjectResponse response, Set<ProjectField> fields) {
+        return ProjectResponse.builder()
+                .id(response.getId())
+                .key(fields.contains(ProjectField.KEY) ? response.getKey() : null)
+                .name(fields.contains(ProjectField.NAME) ? response.getName() : null)
+                .description(fields.contains(ProjectField.DESCRIPTION) ? response.getDescription() : null)
+                .createdTs(fields.contains(ProjectField.CREATED_TS) ? response.getCreatedTs() : null)
+                .updatedTs(fields.contains(ProjectField.UPDATED_TS) ? response.getUpdatedTs() : null)
+                .memberUsers(response.getMemberUsers())
+                .build();
+    }
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "version", ignore = true)
     @Mapping(target = "createdTs", ignore = true)
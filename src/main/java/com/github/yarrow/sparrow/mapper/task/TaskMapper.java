@@ -1,12 +1,17 @@
 package com.github.yarrow.sparrow.mapper.task;
 
 import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskField;
 import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
 import com.github.yarrow.sparrow.dto.response.TaskResponse;
 import com.github.yarrow.sparrow.mapper.user.UserMapperEnricher;
+import com.github.yarrow.sparrow.util.FieldsUtil;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,5 +24,44 @@ public interface TaskMapper {
     @Mapping(source = "assigneeUserId", target = "assigneeUser")
     TaskResponse taskToTaskResponse(Task task);
 
+    /**
+     * Assignee is left empty to be enriched in batch by the caller
+     */
+    @Named("taskToTaskResponseWithoutAssignee")
+    @Mapping(target = "assigneeUser", ignore = true)
+    TaskResponse taskToTaskResponseWithoutAssignee(Task task);
+
     Collection<TaskResponse> tasksToTaskResponses(Collection<Task> tasks);
+
+    /**
+     * Fields which are not requested are left empty, assignees are fetched only if they are requested
+     */
+    default Collection<TaskResponse> tasksToTaskResponses(Collection<Task> tasks, Set<TaskField> fields) {
+        return FieldsUtil.withFields(
+                TaskField.class,
+                fields,
+                TaskField.ASSIGNEE_USER,
+                () -> tasksToTaskResponses(tasks),
+                () -> tasks.stream().map(this::taskToTaskResponseWithoutAssignee).toList(),
+                responses -> retainFields(responses, fields)
+        );
+    }
+
+    static List<TaskResponse> retainFields(Collection<TaskResponse> responses, Set<TaskField> fields) {
+        return responses.stream()
+                .map(response -> retainFields(response, fields))
+                .toList();
+    }
+
+    static TaskResponse retainFields(TaskResponse response, Set<TaskField> fields) {
+        return TaskResponse.builder()
+                .id(response.getId())
+                .projectId(fields.contains(TaskField.PROJECT_ID) ? response.getProjectId() : null)
+                .name(fields.contains(TaskField.NAME) ? response.getName() : null)
+                .description(fields.contains(TaskField.DESCRIPTION) ? response.getDescription() : null)
+                .assigneeUser(response.getAssigneeUser())
+                .status(fields.contains(TaskField.STATUS) ? response.getStatus() : null)
+                .storyPoints(fields.contains(TaskField.STORY_POINTS) ? response.getStoryPoints() : null)
+                .build();
+    }
 }
@@ -7,6 +7,7 @@ import com.github.yarrow.sparrow.dto.response.UserShortResponse;
 import com.github.yarrow.sparrow.mapper.user.UserMapper;
 import com.github.yarrow.sparrow.service.user.UserAccessService;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.stereotype.Component;
 
 /**
  * Decorator is needed to fetch assignees efficiently in tasksToTaskResponses() through one query to the database
+ * Tasks without assignee are mapped with null assignee user
  */
 @Component
 @Primary
@@ -36,19 +38,27 @@ public class TaskMapperDecorator implements TaskMapper {
         return delegate.taskToTaskResponse(task);
     }
 
+    @Override
+    public TaskResponse taskToTaskResponseWithoutAssignee(Task task) {
+        return delegate.taskToTaskResponseWithoutAssignee(task);
+    }
+
     @Override
     public Collection<TaskResponse> tasksToTaskResponses(Collection<Task> tasks) {
-        var assigneeUserIds = tasks.stream().map(Task::getAssigneeUserId).toList();
+        var assigneeUserIds = tasks.stream()
+                .map(Task::getAssigneeUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
         var assigneeShortResponseByUserId = userPresenceService.getPresentOrThrow(assigneeUserIds).stream()
                 .map(userMapper::userToUserShortResponse)
                 .collect(Collectors.toMap(UserShortResponse::getId, Function.identity()));
 
-        var taskResponses = delegate.tasksToTaskResponses(tasks);
-        return taskResponses.stream()
-                .map(r -> {
-                    var userId = r.getAssigneeUser().getId();
-                    var userShortResponse = assigneeShortResponseByUserId.get(userId);
-                    return r.toBuilder().assigneeUser(userShortResponse).build();
+        return tasks.stream()
+                .map(t -> {
+                    var userShortResponse = assigneeShortResponseByUserId.get(t.getAssigneeUserId());
+                    return delegate.taskToTaskResponseWithoutAssignee(t).toBuilder()
+                            .assigneeUser(userShortResponse)
+                            .build();
                 })
                 .toList();
     }
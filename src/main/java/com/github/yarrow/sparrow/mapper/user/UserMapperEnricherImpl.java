@@ -1,7 +1,6 @@
 package com.github.yarrow.sparrow.mapper.user;
 
 import com.github.yarrow.sparrow.dto.response.UserShortResponse;
-import com.github.yarrow.sparrow.repository.UserRepository;
 import com.github.yarrow.sparrow.service.user.UserAccessService;
 import java.util.Collection;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +19,6 @@ import org.springframework.stereotype.Service;
 })
 public class UserMapperEnricherImpl implements UserMapperEnricher {
 
-    private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final UserAccessService userPresenceService;
 
@@ -33,9 +31,12 @@ public class UserMapperEnricherImpl implements UserMapperEnricher {
         return userMapper.userToUserShortResponse(presentUser);
     }
 
+    /**
+     * Users already loaded within the request are not queried again
+     */
     @Override
     public Collection<UserShortResponse> usersToUserShortResponses(Collection<String> userIds) {
-        var users = userRepository.findAllById(userIds);
+        var users = userPresenceService.getPresent(userIds);
         return userMapper.usersToUserShortResponses(users);
     }
 }
@@ -2,16 +2,21 @@ package com.github.yarrow.sparrow.repository;
 
 import com.github.yarrow.sparrow.domain.Project;
 import java.util.Collection;
-import java.util.Set;
+import java.util.stream.Stream;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
-public interface ProjectRepository extends MongoRepository<Project, String> {
+public interface ProjectRepository extends MongoRepository<Project, String>, ProjectRepositoryCustom {
 
-    Collection<Project> findAllByMemberUserIdsContains(String userId);
+    /**
+     * Only ids of the projects are queried
+     */
+    @Query(value = "{ 'memberUserIds': ?0 }", fields = "{ '_id': 1 }")
+    Collection<Project> findIdsByMemberUserIdsContains(String userId);
 
-    Set<Project> findAllByIdInAndMemberUserIdsContains(Collection<String> projectIds, String userId);
-
-    Collection<Project> findAllByKeyIn(Collection<String> projectKeys);
-
-    Collection<Project> findAllByKeyInAndMemberUserIdsContains(Collection<String> projectKeys, String userId);
+    /**
+     * Ids of all projects, read from a cursor which must be closed after consumption
+     */
+    @Query(value = "{}", fields = "{ '_id': 1 }")
+    Stream<Project> streamIdsBy();
 }
@@ -0,0 +1,44 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectField;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Member updates are applied atomically to the member list without rewriting the whole project
+ * Methods return false if there is no project with such id or key accessible by the user
+ */
+public interface ProjectRepositoryCustom {
+
+    boolean addMemberUserIds(String projectIdOrKey, String userId, Collection<String> memberUserIds, Instant ts);
+
+    boolean removeMemberUserIds(String projectIdOrKey, String userId, Collection<String> memberUserIds, Instant ts);
+
+    /**
+     * Projects the user is a member of, read on the configured read path
+     * Only the fields of a short response are queried
+     */
+    Collection<Project> findAllByMemberUserIdsContains(String userId);
+
+    /**
+     * Lookups of projects are read on the configured read path instead of the CRUD and derived implementations
+     */
+    List<Project> findAllById(Iterable<String> projectIds);
+
+    /**
+     * Only the given fields are queried, along with id, key and members, which access checks need
+     */
+    List<Project> findAllById(Collection<String> projectIds, Set<ProjectField> fields);
+
+    Set<Project> findAllByIdInAndMemberUserIdsContains(Collection<String> projectIds, String userId);
+
+    Collection<Project> findAllByKeyIn(Collection<String> projectKeys);
+
+    /**
+     * Only the given fields are queried, along with id, key and members, which access checks need
+     */
+    Collection<Project> findAllByKeyIn(Collection<String> projectKeys, Set<ProjectField> fields);
+}
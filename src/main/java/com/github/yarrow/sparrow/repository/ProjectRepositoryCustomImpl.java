@@ -0,0 +1,119 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.config.mongo.codec.EntityReader;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectField;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import com.google.common.collect.Lists;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityReader entityReader;
+
+    @Override
+    public boolean addMemberUserIds(
+            String projectIdOrKey,
+            String userId,
+            Collection<String> memberUserIds,
+            Instant ts
+    ) {
+        return updateAccessibleProject(projectIdOrKey, userId, addMemberUserIdsUpdate(memberUserIds, ts));
+    }
+
+    @Override
+    public boolean removeMemberUserIds(
+            String projectIdOrKey,
+            String userId,
+            Collection<String> memberUserIds,
+            Instant ts
+    ) {
+        return updateAccessibleProject(projectIdOrKey, userId, removeMemberUserIdsUpdate(memberUserIds, ts));
+    }
+
+    @Override
+    public Collection<Project> findAllByMemberUserIdsContains(String userId) {
+        var query = Query.query(Criteria.where("memberUserIds").is(userId));
+        query.fields().include("id", "key", "name", "description");
+        return entityReader.find(query, Project.class);
+    }
+
+    @Override
+    public List<Project> findAllById(Iterable<String> projectIds) {
+        return entityReader.find(Query.query(Criteria.where("id").in(Lists.newArrayList(projectIds))), Project.class);
+    }
+
+    @Override
+    public List<Project> findAllById(Collection<String> projectIds, Set<ProjectField> fields) {
+        return entityReader.find(withFields(Query.query(Criteria.where("id").in(projectIds)), fields), Project.class);
+    }
+
+    @Override
+    public Set<Project> findAllByIdInAndMemberUserIdsContains(Collection<String> projectIds, String userId) {
+        var query = Query.query(Criteria.where("id").in(projectIds).and("memberUserIds").is(userId));
+        return new HashSet<>(entityReader.find(query, Project.class));
+    }
+
+    @Override
+    public Collection<Project> findAllByKeyIn(Collection<String> projectKeys) {
+        return entityReader.find(Query.query(Criteria.where("key").in(projectKeys)), Project.class);
+    }
+
+    @Override
+    public Collection<Project> findAllByKeyIn(Collection<String> projectKeys, Set<ProjectField> fields) {
+        return entityReader.find(withFields(Query.query(Criteria.where("key").in(projectKeys)), fields), Project.class);
+    }
+
+    /**
+     * Version is not a part of the filter, so member updates don't conflict with each other,
+     * while the version is still increased for concurrent full project saves to detect the change
+     */
+    private boolean updateAccessibleProject(String projectIdOrKey, String userId, Update update) {
+        var query = byIdOrKeyAndMemberUserIdsContains(projectIdOrKey, userId);
+        var result = mongoTemplate.updateFirst(query, update, Project.class);
+        return result.getMatchedCount() > 0;
+    }
+
+    /**
+     * Id and key are read for the key cache and members for the membership check, even if they are not requested
+     */
+    static Query withFields(Query query, Set<ProjectField> fields) {
+        if (FieldsUtil.isAll(ProjectField.class, fields)) {
+            return query;
+        }
+        var projection = query.fields().include("id", "key", "memberUserIds");
+        fields.forEach(field -> projection.include(field.getEntityField()));
+        return query;
+    }
+
+    static Query byIdOrKeyAndMemberUserIdsContains(String projectIdOrKey, String userId) {
+        var criteria = new Criteria()
+                .orOperator(Criteria.where("id").is(projectIdOrKey), Criteria.where("key").is(projectIdOrKey))
+                .and("memberUserIds").is(userId);
+        return Query.query(criteria);
+    }
+
+    static Update addMemberUserIdsUpdate(Collection<String> memberUserIds, Instant ts) {
+        return new Update()
+                .set("updatedTs", ts)
+                .addToSet("memberUserIds").each(memberUserIds.toArray());
+    }
+
+    static Update removeMemberUserIdsUpdate(Collection<String> memberUserIds, Instant ts) {
+        return new Update()
+                .set("updatedTs", ts)
+                .pullAll("memberUserIds", memberUserIds.toArray());
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface ProjectTaskStatsRepository
+        extends MongoRepository<ProjectTaskStats, String>, ProjectTaskStatsRepositoryCustom {
+}
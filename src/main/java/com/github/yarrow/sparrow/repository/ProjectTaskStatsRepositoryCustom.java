@@ -0,0 +1,26 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import com.github.yarrow.sparrow.domain.Task;
+import java.util.Collection;
+
+public interface ProjectTaskStatsRepositoryCustom {
+
+    /**
+     * Applies the difference between two versions of the task to the counters of its project with a single $inc
+     * Null previous version stands for a created task, counters document is created if it's absent
+     * Counters are written within the current transaction, so they change together with the task
+     */
+    void incrementByTaskChange(Task previous, Task current);
+
+    /**
+     * Applies the difference between versions of many tasks with one unordered bulk write of an $inc per project
+     * Previous versions of created tasks are not present, the same as for a single task change
+     */
+    void incrementByTaskChanges(Collection<Task> previous, Collection<Task> current);
+
+    /**
+     * Counters computed from scratch by an aggregation over all tasks of the project
+     */
+    ProjectTaskStats computeByProjectId(String projectId);
+}
@@ -0,0 +1,194 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.config.mongo.uuid.StoredIds;
+import com.github.yarrow.sparrow.config.mongo.uuid.UuidBinaries;
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskCounter;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ProjectTaskStatsRepositoryCustomImpl implements ProjectTaskStatsRepositoryCustom {
+
+    private static final String STATUSES = "statuses";
+    private static final String ASSIGNEES = "assignees";
+    private static final String UNASSIGNED = "unassigned";
+    private static final String COUNT = "count";
+    private static final String STORY_POINTS = "storyPoints";
+
+    private final MongoTemplate mongoTemplate;
+    private final StoredIds storedIds;
+
+    @Override
+    public void incrementByTaskChange(Task previous, Task current) {
+        var update = toIncrement(previous, current);
+        if (update.getUpdateObject().isEmpty()) {
+            return;
+        }
+        var projectId = current != null ? current.getProjectId() : previous.getProjectId();
+        var collectionName = mongoTemplate.getCollectionName(ProjectTaskStats.class);
+        mongoTemplate.upsert(byId(storedIds.toStored(projectId)), update, collectionName);
+    }
+
+    @Override
+    public void incrementByTaskChanges(Collection<Task> previous, Collection<Task> current) {
+        var updates = toIncrementByProjectId(previous, current);
+        if (updates.isEmpty()) {
+            return;
+        }
+        var bulkOperations = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED,
+                mongoTemplate.getCollectionName(ProjectTaskStats.class)
+        );
+        updates.forEach((projectId, update) -> bulkOperations.upsert(byId(storedIds.toStored(projectId)), update));
+        bulkOperations.execute();
+    }
+
+    @Override
+    public ProjectTaskStats computeByProjectId(String projectId) {
+        var stats = mongoTemplate.aggregate(statsByProjectId(projectId), Task.class, Document.class)
+                .getUniqueMappedResult();
+        return toStats(projectId, stats);
+    }
+
+    /**
+     * Query by the stored id, so map keys of the counters in update are not resolved against the entity
+     */
+    static Query byId(Object storedProjectId) {
+        return Query.query(Criteria.where("_id").is(storedProjectId));
+    }
+
+    /**
+     * Net deltas of both versions, so counters not affected by the change are not written at all
+     * Both fields of an affected counter are written, so counters always have both of them
+     */
+    static Update toIncrement(Task previous, Task current) {
+        return toIncrement(
+                previous == null ? List.of() : List.of(previous),
+                current == null ? List.of() : List.of(current)
+        );
+    }
+
+    static Update toIncrement(Collection<Task> removed, Collection<Task> added) {
+        var countDeltas = new LinkedHashMap<String, Long>();
+        var storyPointDeltas = new LinkedHashMap<String, Double>();
+        removed.forEach(task -> addDeltas(countDeltas, storyPointDeltas, task, -1));
+        added.forEach(task -> addDeltas(countDeltas, storyPointDeltas, task, 1));
+
+        var update = new Update();
+        countDeltas.forEach((counter, countDelta) -> {
+            var storyPointDelta = storyPointDeltas.get(counter);
+            if (countDelta != 0 || storyPointDelta != 0) {
+                update.inc(counter + "." + COUNT, countDelta).inc(counter + "." + STORY_POINTS, storyPointDelta);
+            }
+        });
+        return update;
+    }
+
+    /**
+     * Net deltas of every project, projects with no affected counters are left out
+     */
+    static Map<String, Update> toIncrementByProjectId(Collection<Task> previous, Collection<Task> current) {
+        var previousByProjectId = previous.stream().collect(Collectors.groupingBy(Task::getProjectId));
+        var currentByProjectId = current.stream().collect(Collectors.groupingBy(Task::getProjectId));
+        var projectIds = new HashSet<>(previousByProjectId.keySet());
+        projectIds.addAll(currentByProjectId.keySet());
+
+        var updates = new HashMap<String, Update>();
+        for (var projectId : projectIds) {
+            var update = toIncrement(
+                    previousByProjectId.getOrDefault(projectId, List.of()),
+                    currentByProjectId.getOrDefault(projectId, List.of())
+            );
+            if (!update.getUpdateObject().isEmpty()) {
+                updates.put(projectId, update);
+            }
+        }
+        return updates;
+    }
+
+    private static void addDeltas(
+            Map<String, Long> countDeltas,
+            Map<String, Double> storyPointDeltas,
+            Task task,
+            int sign
+    ) {
+        var storyPoints = task.getStoryPoints() == null ? 0d : task.getStoryPoints();
+        var counters = new ArrayList<String>(2);
+        if (task.getStatus() != null) {
+            counters.add(STATUSES + "." + task.getStatus().name());
+        }
+        counters.add(task.getAssigneeUserId() == null ? UNASSIGNED : ASSIGNEES + "." + task.getAssigneeUserId());
+        for (var counter : counters) {
+            countDeltas.merge(counter, (long) sign, Long::sum);
+            storyPointDeltas.merge(counter, sign * storyPoints, Double::sum);
+        }
+    }
+
+    static Aggregation statsByProjectId(String projectId) {
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("projectId").is(projectId)),
+                Aggregation.facet(
+                        Aggregation.group("status").count().as(COUNT).sum(STORY_POINTS).as(STORY_POINTS)
+                ).as(STATUSES).and(
+                        Aggregation.group("assigneeUserId").count().as(COUNT).sum(STORY_POINTS).as(STORY_POINTS)
+                ).as(ASSIGNEES)
+        );
+    }
+
+    /**
+     * Tasks without assignee are grouped under null, their counter is stored separately from assignees
+     */
+    static ProjectTaskStats toStats(String projectId, Document stats) {
+        var statuses = new EnumMap<TaskStatus, TaskCounter>(TaskStatus.class);
+        var assignees = new HashMap<String, TaskCounter>();
+        var unassigned = TaskCounter.builder().build();
+        if (stats != null) {
+            for (var group : stats.getList(STATUSES, Document.class)) {
+                var status = group.get("_id");
+                if (status != null) {
+                    statuses.put(TaskStatus.valueOf(status.toString()), toCounter(group));
+                }
+            }
+            for (var group : stats.getList(ASSIGNEES, Document.class)) {
+                var assigneeUserId = UuidBinaries.fromStored(group.get("_id"));
+                if (assigneeUserId == null) {
+                    unassigned = toCounter(group);
+                } else {
+                    assignees.put(assigneeUserId.toString(), toCounter(group));
+                }
+            }
+        }
+        return ProjectTaskStats.builder()
+                .id(projectId)
+                .statuses(statuses)
+                .assignees(assignees)
+                .unassigned(unassigned)
+                .build();
+    }
+
+    private static TaskCounter toCounter(Document group) {
+        return TaskCounter.builder()
+                .count(group.get(COUNT, Number.class).longValue())
+                .storyPoints(group.get(STORY_POINTS, Number.class).doubleValue())
+                .build();
+    }
+}
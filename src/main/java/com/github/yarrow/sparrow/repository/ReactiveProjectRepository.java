@@ -0,0 +1,28 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.Project;
+import java.util.Collection;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking counterpart of ProjectRepository used by the reactive profile
+ */
+public interface ReactiveProjectRepository
+        extends ReactiveMongoRepository<Project, String>, ReactiveProjectRepositoryCustom {
+
+    /**
+     * Only the fields of a short response are queried
+     */
+    @Query(value = "{ 'memberUserIds': ?0 }", fields = "{ 'key': 1, 'name': 1, 'description': 1 }")
+    Flux<Project> findAllByMemberUserIdsContains(String userId);
+
+    /**
+     * Only ids of the projects are queried
+     */
+    @Query(value = "{ 'memberUserIds': ?0 }", fields = "{ '_id': 1 }")
+    Flux<Project> findIdsByMemberUserIdsContains(String userId);
+
+    Flux<Project> findAllByKeyIn(Collection<String> projectKeys);
+}
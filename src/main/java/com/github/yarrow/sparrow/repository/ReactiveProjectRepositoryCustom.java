@@ -0,0 +1,21 @@
+package com.github.yarrow.sparrow.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import reactor.core.publisher.Mono;
+
+/**
+ * Member updates are applied atomically to the member list without rewriting the whole project
+ * Methods emit false if there is no project with such id or key accessible by the user
+ */
+public interface ReactiveProjectRepositoryCustom {
+
+    Mono<Boolean> addMemberUserIds(String projectIdOrKey, String userId, Collection<String> memberUserIds, Instant ts);
+
+    Mono<Boolean> removeMemberUserIds(
+            String projectIdOrKey,
+            String userId,
+            Collection<String> memberUserIds,
+            Instant ts
+    );
+}
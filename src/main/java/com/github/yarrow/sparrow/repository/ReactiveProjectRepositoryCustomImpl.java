@@ -0,0 +1,44 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.Project;
+import java.time.Instant;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveProjectRepositoryCustomImpl implements ReactiveProjectRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<Boolean> addMemberUserIds(
+            String projectIdOrKey,
+            String userId,
+            Collection<String> memberUserIds,
+            Instant ts
+    ) {
+        var update = ProjectRepositoryCustomImpl.addMemberUserIdsUpdate(memberUserIds, ts);
+        return updateAccessibleProject(projectIdOrKey, userId, update);
+    }
+
+    @Override
+    public Mono<Boolean> removeMemberUserIds(
+            String projectIdOrKey,
+            String userId,
+            Collection<String> memberUserIds,
+            Instant ts
+    ) {
+        var update = ProjectRepositoryCustomImpl.removeMemberUserIdsUpdate(memberUserIds, ts);
+        return updateAccessibleProject(projectIdOrKey, userId, update);
+    }
+
+    private Mono<Boolean> updateAccessibleProject(String projectIdOrKey, String userId, Update update) {
+        var query = ProjectRepositoryCustomImpl.byIdOrKeyAndMemberUserIdsContains(projectIdOrKey, userId);
+        return reactiveMongoTemplate.updateFirst(query, update, Project.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+}
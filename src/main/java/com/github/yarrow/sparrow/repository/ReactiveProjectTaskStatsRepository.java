@@ -0,0 +1,11 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+/**
+ * Non-blocking counterpart of ProjectTaskStatsRepository used by the reactive profile
+ */
+public interface ReactiveProjectTaskStatsRepository
+        extends ReactiveMongoRepository<ProjectTaskStats, String>, ReactiveProjectTaskStatsRepositoryCustom {
+}
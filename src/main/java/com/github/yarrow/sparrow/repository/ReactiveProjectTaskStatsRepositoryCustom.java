@@ -0,0 +1,15 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.Task;
+import java.util.Collection;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProjectTaskStatsRepositoryCustom {
+
+    /**
+     * Applies the difference between two versions of the task the same as ProjectTaskStatsRepositoryCustom does
+     */
+    Mono<Void> incrementByTaskChange(Task previous, Task current);
+
+    Mono<Void> incrementByTaskChanges(Collection<Task> previous, Collection<Task> current);
+}
@@ -0,0 +1,47 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.config.mongo.uuid.StoredIds;
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import com.github.yarrow.sparrow.domain.Task;
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveProjectTaskStatsRepositoryCustomImpl implements ReactiveProjectTaskStatsRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StoredIds storedIds;
+
+    @Override
+    public Mono<Void> incrementByTaskChange(Task previous, Task current) {
+        var update = ProjectTaskStatsRepositoryCustomImpl.toIncrement(previous, current);
+        if (update.getUpdateObject().isEmpty()) {
+            return Mono.empty();
+        }
+        var projectId = current != null ? current.getProjectId() : previous.getProjectId();
+        var query = ProjectTaskStatsRepositoryCustomImpl.byId(storedIds.toStored(projectId));
+        var collectionName = reactiveMongoTemplate.getCollectionName(ProjectTaskStats.class);
+        return reactiveMongoTemplate.upsert(query, update, collectionName).then();
+    }
+
+    @Override
+    public Mono<Void> incrementByTaskChanges(Collection<Task> previous, Collection<Task> current) {
+        var updates = ProjectTaskStatsRepositoryCustomImpl.toIncrementByProjectId(previous, current);
+        if (updates.isEmpty()) {
+            return Mono.empty();
+        }
+        var bulkOperations = reactiveMongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED,
+                reactiveMongoTemplate.getCollectionName(ProjectTaskStats.class)
+        );
+        updates.forEach((projectId, update) -> bulkOperations.upsert(
+                ProjectTaskStatsRepositoryCustomImpl.byId(storedIds.toStored(projectId)),
+                update
+        ));
+        return bulkOperations.execute().then();
+    }
+}
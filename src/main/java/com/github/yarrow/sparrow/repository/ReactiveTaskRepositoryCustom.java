@@ -0,0 +1,69 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskBoardColumn;
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTaskRepositoryCustom {
+
+    /**
+     * Atomically applies update to the task only if it belongs to one of the given projects
+     * Emits task as it was before the update or completes empty if no such task is found
+     */
+    Mono<Task> updateByIdAndProjectIdIn(String taskId, Collection<String> projectIds, Update update);
+
+    /**
+     * Tasks by ids which belong to projects the user is a member of, queried with a single aggregation
+     */
+    Flux<Task> findAllByIdInAndProjectMemberUserIdsContains(Collection<String> taskIds, String userId);
+
+    /**
+     * Project tasks matching the filter in its sort order, the same as TaskRepositoryCustom queries them
+     */
+    Flux<Task> findAllByProjectIdAndFilter(String projectId, TaskFilter filter, Task after, Limit limit);
+
+    Flux<Task> findAllByProjectIdAndFilter(
+            String projectId,
+            TaskFilter filter,
+            Task after,
+            Limit limit,
+            Set<TaskField> fields
+    );
+
+    /**
+     * Board columns for every task status, the same as TaskRepositoryCustom queries them
+     */
+    Mono<List<TaskBoardColumn>> findBoardByProjectId(String projectId, int columnLimit);
+
+    /**
+     * Inserts tasks with unordered bulk writes in chunks, the same as TaskRepositoryCustom does
+     */
+    Mono<Set<String>> insertAllUnordered(List<Task> tasks);
+
+    /**
+     * Tasks of the given projects matching the text, the same as TaskRepositoryCustom searches them
+     */
+    Flux<Task> searchByProjectIdIn(
+            String text,
+            Collection<String> projectIds,
+            long offset,
+            Limit limit,
+            Set<TaskField> fields
+    );
+
+    /**
+     * Applies every update only if counted fields of the task are still the same as in its previous version,
+     * as there is no transaction between reading the tasks and writing them
+     * Updates are written concurrently, emits ids of the tasks that were changed in between and not updated
+     */
+    Mono<Set<String>> updateAllUnchanged(Map<String, Task> previousByTaskId, Map<String, Update> updateByTaskId);
+}
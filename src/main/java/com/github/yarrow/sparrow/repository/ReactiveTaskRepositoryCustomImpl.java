@@ -0,0 +1,155 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.config.mongo.uuid.StoredIds;
+import com.github.yarrow.sparrow.config.property.PersistenceProperties;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskBoardColumn;
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.google.common.collect.Lists;
+import com.mongodb.MongoBulkWriteException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+
+    private final ReactiveMongoTemplate reactiveMongoTemplate;
+    private final StoredIds storedIds;
+    private final PersistenceProperties persistenceProperties;
+
+    @Override
+    public Mono<Task> updateByIdAndProjectIdIn(String taskId, Collection<String> projectIds, Update update) {
+        var query = TaskRepositoryCustomImpl.byIdAndProjectIdIn(taskId, projectIds);
+
+        //Empty update document is treated by Mongo as a replacement, so the task is only read
+        if (update.getUpdateObject().isEmpty()) {
+            return reactiveMongoTemplate.findOne(query, Task.class);
+        }
+
+        var options = FindAndModifyOptions.options().returnNew(false);
+        return reactiveMongoTemplate.findAndModify(query, update, options, Task.class);
+    }
+
+    @Override
+    public Flux<Task> findAllByIdInAndProjectMemberUserIdsContains(Collection<String> taskIds, String userId) {
+        var aggregation = TaskRepositoryCustomImpl.byIdInAndProjectMemberUserIdsContains(
+                reactiveMongoTemplate.getCollectionName(Project.class),
+                taskIds,
+                storedIds.toStored(userId)
+        );
+        return reactiveMongoTemplate.aggregate(aggregation, Task.class, Task.class);
+    }
+
+    @Override
+    public Flux<Task> findAllByProjectIdAndFilter(String projectId, TaskFilter filter, Task after, Limit limit) {
+        var query = TaskRepositoryCustomImpl.byProjectIdAndFilter(projectId, filter, after).limit(limit.max());
+        return reactiveMongoTemplate.find(query, Task.class);
+    }
+
+    @Override
+    public Flux<Task> findAllByProjectIdAndFilter(
+            String projectId,
+            TaskFilter filter,
+            Task after,
+            Limit limit,
+            Set<TaskField> fields
+    ) {
+        var query = TaskRepositoryCustomImpl.byProjectIdAndFilter(projectId, filter, after).limit(limit.max());
+        return reactiveMongoTemplate.find(
+                TaskRepositoryCustomImpl.withFields(query, fields, filter.getSort()),
+                Task.class
+        );
+    }
+
+    @Override
+    public Mono<List<TaskBoardColumn>> findBoardByProjectId(String projectId, int columnLimit) {
+        var aggregation = TaskRepositoryCustomImpl.boardByProjectId(projectId, columnLimit);
+        return reactiveMongoTemplate.aggregate(aggregation, Task.class, Document.class)
+                .collectList()
+                .map(boards -> TaskRepositoryCustomImpl.toBoardColumns(
+                        boards.isEmpty() ? null : boards.getFirst(),
+                        document -> reactiveMongoTemplate.getConverter().read(Task.class, document)
+                ));
+    }
+
+    @Override
+    public Mono<Set<String>> insertAllUnordered(List<Task> tasks) {
+        return Flux.fromIterable(Lists.partition(tasks, persistenceProperties.getInsertChunkSize()))
+                .concatMap(chunk -> reactiveMongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)
+                        .insert(chunk)
+                        .execute()
+                        .thenReturn(Set.<String>of())
+                        .onErrorResume(BulkOperationException.class, e -> Mono.just(
+                                TaskRepositoryCustomImpl.failedIds(chunk, e.getErrors())
+                        ))
+                        .onErrorResume(MongoBulkWriteException.class, e -> Mono.just(
+                                TaskRepositoryCustomImpl.failedIds(chunk, e.getWriteErrors())
+                        ))
+                        //Same as in TaskRepositoryCustomImpl, a chunk failed as a whole doesn't stop the next ones
+                        .onErrorResume(DataAccessException.class, e -> {
+                            log.warn("Chunk of {} tasks is not inserted", chunk.size(), e);
+                            return Mono.just(TaskRepositoryCustomImpl.ids(chunk));
+                        })
+                )
+                .<Set<String>>collect(HashSet::new, Set::addAll);
+    }
+
+    @Override
+    public Flux<Task> searchByProjectIdIn(
+            String text,
+            Collection<String> projectIds,
+            long offset,
+            Limit limit,
+            Set<TaskField> fields
+    ) {
+        var pageEnd = Math.toIntExact(offset + limit.max());
+        return Flux.fromIterable(projectIds)
+                .flatMap(projectId -> reactiveMongoTemplate.find(
+                        TaskRepositoryCustomImpl.searchByProjectId(text, projectId, pageEnd, fields),
+                        Task.class
+                ))
+                .sort(TaskRepositoryCustomImpl.SEARCH_ORDER)
+                .skip(offset)
+                .take(limit.max());
+    }
+
+    /**
+     * A bulk write reports only the total number of matched tasks, so every update is a write of its own
+     */
+    @Override
+    public Mono<Set<String>> updateAllUnchanged(
+            Map<String, Task> previousByTaskId,
+            Map<String, Update> updateByTaskId
+    ) {
+        return Flux.fromIterable(updateByTaskId.entrySet())
+                .flatMap(entry -> reactiveMongoTemplate.updateFirst(
+                                TaskRepositoryCustomImpl.byIdAndCountedFields(previousByTaskId.get(entry.getKey())),
+                                entry.getValue(),
+                                Task.class
+                        )
+                        .filter(result -> result.getMatchedCount() == 0)
+                        .map(result -> entry.getKey())
+                )
+                .collect(Collectors.toSet());
+    }
+}
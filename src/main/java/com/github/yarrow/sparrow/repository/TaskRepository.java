@@ -4,7 +4,7 @@ import com.github.yarrow.sparrow.domain.Task;
 import java.util.Collection;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface TaskRepository extends MongoRepository<Task, String> {
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
 
     Collection<Task> findAllByProjectId(String projectId);
 }
@@ -0,0 +1,98 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskBoardColumn;
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
+
+public interface TaskRepositoryCustom {
+
+    /**
+     * Tasks by ids, read on the configured read path instead of the CRUD implementation
+     */
+    List<Task> findAllById(Iterable<String> taskIds);
+
+    /**
+     * Only the given fields are queried, along with the project, which access checks need
+     */
+    List<Task> findAllById(Collection<String> taskIds, Set<TaskField> fields);
+
+    /**
+     * Atomically applies update to the task only if it belongs to one of the given projects
+     * Returns task as it was before the update or empty optional if no such task is found
+     */
+    Optional<Task> updateByIdAndProjectIdIn(String taskId, Collection<String> projectIds, Update update);
+
+    /**
+     * Tasks by ids which belong to projects the user is a member of, queried with a single aggregation
+     */
+    List<Task> findAllByIdInAndProjectMemberUserIdsContains(Collection<String> taskIds, String userId);
+
+    /**
+     * Project tasks matching the filter in its sort order, read on the configured read path
+     * Page starts after the given task, only sort keys of which are used, or from the beginning if it is null
+     */
+    List<Task> findAllByProjectIdAndFilter(String projectId, TaskFilter filter, Task after, Limit limit);
+
+    /**
+     * Same as findAllByProjectIdAndFilter(), but only the task fields of the given response fields are read
+     * along with id and sort keys, the rest of the fields are left empty
+     */
+    List<Task> findAllByProjectIdAndFilter(
+            String projectId,
+            TaskFilter filter,
+            Task after,
+            Limit limit,
+            Set<TaskField> fields
+    );
+
+    /**
+     * Stream is backed by Mongo cursor and must be closed after consumption
+     */
+    Stream<Task> streamAllByProjectIdOrderByIdAsc(String projectId);
+
+    /**
+     * Board columns for every task status with at most columnLimit tasks each, queried with a single aggregation
+     */
+    List<TaskBoardColumn> findBoardByProjectId(String projectId, int columnLimit);
+
+    /**
+     * Inserts tasks with unordered bulk writes in chunks of the configured size, so a failed task doesn't stop
+     * the rest of its chunk. Returns ids of the tasks which were not inserted
+     * Every chunk is inserted in a transaction together with the writes of the callback, retried on write conflicts
+     * A write error aborts the transaction, so the chunk is inserted again without the tasks rejected by it
+     * A chunk failed as a whole is rolled back and doesn't stop the next ones, all of its tasks are returned
+     * as not inserted
+     */
+    Set<String> insertAllUnordered(List<Task> tasks, Consumer<List<Task>> onInserted);
+
+    /**
+     * Tasks of the given projects matching the text by the text index, the most relevant first
+     * Every project is searched with its own query over its part of the index, pages are merged by relevance
+     * Page starts at the given offset, as relevance can't be used to start a page after a task
+     * Only the task fields of the given response fields are read along with id
+     */
+    List<Task> searchByProjectIdIn(
+            String text,
+            Collection<String> projectIds,
+            long offset,
+            Limit limit,
+            Set<TaskField> fields
+    );
+
+    /**
+     * Applies updates to the tasks with a single unordered bulk write, outside of a transaction
+     * A task is updated only if its counted fields are the same as in its previous version, so a task changed
+     * by another request after it was read is left as it is. Returns ids of the tasks which were not updated
+     */
+    Set<String> updateAllUnchanged(Map<String, Task> previousByTaskId, Map<String, Update> updateByTaskId);
+}
@@ -0,0 +1,508 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.config.mongo.TransactionRetry;
+import com.github.yarrow.sparrow.config.mongo.codec.EntityReader;
+import com.github.yarrow.sparrow.config.mongo.uuid.StoredIds;
+import com.github.yarrow.sparrow.config.property.PersistenceProperties;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskBoardColumn;
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskSort;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import com.google.common.collect.Lists;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.model.Filters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.LookupOperation;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
+
+@Slf4j
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String BOARD_TOTALS = "totals";
+
+    /**
+     * Text score of a task depends on the task only, so scores of tasks of different projects are comparable
+     */
+    static final Comparator<Task> SEARCH_ORDER = Comparator.comparing(
+            Task::getScore,
+            Comparator.nullsLast(Comparator.<Double>reverseOrder())
+    ).thenComparing(Task::getId);
+
+    private final MongoTemplate mongoTemplate;
+    private final EntityReader entityReader;
+    private final StoredIds storedIds;
+    private final PersistenceProperties persistenceProperties;
+    private final TransactionRetry transactionRetry;
+
+    @Override
+    public List<Task> findAllById(Iterable<String> taskIds) {
+        return entityReader.find(Query.query(Criteria.where("id").in(Lists.newArrayList(taskIds))), Task.class);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<String> taskIds, Set<TaskField> fields) {
+        var query = withFields(Query.query(Criteria.where("id").in(taskIds)), fields, TaskSort.ID);
+        if (!FieldsUtil.isAll(TaskField.class, fields)) {
+            query.fields().include("projectId");
+        }
+        return entityReader.find(query, Task.class);
+    }
+
+    @Override
+    public Optional<Task> updateByIdAndProjectIdIn(String taskId, Collection<String> projectIds, Update update) {
+        var query = byIdAndProjectIdIn(taskId, projectIds);
+
+        //Empty update document is treated by Mongo as a replacement, so the task is only read
+        if (update.getUpdateObject().isEmpty()) {
+            return Optional.ofNullable(mongoTemplate.findOne(query, Task.class));
+        }
+
+        var options = FindAndModifyOptions.options().returnNew(false);
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update, options, Task.class));
+    }
+
+    @Override
+    public List<Task> findAllByIdInAndProjectMemberUserIdsContains(Collection<String> taskIds, String userId) {
+        var aggregation = byIdInAndProjectMemberUserIdsContains(
+                mongoTemplate.getCollectionName(Project.class),
+                taskIds,
+                storedIds.toStored(userId)
+        );
+        return mongoTemplate.aggregate(aggregation, Task.class, Task.class).getMappedResults();
+    }
+
+    @Override
+    public List<Task> findAllByProjectIdAndFilter(String projectId, TaskFilter filter, Task after, Limit limit) {
+        var query = byProjectIdAndFilter(projectId, filter, after).limit(limit.max());
+        return findPage(query, filter.getSort());
+    }
+
+    @Override
+    public List<Task> findAllByProjectIdAndFilter(
+            String projectId,
+            TaskFilter filter,
+            Task after,
+            Limit limit,
+            Set<TaskField> fields
+    ) {
+        var query = byProjectIdAndFilter(projectId, filter, after).limit(limit.max());
+        return findPage(withFields(query, fields, filter.getSort()), filter.getSort());
+    }
+
+    /**
+     * While ids are migrated Mongo sorts all string ids before binary ones, so a page would skip binary ids lower
+     * than the last string one. Each representation is paged on its own and pages are merged in UUID order, which is
+     * the same for both representations
+     */
+    private List<Task> findPage(Query query, TaskSort sort) {
+        if (persistenceProperties.getIdRepresentation() != PersistenceProperties.IdRepresentation.MIGRATING) {
+            return entityReader.find(query, Task.class);
+        }
+
+        var tasks = new ArrayList<Task>();
+        for (var idType : List.of(BsonType.STRING, BsonType.BINARY)) {
+            var idTypeFilter = new Document("id", new Document("$type", idType.getValue()));
+            var typedQuery = new BasicQuery(
+                    new Document("$and", List.of(query.getQueryObject(), idTypeFilter)),
+                    query.getFieldsObject()
+            );
+            typedQuery.setSortObject(query.getSortObject());
+            typedQuery.limit(query.getLimit());
+            tasks.addAll(entityReader.find(typedQuery, Task.class));
+        }
+        tasks.sort(pageOrder(sort));
+        return tasks.subList(0, Math.min(tasks.size(), query.getLimit()));
+    }
+
+    /**
+     * Order of pages in memory, the same as the sort of byProjectIdAndFilter
+     */
+    static Comparator<Task> pageOrder(TaskSort sort) {
+        var storyPointsAsc = Comparator.comparing(
+                Task::getStoryPoints,
+                Comparator.nullsFirst(Comparator.<Double>naturalOrder())
+        ).thenComparing(Task::getId);
+        return switch (sort) {
+            case ID -> Comparator.comparing(Task::getId);
+            case STORY_POINTS_ASC -> storyPointsAsc;
+            case STORY_POINTS_DESC -> storyPointsAsc.reversed();
+        };
+    }
+
+    @Override
+    public List<TaskBoardColumn> findBoardByProjectId(String projectId, int columnLimit) {
+        var board = mongoTemplate.aggregate(boardByProjectId(projectId, columnLimit), Task.class, Document.class)
+                .getUniqueMappedResult();
+        return toBoardColumns(board, document -> mongoTemplate.getConverter().read(Task.class, document));
+    }
+
+    /**
+     * Chunks are written one after another, so a batch holds no more than one chunk of documents in a write
+     * Rejected tasks are expected to be rare, e.g. on a duplicate id, so a chunk is inserted again once per
+     * write error reported by the aborted transaction
+     */
+    @Override
+    public Set<String> insertAllUnordered(List<Task> tasks, Consumer<List<Task>> onInserted) {
+        var failedIds = new HashSet<String>();
+        for (var chunk : Lists.partition(tasks, persistenceProperties.getInsertChunkSize())) {
+            var pending = chunk;
+            while (!pending.isEmpty()) {
+                var inserted = pending;
+                try {
+                    transactionRetry.executeWithoutResult(() -> {
+                        insertUnordered(inserted);
+                        onInserted.accept(inserted);
+                    });
+                    pending = List.of();
+                } catch (RejectedTasksException e) {
+                    failedIds.addAll(e.getTaskIds());
+                    pending = inserted.stream()
+                            .filter(task -> !e.getTaskIds().contains(task.getId()))
+                            .toList();
+                } catch (DataAccessException e) {
+                    log.warn("Chunk of {} tasks is not inserted", inserted.size(), e);
+                    failedIds.addAll(ids(inserted));
+                    pending = List.of();
+                }
+            }
+        }
+        return failedIds;
+    }
+
+    /**
+     * Write errors of the tasks are told apart from errors of the writes following them in the transaction
+     */
+    private void insertUnordered(List<Task> tasks) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class).insert(tasks).execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().isEmpty()) {
+                throw e;
+            }
+            throw new RejectedTasksException(failedIds(tasks, e.getErrors()), e);
+        }
+    }
+
+    @Override
+    public List<Task> searchByProjectIdIn(
+            String text,
+            Collection<String> projectIds,
+            long offset,
+            Limit limit,
+            Set<TaskField> fields
+    ) {
+        var pageEnd = Math.toIntExact(offset + limit.max());
+        return projectIds.stream()
+                .flatMap(projectId -> entityReader.find(searchByProjectId(text, projectId, pageEnd, fields), Task.class)
+                        .stream()
+                )
+                .sorted(SEARCH_ORDER)
+                .skip(offset)
+                .limit(limit.max())
+                .toList();
+    }
+
+    /**
+     * A bulk write reports only the total number of matched tasks, so every guarded update is an upsert
+     * Upsert of a task changed since it was read collides with the stored one on its id and fails on its own,
+     * while a task which is not stored anymore is inserted by it, such tasks are removed right after the write
+     */
+    @Override
+    public Set<String> updateAllUnchanged(Map<String, Task> previousByTaskId, Map<String, Update> updateByTaskId) {
+        if (updateByTaskId.isEmpty()) {
+            return Set.of();
+        }
+        var taskIds = List.copyOf(updateByTaskId.keySet());
+        var bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)
+                .upsert(byIdsAndCountedFields(taskIds, previousByTaskId, updateByTaskId));
+
+        var changedIds = new HashSet<String>();
+        BulkWriteResult result;
+        try {
+            result = bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> changedIds.add(taskIds.get(error.getIndex())));
+            result = e.getResult();
+        }
+
+        var upserts = result.getUpserts();
+        if (!upserts.isEmpty()) {
+            upserts.forEach(upsert -> changedIds.add(taskIds.get(upsert.getIndex())));
+            mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class))
+                    .deleteMany(Filters.in("_id", upserts.stream().map(BulkWriteUpsert::getId).toList()));
+        }
+        return changedIds;
+    }
+
+    @Override
+    public Stream<Task> streamAllByProjectIdOrderByIdAsc(String projectId) {
+        return entityReader.stream(byProjectIdOrderByIdAsc(Criteria.where("projectId").is(projectId)), Task.class);
+    }
+
+    private static Query byProjectIdOrderByIdAsc(Criteria criteria) {
+        return Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    static Query byProjectIdAndFilter(String projectId, TaskFilter filter, Task after) {
+        var criteria = Criteria.where("projectId").is(projectId);
+        if (filter.getStatuses() != null && !filter.getStatuses().isEmpty()) {
+            criteria.and("status").in(filter.getStatuses());
+        }
+        if (filter.isUnassigned()) {
+            criteria.and("assigneeUserId").is(null);
+        } else if (filter.getAssigneeUserId() != null) {
+            criteria.and("assigneeUserId").is(filter.getAssigneeUserId());
+        }
+        if (filter.getMinStoryPoints() != null || filter.getMaxStoryPoints() != null) {
+            var storyPoints = criteria.and("storyPoints");
+            if (filter.getMinStoryPoints() != null) {
+                storyPoints.gte(filter.getMinStoryPoints());
+            }
+            if (filter.getMaxStoryPoints() != null) {
+                storyPoints.lte(filter.getMaxStoryPoints());
+            }
+        }
+
+        return switch (filter.getSort()) {
+            case ID -> {
+                if (after != null) {
+                    criteria.and("id").gt(after.getId());
+                }
+                yield Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "id"));
+            }
+            case STORY_POINTS_ASC -> {
+                if (after != null) {
+                    criteria.andOperator(afterStoryPointsAsc(after));
+                }
+                yield Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "storyPoints", "id"));
+            }
+            case STORY_POINTS_DESC -> {
+                if (after != null) {
+                    criteria.andOperator(afterStoryPointsDesc(after));
+                }
+                yield Query.query(criteria).with(Sort.by(Sort.Direction.DESC, "storyPoints", "id"));
+            }
+        };
+    }
+
+    /**
+     * Tasks without story points go first in ascending order, the same as nulls are sorted by Mongo
+     */
+    private static Criteria afterStoryPointsAsc(Task after) {
+        if (after.getStoryPoints() == null) {
+            return new Criteria().orOperator(
+                    Criteria.where("storyPoints").is(null).and("id").gt(after.getId()),
+                    Criteria.where("storyPoints").ne(null)
+            );
+        }
+        return new Criteria().orOperator(
+                Criteria.where("storyPoints").is(after.getStoryPoints()).and("id").gt(after.getId()),
+                Criteria.where("storyPoints").gt(after.getStoryPoints())
+        );
+    }
+
+    /**
+     * Descending order is the exact reverse of the ascending one, so tasks without story points go last
+     */
+    private static Criteria afterStoryPointsDesc(Task after) {
+        if (after.getStoryPoints() == null) {
+            return Criteria.where("storyPoints").is(null).and("id").lt(after.getId());
+        }
+        return new Criteria().orOperator(
+                Criteria.where("storyPoints").is(after.getStoryPoints()).and("id").lt(after.getId()),
+                Criteria.where("storyPoints").lt(after.getStoryPoints()),
+                Criteria.where("storyPoints").is(null)
+        );
+    }
+
+    /**
+     * Totals of all columns are grouped in one facet, while every column's first tasks are taken in its own facet
+     */
+    static Aggregation boardByProjectId(String projectId, int columnLimit) {
+        var facet = Aggregation.facet(
+                Aggregation.group("status").count().as("count").sum("storyPoints").as("storyPoints")
+        ).as(BOARD_TOTALS);
+        for (var status : TaskStatus.values()) {
+            facet = facet.and(
+                    Aggregation.match(Criteria.where("status").is(status.name())),
+                    Aggregation.sort(Sort.Direction.ASC, "id"),
+                    Aggregation.limit(columnLimit)
+            ).as(status.name());
+        }
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("projectId").is(projectId)),
+                facet
+        );
+    }
+
+    /**
+     * Columns are returned for every status in the order of statuses, even for statuses without tasks
+     */
+    static List<TaskBoardColumn> toBoardColumns(Document board, Function<Document, Task> taskReader) {
+        var totalsByStatus = new HashMap<Object, Document>();
+        if (board != null) {
+            for (var totals : board.getList(BOARD_TOTALS, Document.class)) {
+                totalsByStatus.put(totals.get("_id"), totals);
+            }
+        }
+
+        var columns = new ArrayList<TaskBoardColumn>();
+        for (var status : TaskStatus.values()) {
+            var totals = totalsByStatus.get(status.name());
+            var tasks = board == null ? List.<Document>of() : board.getList(status.name(), Document.class);
+            columns.add(TaskBoardColumn.builder()
+                    .status(status)
+                    .count(totals == null ? 0 : totals.get("count", Number.class).longValue())
+                    .storyPoints(totals == null ? 0 : totals.get("storyPoints", Number.class).doubleValue())
+                    .tasks(tasks.stream().map(taskReader).toList())
+                    .build()
+            );
+        }
+        return columns;
+    }
+
+    /**
+     * Errors of an unordered bulk write refer to the failed writes by their indexes in the chunk
+     */
+    static Set<String> failedIds(List<Task> chunk, List<BulkWriteError> errors) {
+        return errors.stream()
+                .map(error -> chunk.get(error.getIndex()).getId())
+                .collect(Collectors.toSet());
+    }
+
+    static Set<String> ids(List<Task> chunk) {
+        return chunk.stream()
+                .map(Task::getId)
+                .collect(Collectors.toSet());
+    }
+
+    static List<Pair<Query, Update>> byIdsAndCountedFields(
+            List<String> taskIds,
+            Map<String, Task> previousByTaskId,
+            Map<String, Update> updateByTaskId
+    ) {
+        return taskIds.stream()
+                .map(taskId -> Pair.of(byIdAndCountedFields(previousByTaskId.get(taskId)), updateByTaskId.get(taskId)))
+                .toList();
+    }
+
+    /**
+     * Only the fields counted in project task stats are matched, so concurrent changes of other fields are kept
+     */
+    static Query byIdAndCountedFields(Task previous) {
+        return Query.query(Criteria.where("id").is(previous.getId())
+                .and("status").is(previous.getStatus())
+                .and("assigneeUserId").is(previous.getAssigneeUserId())
+                .and("storyPoints").is(previous.getStoryPoints())
+        );
+    }
+
+    /**
+     * Text index is prefixed by project, which a text search has to match by equality, so every project is searched
+     * with a query of its own. Only tasks up to the end of the page are read, as no other task of the project
+     * could get into it
+     * Ties in relevance are broken by id, so pages don't overlap unless tasks are written in between
+     */
+    static Query searchByProjectId(String text, String projectId, int pageEnd, Set<TaskField> fields) {
+        var query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text))
+                .sortByScore()
+                .addCriteria(Criteria.where("projectId").is(projectId))
+                .with(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(pageEnd);
+        return withFields(query, fields, TaskSort.ID);
+    }
+
+    /**
+     * Sort keys are read even if they are not requested, as the next page cursor is made of them
+     */
+    static Query withFields(Query query, Set<TaskField> fields, TaskSort sort) {
+        if (FieldsUtil.isAll(TaskField.class, fields)) {
+            return query;
+        }
+        var projection = query.fields().include("id");
+        fields.forEach(field -> projection.include(field.getEntityField()));
+        if (sort != TaskSort.ID) {
+            projection.include("storyPoints");
+        }
+        return query;
+    }
+
+    static Query byIdAndProjectIdIn(String taskId, Collection<String> projectIds) {
+        return Query.query(Criteria.where("id").is(taskId).and("projectId").in(projectIds));
+    }
+
+    static Aggregation byIdInAndProjectMemberUserIdsContains(
+            String projectCollectionName,
+            Collection<String> taskIds,
+            Object storedUserId
+    ) {
+        //Only ids of projects the user is a member of are joined
+        //Lookup pipeline isn't mapped against Project entity, so the user id is given in its stored representation
+        var projectLookup = LookupOperation.newLookup()
+                .from(projectCollectionName)
+                .localField("projectId")
+                .foreignField("_id")
+                .pipeline(
+                        Aggregation.match(Criteria.where("memberUserIds").is(storedUserId)),
+                        Aggregation.project("_id")
+                )
+                .as("accessibleProject");
+
+        return Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("id").in(taskIds)),
+                projectLookup,
+                Aggregation.match(Criteria.where("accessibleProject").ne(List.of())),
+                Aggregation.project().andExclude("accessibleProject")
+        );
+    }
+
+    @Getter
+    private static class RejectedTasksException extends RuntimeException {
+
+        private final Set<String> taskIds;
+
+        RejectedTasksException(Set<String> taskIds, Throwable cause) {
+            super("Tasks are rejected by write errors", cause);
+            this.taskIds = taskIds;
+        }
+    }
+}
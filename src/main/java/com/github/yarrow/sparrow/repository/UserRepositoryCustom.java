@@ -0,0 +1,20 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.domain.User;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * Users by ids, read on the configured read path
+     */
+    Collection<User> findAllByIdIn(Collection<String> userIds);
+
+    /**
+     * Single user lookups are read on the configured read path instead of the CRUD and derived implementations
+     */
+    Optional<User> findById(String userId);
+
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,35 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.config.mongo.codec.EntityReader;
+import com.github.yarrow.sparrow.domain.User;
+import java.util.Collection;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final EntityReader entityReader;
+
+    @Override
+    public Collection<User> findAllByIdIn(Collection<String> userIds) {
+        return entityReader.find(Query.query(Criteria.where("id").in(userIds)), User.class);
+    }
+
+    @Override
+    public Optional<User> findById(String userId) {
+        return findOne(Criteria.where("id").is(userId));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return findOne(Criteria.where("email").is(email));
+    }
+
+    private Optional<User> findOne(Criteria criteria) {
+        return entityReader.find(Query.query(criteria).limit(1), User.class).stream().findFirst();
+    }
+}
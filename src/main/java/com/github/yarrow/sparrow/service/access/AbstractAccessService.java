@@ -1,62 +1,185 @@
 package com.github.yarrow.sparrow.service.access;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public abstract class AbstractAccessService<EntityT, IdT, NotFoundExceptionT extends RuntimeException>
         implements AccessService<EntityT, IdT> {
 
+    /**
+     * Secured lookups are remembered separately, as entity present for everyone is not necessarily accessible
+     */
+    private final Object securedOwner = new Object();
+    /**
+     * Identifiers to be loaded along with the next lookup, kept apart for default and secured lookups
+     */
+    private final Object pendingOwner = new Object();
+    private final Object securedPendingOwner = new Object();
+
+    @Setter(onMethod_ = @Autowired)
+    private RequestIdentityMap requestIdentityMap = RequestIdentityMap.NONE;
+
     public abstract Function<Collection<IdT>, Collection<EntityT>> defaultAccessFunction();
 
     public abstract Function<Collection<IdT>, Collection<EntityT>> securedAccessFunction();
 
     public abstract Supplier<NotFoundExceptionT> notFoundExceptionSupplier();
 
-    private Collection<EntityT> getPresentOrThrowInternal(
+    /**
+     * Identifiers entity could be queried by, entities without identifiers are not remembered within a request
+     */
+    protected Collection<IdT> identifiers(EntityT entity) {
+        return List.of();
+    }
+
+    private Collection<EntityT> getPresentInternal(
             Collection<IdT> ids,
-            Function<Collection<IdT>, Collection<EntityT>> accessFunction
+            Function<Collection<IdT>, Collection<EntityT>> accessFunction,
+            boolean secured,
+            boolean failFast
     ) {
         //ensure that id is unique
         ids = new HashSet<>(ids);
-        //finding entities
-        var presentEntities = accessFunction.apply(ids);
+
+        //taking entities already loaded within the request
+        var identityMap = requestIdentityMap.<IdT, EntityT>get(secured ? securedOwner : this);
+        var presentEntities = new ArrayList<EntityT>();
+        var missingIds = new HashSet<IdT>();
+        for (var id : ids) {
+            var entity = identityMap.map(m -> m.get(id));
+            entity.ifPresentOrElse(presentEntities::add, () -> missingIds.add(id));
+        }
+        if (missingIds.isEmpty()) {
+            return presentEntities;
+        }
+
+        //identifiers collected ahead of this lookup are queried along with the missing ones
+        var pendingIds = takePending(secured);
+        pendingIds.removeAll(missingIds);
+        if (identityMap.isPresent()) {
+            pendingIds.removeIf(identityMap.get()::containsKey);
+        }
+        if (!pendingIds.isEmpty()) {
+            var queriedIds = new HashSet<>(missingIds);
+            queriedIds.addAll(pendingIds);
+            var loadedEntities = accessFunction.apply(queriedIds);
+            remember(loadedEntities, secured);
+
+            var requestedEntities = loadedEntities.stream()
+                    .filter(entity -> identifiers(entity).stream().anyMatch(missingIds::contains))
+                    .toList();
+            var loadedIds = requestedEntities.stream()
+                    .flatMap(entity -> identifiers(entity).stream())
+                    .collect(Collectors.toSet());
+            if (failFast && !loadedIds.containsAll(missingIds)) {
+                throw notFoundExceptionSupplier().get();
+            }
+            presentEntities.addAll(requestedEntities);
+            return presentEntities;
+        }
+
+        //finding the rest of entities with a single query
+        var loadedEntities = accessFunction.apply(missingIds);
         //checking if number of entities is equal to queried number of ids
-        if (presentEntities.size() != ids.size()) {
+        if (failFast && loadedEntities.size() != missingIds.size()) {
             throw notFoundExceptionSupplier().get();
         }
+
+        remember(loadedEntities, secured);
+        presentEntities.addAll(loadedEntities);
         return presentEntities;
     }
 
+    private Set<IdT> takePending(boolean secured) {
+        var pendingIds = new HashSet<IdT>();
+        requestIdentityMap.<IdT, IdT>get(secured ? securedPendingOwner : pendingOwner).ifPresent(pending -> {
+            pendingIds.addAll(pending.keySet());
+            pending.clear();
+        });
+        return pendingIds;
+    }
+
     private EntityT getPresentOrThrowInternal(
             IdT id,
-            Function<Collection<IdT>, Collection<EntityT>> accessFunction
+            Function<Collection<IdT>, Collection<EntityT>> accessFunction,
+            boolean secured
     ) {
-        return getPresentOrThrowInternal(List.of(id), accessFunction).stream()
+        return getPresentInternal(List.of(id), accessFunction, secured, true).stream()
                 .findFirst()
                 .orElseThrow(notFoundExceptionSupplier());
     }
 
+    private void remember(Collection<EntityT> entities, boolean secured) {
+        //entity accessible by the current user is present as well
+        var owners = secured ? List.of(this, securedOwner) : List.of(this);
+        for (var owner : owners) {
+            requestIdentityMap.<IdT, EntityT>get(owner).ifPresent(identityMap -> entities.forEach(entity ->
+                    identifiers(entity).forEach(id -> identityMap.put(id, entity))
+            ));
+        }
+    }
+
+    /**
+     * Entity is looked up again by every identifier it was remembered by, so a written entity is not served stale
+     */
+    public void forget(IdT id) {
+        for (var owner : List.of(this, securedOwner)) {
+            requestIdentityMap.<IdT, EntityT>get(owner).ifPresent(identityMap -> {
+                var entity = identityMap.remove(id);
+                if (entity != null) {
+                    identifiers(entity).forEach(identityMap::remove);
+                }
+            });
+        }
+    }
+
+    /**
+     * Identifiers are not queried now, but along with the next lookup within the request, so lookups known ahead
+     * are batched into a single query. Only entities with identifiers can be collected, nothing is collected outside
+     * of a request
+     */
+    public void prefetch(Collection<IdT> ids) {
+        for (var owner : List.of(pendingOwner, securedPendingOwner)) {
+            requestIdentityMap.<IdT, IdT>get(owner).ifPresent(pending -> ids.forEach(id -> pending.put(id, id)));
+        }
+    }
 
     @Override
     public EntityT getPresentOrThrow(IdT id) {
-        return getPresentOrThrowInternal(id, defaultAccessFunction());
+        return getPresentOrThrowInternal(id, defaultAccessFunction(), false);
     }
 
     @Override
     public Collection<EntityT> getPresentOrThrow(Collection<IdT> ids) {
-        return getPresentOrThrowInternal(ids, defaultAccessFunction());
+        return getPresentInternal(ids, defaultAccessFunction(), false, true);
     }
 
     @Override
     public EntityT getPresentOrThrowSecured(IdT id) {
-        return getPresentOrThrowInternal(id, securedAccessFunction());
+        return getPresentOrThrowInternal(id, securedAccessFunction(), true);
     }
 
     @Override
     public Collection<EntityT> getPresentOrThrowSecured(Collection<IdT> ids) {
-        return getPresentOrThrowInternal(ids, securedAccessFunction());
+        return getPresentInternal(ids, securedAccessFunction(), true, true);
+    }
+
+    /**
+     * Entities which are present, missing ones are left out instead of failing the whole lookup
+     */
+    public Collection<EntityT> getPresent(Collection<IdT> ids) {
+        return getPresentInternal(ids, defaultAccessFunction(), false, false);
+    }
+
+    public Collection<EntityT> getPresentSecured(Collection<IdT> ids) {
+        return getPresentInternal(ids, securedAccessFunction(), true, false);
     }
 }
@@ -0,0 +1,80 @@
+package com.github.yarrow.sparrow.service.access;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive requests have no request scope to remember loaded entities in, so every lookup is queried
+ */
+public abstract class AbstractReactiveAccessService<EntityT, IdT, NotFoundExceptionT extends RuntimeException>
+        implements ReactiveAccessService<EntityT, IdT> {
+
+    public abstract Function<Collection<IdT>, Flux<EntityT>> defaultAccessFunction();
+
+    public abstract Function<Collection<IdT>, Flux<EntityT>> securedAccessFunction();
+
+    public abstract Supplier<NotFoundExceptionT> notFoundExceptionSupplier();
+
+    private Mono<Collection<EntityT>> getPresentInternal(
+            Collection<IdT> ids,
+            Function<Collection<IdT>, Flux<EntityT>> accessFunction,
+            boolean failFast
+    ) {
+        //ensure that id is unique
+        var uniqueIds = new HashSet<>(ids);
+        if (uniqueIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+
+        //checking if number of entities is equal to queried number of ids
+        return Flux.defer(() -> accessFunction.apply(uniqueIds))
+                .collectList()
+                .flatMap(entities -> failFast && entities.size() != uniqueIds.size()
+                        ? Mono.<Collection<EntityT>>error(notFoundExceptionSupplier().get())
+                        : Mono.<Collection<EntityT>>just(entities));
+    }
+
+    private Mono<EntityT> getPresentOrThrowInternal(
+            IdT id,
+            Function<Collection<IdT>, Flux<EntityT>> accessFunction
+    ) {
+        return getPresentInternal(List.of(id), accessFunction, true)
+                .map(entities -> entities.iterator().next());
+    }
+
+    @Override
+    public Mono<EntityT> getPresentOrThrow(IdT id) {
+        return getPresentOrThrowInternal(id, defaultAccessFunction());
+    }
+
+    @Override
+    public Mono<Collection<EntityT>> getPresentOrThrow(Collection<IdT> ids) {
+        return getPresentInternal(ids, defaultAccessFunction(), true);
+    }
+
+    @Override
+    public Mono<EntityT> getPresentOrThrowSecured(IdT id) {
+        return getPresentOrThrowInternal(id, securedAccessFunction());
+    }
+
+    @Override
+    public Mono<Collection<EntityT>> getPresentOrThrowSecured(Collection<IdT> ids) {
+        return getPresentInternal(ids, securedAccessFunction(), true);
+    }
+
+    /**
+     * Entities which are present, missing ones are left out instead of failing the whole lookup
+     */
+    public Mono<Collection<EntityT>> getPresent(Collection<IdT> ids) {
+        return getPresentInternal(ids, defaultAccessFunction(), false);
+    }
+
+    public Mono<Collection<EntityT>> getPresentSecured(Collection<IdT> ids) {
+        return getPresentInternal(ids, securedAccessFunction(), false);
+    }
+}
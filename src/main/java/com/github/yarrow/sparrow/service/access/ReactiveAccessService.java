@@ -0,0 +1,36 @@
+package com.github.yarrow.sparrow.service.access;
+
+import java.util.Collection;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of AccessService with the same fail-fast semantics
+ * Missing or inaccessible entities are signalled as not found errors instead of being thrown
+ */
+@SuppressWarnings("unused")
+public interface ReactiveAccessService<EntityT, IdT> {
+
+    Mono<EntityT> getPresentOrThrow(IdT id);
+
+    Mono<Collection<EntityT>> getPresentOrThrow(Collection<IdT> ids);
+
+    Mono<EntityT> getPresentOrThrowSecured(IdT id);
+
+    Mono<Collection<EntityT>> getPresentOrThrowSecured(Collection<IdT> ids);
+
+    default Mono<Void> validatePresenceOrThrow(IdT id) {
+        return getPresentOrThrow(id).then();
+    }
+
+    default Mono<Void> validatePresenceOrThrow(Collection<IdT> ids) {
+        return getPresentOrThrow(ids).then();
+    }
+
+    default Mono<Void> validatePresenceOrThrowSecured(IdT id) {
+        return getPresentOrThrowSecured(id).then();
+    }
+
+    default Mono<Void> validatePresenceOrThrowSecured(Collection<IdT> ids) {
+        return getPresentOrThrowSecured(ids).then();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.yarrow.sparrow.service.access;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Entities already loaded within the current request, so the same entity is queried at most once per request.
+ * Scope is opened by the web layer, outside of it nothing is remembered
+ */
+public interface RequestIdentityMap {
+
+    RequestIdentityMap NONE = new RequestIdentityMap() {
+        @Override
+        public <KeyT, ValueT> Optional<Map<KeyT, ValueT>> get(Object owner) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    /**
+     * Returns map of entities by identifier owned by the given owner, empty if no scope is opened
+     */
+    <KeyT, ValueT> Optional<Map<KeyT, ValueT>> get(Object owner);
+
+    /**
+     * Entities are not remembered for the rest of the request, for requests loading more than fits in memory
+     */
+    void close();
+}
@@ -1,36 +1,60 @@
 package com.github.yarrow.sparrow.service.authentication;
 
+import com.github.yarrow.sparrow.config.property.CacheProperties;
 import com.github.yarrow.sparrow.config.property.JwtProperties;
 import com.github.yarrow.sparrow.domain.User;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.function.Function;
 import javax.crypto.SecretKey;
-import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor(onConstructor_ = @Autowired)
+/**
+ * Signing key and parser are built once. Verified tokens are cached by token hash, so repeated requests with the
+ * same token skip signature verification and claims parsing; cached entries are never used after token expiration
+ * Tokens without expiration are rejected, as they would stay valid and cached for as long as the signing key lives
+ */
 @Service
 public class JwtService {
 
-    private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final Cache<HashCode, VerifiedToken> verifiedTokens;
 
-    public String extractId(String token) {
-        return extractClaim(token, Claims::getSubject);
+    @Autowired
+    public JwtService(JwtProperties jwtProperties, CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSigningKey()));
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+
+        var spec = cacheProperties.getJwt();
+        this.verifiedTokens = CacheBuilder.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt");
     }
 
-    public boolean isTokenValid(String token, User user) {
-        var extractedId = extractId(token);
-        return extractedId.equals(user.getId()) && !isTokenExpired(token);
+    public String extractId(String token) {
+        return verify(token).getSubject();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-        Claims claims = extractAllClaims(token);
-        return claimsResolvers.apply(claims);
+    public boolean isTokenValid(String token, CustomUserDetails userDetails) {
+        var verifiedToken = verify(token);
+        return verifiedToken.getSubject().equals(userDetails.getId()) && !verifiedToken.isExpired();
     }
 
     public String generateToken(User user) {
@@ -38,25 +62,38 @@ public class JwtService {
                 .subject(user.getId())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 48))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
+    /**
+     * Expired cached token is parsed again, so the parser rejects it the same way as a token seen for the first time
+     */
+    private VerifiedToken verify(String token) {
+        var tokenHash = Hashing.sha256().hashString(token, StandardCharsets.UTF_8);
+        var verifiedToken = verifiedTokens.getIfPresent(tokenHash);
+        if (verifiedToken != null && !verifiedToken.isExpired()) {
+            return verifiedToken;
+        }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        var jws = jwtParser.parseSignedClaims(token);
+        var claims = jws.getPayload();
+        if (claims.getExpiration() == null) {
+            throw new MissingClaimException(jws.getHeader(), claims, Claims.EXPIRATION, null, "Expiration is missing");
+        }
+        verifiedToken = new VerifiedToken(claims.getSubject(), claims.getExpiration());
+        verifiedTokens.put(tokenHash, verifiedToken);
+        return verifiedToken;
     }
 
-    private Claims extractAllClaims(String token) {
-        var jwtParser = Jwts.parser().verifyWith(getSigningKey()).build();
-        return jwtParser.parseSignedClaims(token).getPayload();
-    }
+    @Value
+    private static class VerifiedToken {
+
+        String subject;
+        Date expiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSigningKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+        boolean isExpired() {
+            return expiration.before(new Date());
+        }
     }
 }
@@ -0,0 +1,68 @@
+package com.github.yarrow.sparrow.service.authentication;
+
+import com.github.yarrow.sparrow.config.property.CacheProperties;
+import com.github.yarrow.sparrow.repository.UserRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Principals of authenticated requests by user id, so the authentication filter doesn't query the user on every
+ * request. Entries must be invalidated when the user is changed, TTL bounds staleness for concurrent updates
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, CustomUserDetails> cache;
+
+    @Autowired
+    public PrincipalCache(
+            UserRepository userRepository,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+
+        var spec = cacheProperties.getPrincipal();
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "principal");
+    }
+
+    /**
+     * Absent users are not cached, as they may be created later with the same id
+     */
+    public Optional<CustomUserDetails> get(String userId) {
+        var principal = cache.getIfPresent(userId);
+        if (principal != null) {
+            return Optional.of(principal);
+        }
+
+        var loaded = userRepository.findById(userId).map(CustomUserDetails::of);
+        loaded.ifPresent(p -> cache.put(userId, p));
+        return loaded;
+    }
+
+    /**
+     * Cached principal only, for callers which load absent users on their own without blocking
+     */
+    public Optional<CustomUserDetails> getIfPresent(String userId) {
+        return Optional.ofNullable(cache.getIfPresent(userId));
+    }
+
+    public void put(CustomUserDetails principal) {
+        cache.put(principal.getId(), principal);
+    }
+
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+    }
+}
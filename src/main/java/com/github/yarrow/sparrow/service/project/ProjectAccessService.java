@@ -1,16 +1,27 @@
 package com.github.yarrow.sparrow.service.project;
 
 import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectField;
 import com.github.yarrow.sparrow.exception.ApplicationError;
 import com.github.yarrow.sparrow.exception.ErrorFactory;
 import com.github.yarrow.sparrow.repository.ProjectRepository;
 import com.github.yarrow.sparrow.service.access.AbstractAccessService;
+import com.github.yarrow.sparrow.util.Constants;
+import com.github.yarrow.sparrow.util.FieldsUtil;
 import com.github.yarrow.sparrow.util.SecurityUtil;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -18,40 +29,111 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class ProjectAccessService extends AbstractAccessService<Project, String, ApplicationError> {
 
+    private static final Pattern KEY_PATTERN = Pattern.compile(Constants.Regexp.KEY_REGEXP);
+
     private final ProjectRepository projectRepository;
+    private final ProjectKeyCache projectKeyCache;
 
     @Override
     public Function<Collection<String>, Collection<Project>> defaultAccessFunction() {
-        return projectIds -> {
-            //Querying by ids
-            var projects = projectRepository.findAllById(projectIds);
-            if (CollectionUtils.isNotEmpty(projects)) {
-                return projects;
-            }
-
-            //If no projects by ids found, querying by keys
-            return projectRepository.findAllByKeyIn(projectIds);
-        };
+        return projectIdsOrKeys -> findAllByIdsOrKeys(projectIdsOrKeys, EnumSet.allOf(ProjectField.class));
     }
 
+    /**
+     * Membership is checked on the fetched projects themselves, so no separate membership query is needed
+     */
     @Override
     public Function<Collection<String>, Collection<Project>> securedAccessFunction() {
-        return projectIds -> {
+        return projectIdsOrKeys -> {
             var currentUserId = SecurityUtil.getCurrentUserId();
-
-            //Querying by ids
-            var projects = projectRepository.findAllByIdInAndMemberUserIdsContains(projectIds, currentUserId);
-            if (CollectionUtils.isNotEmpty(projects)) {
-                return projects;
-            }
-
-            //If no projects by ids found, querying by keys
-            return projectRepository.findAllByKeyInAndMemberUserIdsContains(projectIds, currentUserId);
+            return defaultAccessFunction().apply(projectIdsOrKeys).stream()
+                    .filter(p -> isMember(p, currentUserId))
+                    .toList();
         };
     }
 
+    /**
+     * Project with the given fields only, members are read for the membership check even if they are not requested
+     * Partially read project is not kept in the identity map, so it is read and checked on every call
+     */
+    public Project getPresentOrThrowSecured(String projectIdOrKey, Set<ProjectField> fields) {
+        if (FieldsUtil.isAll(ProjectField.class, fields)) {
+            return getPresentOrThrowSecured(projectIdOrKey);
+        }
+        var currentUserId = SecurityUtil.getCurrentUserId();
+        return findAllByIdsOrKeys(List.of(projectIdOrKey), fields).stream()
+                .filter(p -> isMember(p, currentUserId))
+                .findFirst()
+                .orElseThrow(notFoundExceptionSupplier());
+    }
+
     @Override
     public Supplier<ApplicationError> notFoundExceptionSupplier() {
         return ErrorFactory.get()::projectNotFound;
     }
+
+    /**
+     * Projects are queried both by id and by key
+     */
+    @Override
+    protected Collection<String> identifiers(Project project) {
+        return List.of(project.getId(), project.getKey());
+    }
+
+    /**
+     * Keys are told apart from ids by their format and resolved to ids with the cache, so usually projects are
+     * found with a single query by ids. Keys which are not cached or resolved to stale ids are queried by keys
+     * Membership is not part of these queries, so a lookup by a non-member never evicts a valid key
+     */
+    private Collection<Project> findAllByIdsOrKeys(Collection<String> projectIdsOrKeys, Set<ProjectField> fields) {
+        var ids = new HashSet<String>();
+        var resolvedIdsByKey = new HashMap<String, String>();
+        var unresolvedKeys = new HashSet<String>();
+        for (var idOrKey : projectIdsOrKeys) {
+            if (!isKey(idOrKey)) {
+                ids.add(idOrKey);
+                continue;
+            }
+
+            var cachedId = projectKeyCache.getId(idOrKey);
+            if (cachedId.isPresent()) {
+                ids.add(cachedId.get());
+                resolvedIdsByKey.put(idOrKey, cachedId.get());
+            } else {
+                unresolvedKeys.add(idOrKey);
+            }
+        }
+
+        var projects = new ArrayList<Project>();
+        if (!ids.isEmpty()) {
+            projects.addAll(projectRepository.findAllById(ids, fields));
+        }
+
+        //Cached id is stale only if it no longer resolves to a project with the same key
+        unresolvedKeys.addAll(staleKeys(resolvedIdsByKey, projects));
+        unresolvedKeys.forEach(projectKeyCache::invalidate);
+
+        if (!unresolvedKeys.isEmpty()) {
+            projects.addAll(projectRepository.findAllByKeyIn(unresolvedKeys, fields));
+        }
+
+        projects.forEach(projectKeyCache::put);
+        return projects;
+    }
+
+    private static boolean isMember(Project project, String userId) {
+        return project.getMemberUserIds() != null && project.getMemberUserIds().contains(userId);
+    }
+
+    static Set<String> staleKeys(Map<String, String> resolvedIdsByKey, Collection<Project> projectsByIds) {
+        var keysById = projectsByIds.stream().collect(Collectors.toMap(Project::getId, Project::getKey));
+        return resolvedIdsByKey.entrySet().stream()
+                .filter(resolved -> !resolved.getKey().equals(keysById.get(resolved.getValue())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    static boolean isKey(String projectIdOrKey) {
+        return projectIdOrKey != null && KEY_PATTERN.matcher(projectIdOrKey).matches();
+    }
 }
@@ -0,0 +1,44 @@
+package com.github.yarrow.sparrow.service.project;
+
+import com.github.yarrow.sparrow.config.property.CacheProperties;
+import com.github.yarrow.sparrow.domain.Project;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Project ids by keys, populated by loaded projects. Resolved id might be stale,
+ * so callers must check that the project found by it still has the same key
+ */
+@Component
+public class ProjectKeyCache {
+
+    private final Cache<String, String> projectIdsByKey;
+
+    @Autowired
+    public ProjectKeyCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        var spec = cacheProperties.getProjectKey();
+        this.projectIdsByKey = CacheBuilder.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, projectIdsByKey, "project-key");
+    }
+
+    public Optional<String> getId(String key) {
+        return Optional.ofNullable(projectIdsByKey.getIfPresent(key));
+    }
+
+    public void put(Project project) {
+        projectIdsByKey.put(project.getKey(), project.getId());
+    }
+
+    public void invalidate(String key) {
+        projectIdsByKey.invalidate(key);
+    }
+}
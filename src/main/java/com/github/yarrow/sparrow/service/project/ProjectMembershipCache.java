@@ -0,0 +1,81 @@
+package com.github.yarrow.sparrow.service.project;
+
+import com.github.yarrow.sparrow.config.property.CacheProperties;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ids of projects each user is a member of. Entries must be invalidated for every user whose membership is changed,
+ * TTL bounds staleness for changes made by other instances
+ */
+@Component
+public class ProjectMembershipCache {
+
+    private final ProjectRepository projectRepository;
+    private final Cache<String, Set<String>> projectIdsByUserId;
+
+    @Autowired
+    public ProjectMembershipCache(
+            ProjectRepository projectRepository,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.projectRepository = projectRepository;
+
+        var spec = cacheProperties.getProjectMembership();
+        this.projectIdsByUserId = CacheBuilder.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, projectIdsByUserId, "project-membership");
+    }
+
+    public Set<String> getProjectIds(String userId) {
+        var projectIds = projectIdsByUserId.getIfPresent(userId);
+        if (projectIds != null) {
+            return projectIds;
+        }
+        return reloadProjectIds(userId);
+    }
+
+    /**
+     * Queries memberships bypassing cached ones, e.g. if an access check fails on possibly stale entry
+     */
+    public Set<String> reloadProjectIds(String userId) {
+        var projectIds = projectRepository.findIdsByMemberUserIdsContains(userId).stream()
+                .map(Project::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        projectIdsByUserId.put(userId, projectIds);
+        return projectIds;
+    }
+
+    /**
+     * Within a transaction entries are invalidated once more after commit, as a request reading memberships
+     * before the commit would put the old ones back until TTL
+     */
+    public void invalidate(Collection<String> userIds) {
+        projectIdsByUserId.invalidateAll(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            var invalidatedUserIds = List.copyOf(userIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    projectIdsByUserId.invalidateAll(invalidatedUserIds);
+                }
+            });
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.github.yarrow.sparrow.service.project;
 
+import com.github.yarrow.sparrow.domain.ProjectField;
 import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
 import com.github.yarrow.sparrow.dto.response.ProjectResponse;
 import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
 import java.util.Collection;
+import java.util.Set;
 
 public interface ProjectService {
 
@@ -12,7 +14,11 @@ public interface ProjectService {
 
     Collection<ProjectShortResponse> getUserProjects();
 
-    ProjectResponse getProjectByIdOrKey(String projectIdOrKey);
+    ProjectResponse getProjectByIdOrKey(String projectIdOrKey, Set<ProjectField> fields);
 
     ProjectResponse updateProjectByIdOrKey(String projectId, UpdateProjectRequest request);
+
+    void addProjectMembers(String projectIdOrKey, Collection<String> userIds);
+
+    void removeProjectMembers(String projectIdOrKey, Collection<String> userIds);
 }
@@ -1,15 +1,19 @@
 package com.github.yarrow.sparrow.service.project;
 
+import com.github.yarrow.sparrow.domain.ProjectField;
 import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
 import com.github.yarrow.sparrow.dto.response.ProjectResponse;
 import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
 import com.github.yarrow.sparrow.mapper.project.ProjectMapper;
 import com.github.yarrow.sparrow.repository.ProjectRepository;
 import com.github.yarrow.sparrow.service.user.UserAccessService;
 import com.github.yarrow.sparrow.util.SecurityUtil;
+import java.time.Clock;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +28,9 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserAccessService userPresenceService;
     private final ProjectMapper projectMapper;
     private final ProjectAccessService projectAccessService;
+    private final ProjectKeyCache projectKeyCache;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final Clock clock;
 
     @Transactional
     @Override
@@ -38,6 +45,9 @@ public class ProjectServiceImpl implements ProjectService {
         project.setMemberUserIds(List.of(currentUserId));
 
         project = projectRepository.save(project);
+        //Key might be cached for a project which doesn't exist anymore
+        projectKeyCache.invalidate(project.getKey());
+        projectMembershipCache.invalidate(project.getMemberUserIds());
         return projectMapper.projectToProjectResponse(project);
     }
 
@@ -49,9 +59,9 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public ProjectResponse getProjectByIdOrKey(String projectIdOrKey) {
-        var project = projectAccessService.getPresentOrThrowSecured(projectIdOrKey);
-        return projectMapper.projectToProjectResponse(project);
+    public ProjectResponse getProjectByIdOrKey(String projectIdOrKey, Set<ProjectField> fields) {
+        var project = projectAccessService.getPresentOrThrowSecured(projectIdOrKey, fields);
+        return projectMapper.projectToProjectResponse(project, fields);
     }
 
     @Transactional
@@ -68,6 +78,7 @@ public class ProjectServiceImpl implements ProjectService {
         if (StringUtils.isNotBlank(description)) {
             project.setDescription(description);
         }
+        var previousMemberUserIds = project.getMemberUserIds();
         var memberUserIds = request.getMemberUserIds();
         if (memberUserIds != null) {
             userPresenceService.validatePresenceOrThrow(memberUserIds);
@@ -75,6 +86,36 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         projectRepository.save(project);
+        projectAccessService.forget(project.getId());
+        if (memberUserIds != null) {
+            //Both removed and added members are affected
+            projectMembershipCache.invalidate(previousMemberUserIds);
+            projectMembershipCache.invalidate(memberUserIds);
+        }
         return projectMapper.projectToProjectResponse(project);
     }
+
+    /**
+     * Only added users are validated, the rest of the members are not read
+     */
+    @Override
+    public void addProjectMembers(String projectIdOrKey, Collection<String> userIds) {
+        userPresenceService.validatePresenceOrThrow(userIds);
+        var currentUserId = SecurityUtil.getCurrentUserId();
+        if (!projectRepository.addMemberUserIds(projectIdOrKey, currentUserId, userIds, clock.instant())) {
+            throw ErrorFactory.get().projectNotFound();
+        }
+        projectAccessService.forget(projectIdOrKey);
+        projectMembershipCache.invalidate(userIds);
+    }
+
+    @Override
+    public void removeProjectMembers(String projectIdOrKey, Collection<String> userIds) {
+        var currentUserId = SecurityUtil.getCurrentUserId();
+        if (!projectRepository.removeMemberUserIds(projectIdOrKey, currentUserId, userIds, clock.instant())) {
+            throw ErrorFactory.get().projectNotFound();
+        }
+        projectAccessService.forget(projectIdOrKey);
+        projectMembershipCache.invalidate(userIds);
+    }
 }
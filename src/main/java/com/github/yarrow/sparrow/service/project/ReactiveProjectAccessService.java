@@ -0,0 +1,101 @@
+package com.github.yarrow.sparrow.service.project;
+
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.repository.ReactiveProjectRepository;
+import com.github.yarrow.sparrow.service.access.AbstractReactiveAccessService;
+import com.github.yarrow.sparrow.util.SecurityUtil;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveProjectAccessService extends AbstractReactiveAccessService<Project, String, ApplicationError> {
+
+    private final ReactiveProjectRepository reactiveProjectRepository;
+    private final ProjectKeyCache projectKeyCache;
+
+    @Override
+    public Function<Collection<String>, Flux<Project>> defaultAccessFunction() {
+        return this::findAllByIdsOrKeys;
+    }
+
+    /**
+     * Membership is checked on the fetched projects themselves, so no separate membership query is needed
+     */
+    @Override
+    public Function<Collection<String>, Flux<Project>> securedAccessFunction() {
+        return projectIdsOrKeys -> SecurityUtil.getReactiveCurrentUserId().flatMapMany(currentUserId ->
+                findAllByIdsOrKeys(projectIdsOrKeys)
+                        .filter(p -> p.getMemberUserIds() != null && p.getMemberUserIds().contains(currentUserId))
+        );
+    }
+
+    /**
+     * Membership lookup for checks which are folded into the queries of other entities
+     * Queried every time, as the membership cache is loaded with blocking calls
+     */
+    public Mono<Set<String>> getAccessibleProjectIds() {
+        return SecurityUtil.getReactiveCurrentUserId()
+                .flatMapMany(reactiveProjectRepository::findIdsByMemberUserIdsContains)
+                .map(Project::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public Supplier<ApplicationError> notFoundExceptionSupplier() {
+        return ErrorFactory.get()::projectNotFound;
+    }
+
+    /**
+     * Same resolution as in ProjectAccessService: cached keys are queried together with ids,
+     * keys which are not cached or resolved to stale ids are queried by keys
+     */
+    private Flux<Project> findAllByIdsOrKeys(Collection<String> projectIdsOrKeys) {
+        var ids = new HashSet<String>();
+        var resolvedIdsByKey = new HashMap<String, String>();
+        var unresolvedKeys = new HashSet<String>();
+        for (var idOrKey : projectIdsOrKeys) {
+            if (!ProjectAccessService.isKey(idOrKey)) {
+                ids.add(idOrKey);
+                continue;
+            }
+
+            var cachedId = projectKeyCache.getId(idOrKey);
+            if (cachedId.isPresent()) {
+                ids.add(cachedId.get());
+                resolvedIdsByKey.put(idOrKey, cachedId.get());
+            } else {
+                unresolvedKeys.add(idOrKey);
+            }
+        }
+
+        var projectsByIds = ids.isEmpty() ? Flux.<Project>empty() : reactiveProjectRepository.findAllById(ids);
+        return projectsByIds.collectList()
+                .flatMapMany(projects -> {
+                    //Cached id is stale only if it no longer resolves to a project with the same key
+                    var staleKeys = ProjectAccessService.staleKeys(resolvedIdsByKey, projects);
+                    staleKeys.forEach(projectKeyCache::invalidate);
+                    unresolvedKeys.addAll(staleKeys);
+
+                    var projectsByKeys = unresolvedKeys.isEmpty()
+                            ? Flux.<Project>empty()
+                            : reactiveProjectRepository.findAllByKeyIn(unresolvedKeys);
+                    return Flux.fromIterable(projects).concatWith(projectsByKeys);
+                })
+                .doOnNext(projectKeyCache::put);
+    }
+}
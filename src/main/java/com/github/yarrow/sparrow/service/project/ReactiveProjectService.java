@@ -0,0 +1,28 @@
+package com.github.yarrow.sparrow.service.project;
+
+import com.github.yarrow.sparrow.domain.ProjectField;
+import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
+import java.util.Collection;
+import java.util.Set;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of ProjectService used by the reactive profile
+ */
+public interface ReactiveProjectService {
+
+    Mono<ProjectResponse> saveProject(CreateProjectRequest request);
+
+    Mono<Collection<ProjectShortResponse>> getUserProjects();
+
+    Mono<ProjectResponse> getProjectByIdOrKey(String projectIdOrKey, Set<ProjectField> fields);
+
+    Mono<ProjectResponse> updateProjectByIdOrKey(String projectId, UpdateProjectRequest request);
+
+    Mono<Void> addProjectMembers(String projectIdOrKey, Collection<String> userIds);
+
+    Mono<Void> removeProjectMembers(String projectIdOrKey, Collection<String> userIds);
+}
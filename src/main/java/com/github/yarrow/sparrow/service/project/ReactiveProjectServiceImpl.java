@@ -0,0 +1,178 @@
+package com.github.yarrow.sparrow.service.project;
+
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.ProjectField;
+import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectShortResponse;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.mapper.project.ProjectMapper;
+import com.github.yarrow.sparrow.mapper.user.UserMapper;
+import com.github.yarrow.sparrow.repository.ReactiveProjectRepository;
+import com.github.yarrow.sparrow.repository.ReactiveUserRepository;
+import com.github.yarrow.sparrow.service.user.ReactiveUserAccessService;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import com.github.yarrow.sparrow.util.SecurityUtil;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Follows ProjectServiceImpl, but there is no transaction around the calls, so everything the write depends on
+ * is validated before the write itself
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveProjectServiceImpl implements ReactiveProjectService {
+
+    private final ReactiveProjectRepository reactiveProjectRepository;
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final ReactiveUserAccessService reactiveUserAccessService;
+    private final ReactiveProjectAccessService reactiveProjectAccessService;
+    private final ProjectMapper projectMapper;
+    private final UserMapper userMapper;
+    private final ProjectKeyCache projectKeyCache;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final Clock clock;
+
+    @Override
+    public Mono<ProjectResponse> saveProject(CreateProjectRequest request) {
+        var project = projectMapper.createProjectRequestToProject(request);
+
+        //Capitalizing key
+        project.setKey(project.getKey().toUpperCase());
+
+        //Adding current user to created project
+        return SecurityUtil.getReactiveCurrentUserId()
+                .flatMap(currentUserId -> {
+                    project.setMemberUserIds(List.of(currentUserId));
+                    return reactiveProjectRepository.save(project);
+                })
+                .doOnNext(savedProject -> {
+                    //Key might be cached for a project which doesn't exist anymore
+                    projectKeyCache.invalidate(savedProject.getKey());
+                    projectMembershipCache.invalidate(savedProject.getMemberUserIds());
+                })
+                .flatMap(this::toResponse);
+    }
+
+    @Override
+    public Mono<Collection<ProjectShortResponse>> getUserProjects() {
+        return SecurityUtil.getReactiveCurrentUserId()
+                .flatMapMany(reactiveProjectRepository::findAllByMemberUserIdsContains)
+                .collectList()
+                .map(projectMapper::projectsToProjectShortResponses);
+    }
+
+    @Override
+    public Mono<ProjectResponse> getProjectByIdOrKey(String projectIdOrKey, Set<ProjectField> fields) {
+        return reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey)
+                .flatMap(project -> toResponse(project, fields));
+    }
+
+    @Override
+    public Mono<ProjectResponse> updateProjectByIdOrKey(String projectIdOrKey, UpdateProjectRequest request) {
+        var memberUserIds = request.getMemberUserIds();
+        var membersValidation = memberUserIds == null
+                ? Mono.<Void>empty()
+                : reactiveUserAccessService.validatePresenceOrThrow(memberUserIds);
+
+        //noinspection DuplicatedCode: same fields and update approach with ProjectServiceImpl
+        return reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey)
+                .flatMap(project -> membersValidation.thenReturn(project))
+                .flatMap(project -> {
+                    var name = request.getName();
+                    if (StringUtils.isNotBlank(name)) {
+                        project.setName(name);
+                    }
+                    var description = request.getDescription();
+                    if (StringUtils.isNotBlank(description)) {
+                        project.setDescription(description);
+                    }
+                    if (memberUserIds == null) {
+                        return reactiveProjectRepository.save(project);
+                    }
+                    var previousMemberUserIds = project.getMemberUserIds();
+                    project.setMemberUserIds(memberUserIds);
+                    //Both removed and added members are affected, once the write is done
+                    return reactiveProjectRepository.save(project).doOnNext(savedProject -> {
+                        projectMembershipCache.invalidate(previousMemberUserIds);
+                        projectMembershipCache.invalidate(memberUserIds);
+                    });
+                })
+                .flatMap(this::toResponse);
+    }
+
+    /**
+     * Only added users are validated, the rest of the members are not read
+     */
+    @Override
+    public Mono<Void> addProjectMembers(String projectIdOrKey, Collection<String> userIds) {
+        return reactiveUserAccessService.validatePresenceOrThrow(userIds)
+                .then(SecurityUtil.getReactiveCurrentUserId())
+                .flatMap(currentUserId -> reactiveProjectRepository.addMemberUserIds(
+                        projectIdOrKey,
+                        currentUserId,
+                        userIds,
+                        clock.instant()
+                ))
+                .flatMap(updated -> membersUpdated(updated, userIds));
+    }
+
+    @Override
+    public Mono<Void> removeProjectMembers(String projectIdOrKey, Collection<String> userIds) {
+        return SecurityUtil.getReactiveCurrentUserId()
+                .flatMap(currentUserId -> reactiveProjectRepository.removeMemberUserIds(
+                        projectIdOrKey,
+                        currentUserId,
+                        userIds,
+                        clock.instant()
+                ))
+                .flatMap(updated -> membersUpdated(updated, userIds));
+    }
+
+    private Mono<Void> membersUpdated(boolean updated, Collection<String> userIds) {
+        if (!updated) {
+            return Mono.error(ErrorFactory.get().projectNotFound());
+        }
+        projectMembershipCache.invalidate(userIds);
+        return Mono.empty();
+    }
+
+    /**
+     * Same as ProjectMapper does, members are fetched only if they are requested
+     */
+    private Mono<ProjectResponse> toResponse(Project project, Set<ProjectField> fields) {
+        return FieldsUtil.withFields(
+                ProjectField.class,
+                fields,
+                ProjectField.MEMBER_USERS,
+                () -> toResponse(project),
+                () -> Mono.just(projectMapper.projectToProjectResponseWithoutMembers(project)),
+                response -> response.map(r -> ProjectMapper.retainFields(r, fields))
+        );
+    }
+
+    /**
+     * Members are fetched with one query, same as in UserMapperEnricher
+     */
+    private Mono<ProjectResponse> toResponse(Project project) {
+        var response = projectMapper.projectToProjectResponseWithoutMembers(project);
+        if (project.getMemberUserIds() == null) {
+            return Mono.just(response);
+        }
+        return reactiveUserRepository.findAllById(project.getMemberUserIds())
+                .map(userMapper::userToUserShortResponse)
+                .collectList()
+                .map(memberUsers -> response.toBuilder().memberUsers(memberUsers).build());
+    }
+}
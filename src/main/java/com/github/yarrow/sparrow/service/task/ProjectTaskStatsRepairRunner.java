@@ -0,0 +1,46 @@
+package com.github.yarrow.sparrow.service.task;
+
+import com.github.yarrow.sparrow.config.mongo.TransactionRetry;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.github.yarrow.sparrow.repository.ProjectTaskStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes task counters of every project from scratch on start-up, e.g. after the counters were introduced
+ * Every project is recomputed and replaced in its own transaction, so a delta of a concurrent task write
+ * either conflicts with the replacement and is retried or is applied on top of it, but never gets lost
+ * Only ids of projects are read, one cursor batch at a time
+ */
+@Slf4j
+@Profile("stats-repair")
+@Component
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ProjectTaskStatsRepairRunner implements ApplicationRunner {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectTaskStatsRepository projectTaskStatsRepository;
+    private final TransactionRetry transactionRetry;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var repaired = 0L;
+        try (var projects = projectRepository.streamIdsBy()) {
+            var projectIds = projects.map(Project::getId).iterator();
+            while (projectIds.hasNext()) {
+                var projectId = projectIds.next();
+                transactionRetry.executeWithoutResult(() ->
+                        projectTaskStatsRepository.save(projectTaskStatsRepository.computeByProjectId(projectId))
+                );
+                repaired++;
+            }
+        }
+        log.info("Task stats repair is finished, {} projects recomputed", repaired);
+    }
+}
@@ -0,0 +1,44 @@
+package com.github.yarrow.sparrow.service.task;
+
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.repository.ReactiveTaskRepository;
+import com.github.yarrow.sparrow.service.access.AbstractReactiveAccessService;
+import com.github.yarrow.sparrow.util.SecurityUtil;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveTaskAccessService extends AbstractReactiveAccessService<Task, String, ApplicationError> {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+
+    @Override
+    public Function<Collection<String>, Flux<Task>> defaultAccessFunction() {
+        return reactiveTaskRepository::findAllById;
+    }
+
+    /**
+     * Membership is always checked with the lookup aggregation, as the membership cache is loaded with blocking calls
+     */
+    @Override
+    public Function<Collection<String>, Flux<Task>> securedAccessFunction() {
+        return taskIds -> SecurityUtil.getReactiveCurrentUserId().flatMapMany(currentUserId ->
+                reactiveTaskRepository.findAllByIdInAndProjectMemberUserIdsContains(taskIds, currentUserId)
+        );
+    }
+
+    @Override
+    public Supplier<ApplicationError> notFoundExceptionSupplier() {
+        return ErrorFactory.get()::taskNotFound;
+    }
+}
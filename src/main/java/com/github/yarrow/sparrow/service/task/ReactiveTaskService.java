@@ -0,0 +1,54 @@
+package com.github.yarrow.sparrow.service.task;
+
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectBoardResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectStatsResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskListResponse;
+import com.github.yarrow.sparrow.dto.response.TaskPageResponse;
+import com.github.yarrow.sparrow.dto.response.TaskResponse;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of TaskService used by the reactive profile
+ */
+public interface ReactiveTaskService {
+
+    Mono<TaskResponse> createTask(CreateTaskRequest request);
+
+    Mono<TaskBatchResponse> createTasks(List<CreateTaskRequest> requests);
+
+    Mono<TaskPageResponse> getTasksByProjectId(
+            String projectId,
+            TaskFilter filter,
+            String cursor,
+            int limit,
+            Set<TaskField> fields
+    );
+
+    Mono<TaskPageResponse> searchTasks(String text, String cursor, int limit, Set<TaskField> fields);
+
+    Flux<TaskResponse> streamTasksByProjectIdOrKey(String projectIdOrKey);
+
+    Mono<ProjectBoardResponse> getProjectBoard(String projectIdOrKey, int columnLimit);
+
+    Mono<ProjectStatsResponse> getProjectStats(String projectIdOrKey);
+
+    Mono<TaskResponse> getTaskById(String taskId, Set<TaskField> fields);
+
+    Mono<TaskListResponse> getTasksByIds(Collection<String> taskIds, boolean partial, Set<TaskField> fields);
+
+    Mono<TaskResponse> updateTaskById(String taskId, UpdateTaskRequest request);
+
+    Mono<TaskBatchResponse> updateTasks(List<TaskUpdateItemRequest> requests);
+
+    Mono<TaskBatchResponse> updateTasksByProjectId(String projectIdOrKey, TaskFilter filter, UpdateTaskRequest patch);
+}
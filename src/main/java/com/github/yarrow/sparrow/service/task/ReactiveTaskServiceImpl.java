@@ -0,0 +1,374 @@
+package com.github.yarrow.sparrow.service.task;
+
+import static com.github.yarrow.sparrow.util.Constants.Batch.MAX_TASKS;
+import static com.github.yarrow.sparrow.util.Constants.Export.CHUNK_SIZE;
+import static com.github.yarrow.sparrow.util.Constants.Search.MAX_OFFSET;
+
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectBoardResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectStatsResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskListResponse;
+import com.github.yarrow.sparrow.dto.response.TaskPageResponse;
+import com.github.yarrow.sparrow.dto.response.TaskResponse;
+import com.github.yarrow.sparrow.dto.response.UserShortResponse;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.mapper.task.TaskMapper;
+import com.github.yarrow.sparrow.mapper.user.UserMapper;
+import com.github.yarrow.sparrow.repository.ReactiveProjectTaskStatsRepository;
+import com.github.yarrow.sparrow.repository.ReactiveTaskRepository;
+import com.github.yarrow.sparrow.service.project.ReactiveProjectAccessService;
+import com.github.yarrow.sparrow.service.user.ReactiveUserAccessService;
+import com.github.yarrow.sparrow.util.CursorUtil;
+import com.github.yarrow.sparrow.util.FieldsUtil;
+import com.github.yarrow.sparrow.util.SecurityUtil;
+import jakarta.validation.Validator;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Follows TaskServiceImpl, but there is no transaction around the calls, so everything the write depends on
+ * is validated before the write itself
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveTaskServiceImpl implements ReactiveTaskService {
+
+    private final ReactiveTaskRepository reactiveTaskRepository;
+    private final ReactiveProjectTaskStatsRepository reactiveProjectTaskStatsRepository;
+    private final TaskMapper taskMapper;
+    private final UserMapper userMapper;
+    private final ReactiveUserAccessService reactiveUserAccessService;
+    private final ReactiveProjectAccessService reactiveProjectAccessService;
+    private final ReactiveTaskAccessService reactiveTaskAccessService;
+    private final Validator validator;
+
+    @Override
+    public Mono<TaskResponse> createTask(CreateTaskRequest request) {
+        var task = taskMapper.createTaskRequestToTask(request);
+
+        //Security: ensuring that project is accessible by user
+        return reactiveProjectAccessService.validatePresenceOrThrowSecured(request.getProjectId())
+                .then(validateAssignee(request.getAssigneeUserId()))
+                .then(SecurityUtil.getReactiveCurrentUserId())
+                .flatMap(currentUserId -> {
+                    if (request.getAssigneeUserId() == null) {
+                        task.setAssigneeUserId(currentUserId);
+                    }
+                    return reactiveTaskRepository.save(task);
+                })
+                .flatMap(saved -> reactiveProjectTaskStatsRepository.incrementByTaskChange(null, saved)
+                        .thenReturn(saved)
+                )
+                .flatMap(this::toResponse);
+    }
+
+    @Override
+    public Mono<TaskBatchResponse> createTasks(List<CreateTaskRequest> requests) {
+        //Security: only projects accessible by user are found, tasks of other projects are rejected
+        return Mono.zip(
+                        reactiveProjectAccessService.getPresentSecured(TaskBatch.projectIdsOrKeys(requests)),
+                        reactiveUserAccessService.getPresent(TaskBatch.assigneeUserIds(requests)),
+                        SecurityUtil.getReactiveCurrentUserId()
+                )
+                .map(found -> TaskBatch.of(
+                        requests,
+                        found.getT1(),
+                        found.getT2(),
+                        found.getT3(),
+                        taskMapper,
+                        validator
+                ))
+                .flatMap(batch -> reactiveTaskRepository.insertAllUnordered(batch.getTasks())
+                        .flatMap(failedIds -> {
+                            var createdTasks = batch.getCreatedTasks(failedIds);
+                            return reactiveProjectTaskStatsRepository.incrementByTaskChanges(List.of(), createdTasks)
+                                    .then(toResponses(createdTasks))
+                                    .map(responses -> batch.toResponse(failedIds, responses));
+                        })
+                );
+    }
+
+    @Override
+    public Mono<TaskPageResponse> getTasksByProjectId(
+            String projectIdOrKey,
+            TaskFilter filter,
+            String cursor,
+            int limit,
+            Set<TaskField> fields
+    ) {
+        //Querying one extra task to find out if there is a next page
+        var queryLimit = Limit.of(limit + 1);
+
+        return Mono.fromCallable(() -> {
+                    TaskServiceImpl.validateFilter(filter);
+                    return Optional.ofNullable(TaskServiceImpl.decodeCursor(cursor, filter.getSort()));
+                })
+                //Security: ensuring that project is accessible by user
+                .flatMap(after -> reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey)
+                        .flatMap(project -> reactiveTaskRepository.findAllByProjectIdAndFilter(
+                                project.getId(),
+                                filter,
+                                after.orElse(null),
+                                queryLimit,
+                                fields
+                        ).collectList())
+                )
+                .flatMap(tasks -> {
+                    var nextCursor = tasks.size() > limit
+                            ? TaskServiceImpl.encodeCursor(tasks.get(limit - 1), filter.getSort())
+                            : null;
+                    var page = tasks.size() > limit ? tasks.subList(0, limit) : tasks;
+                    return toResponses(page, fields).map(items -> TaskPageResponse.builder()
+                            .items(items)
+                            .nextCursor(nextCursor)
+                            .build()
+                    );
+                });
+    }
+
+    @Override
+    public Mono<TaskPageResponse> searchTasks(String text, String cursor, int limit, Set<TaskField> fields) {
+        //Querying one extra task to find out if there is a next page
+        var queryLimit = Limit.of(limit + 1);
+
+        return Mono.fromCallable(() -> cursor == null ? 0L : CursorUtil.decodeOffset(cursor, MAX_OFFSET))
+                .flatMap(offset -> reactiveProjectAccessService.getAccessibleProjectIds()
+                        //Security: only tasks of projects accessible by user are matched
+                        .flatMap(projectIds -> reactiveTaskRepository.searchByProjectIdIn(
+                                text,
+                                projectIds,
+                                offset,
+                                queryLimit,
+                                fields
+                        ).collectList())
+                        .flatMap(tasks -> {
+                            var nextCursor = tasks.size() > limit
+                                    ? TaskServiceImpl.encodeSearchCursor(offset, limit)
+                                    : null;
+                            var page = tasks.size() > limit ? tasks.subList(0, limit) : tasks;
+                            return toResponses(page, fields).map(items -> TaskPageResponse.builder()
+                                    .items(items)
+                                    .nextCursor(nextCursor)
+                                    .truncated(tasks.size() > limit && nextCursor == null)
+                                    .build()
+                            );
+                        })
+                );
+    }
+
+    /**
+     * Tasks are requested from the cursor with backpressure and mapped in chunks,
+     * so no more than a few chunks of tasks and their assignees are held in memory
+     */
+    @Override
+    public Flux<TaskResponse> streamTasksByProjectIdOrKey(String projectIdOrKey) {
+        //Security: ensuring that project is accessible by user
+        return reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey)
+                .flatMapMany(project -> reactiveTaskRepository.findAllByProjectIdOrderByIdAsc(project.getId()))
+                .buffer(CHUNK_SIZE)
+                .concatMap(this::toResponses)
+                .flatMapIterable(responses -> responses);
+    }
+
+    @Override
+    public Mono<ProjectBoardResponse> getProjectBoard(String projectIdOrKey, int columnLimit) {
+        //Security: ensuring that project is accessible by user
+        return reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey)
+                .flatMap(project -> reactiveTaskRepository.findBoardByProjectId(project.getId(), columnLimit))
+                .flatMap(columns -> {
+                    var tasks = columns.stream()
+                            .flatMap(column -> column.getTasks().stream())
+                            .toList();
+                    return toResponses(tasks).map(responses -> TaskServiceImpl.toBoardResponse(columns, responses));
+                });
+    }
+
+    @Override
+    public Mono<ProjectStatsResponse> getProjectStats(String projectIdOrKey) {
+        //Security: ensuring that project is accessible by user
+        return reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey)
+                .flatMap(project -> reactiveProjectTaskStatsRepository.findById(project.getId())
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                )
+                .map(stats -> TaskServiceImpl.toStatsResponse(stats.orElse(null)));
+    }
+
+    @Override
+    public Mono<TaskResponse> getTaskById(String taskId, Set<TaskField> fields) {
+        return reactiveTaskAccessService.getPresentOrThrowSecured(taskId)
+                .flatMap(task -> toResponses(List.of(task), fields))
+                .map(responses -> responses.getFirst());
+    }
+
+    @Override
+    public Mono<TaskListResponse> getTasksByIds(Collection<String> taskIds, boolean partial, Set<TaskField> fields) {
+        var tasks = partial
+                ? reactiveTaskAccessService.getPresentSecured(taskIds)
+                : reactiveTaskAccessService.getPresentOrThrowSecured(taskIds);
+        return tasks.flatMap(found -> toResponses(found, fields))
+                .map(responses -> TaskServiceImpl.toListResponse(taskIds, responses));
+    }
+
+    /**
+     * Same single findAndModify as in TaskServiceImpl, membership check is folded into its filter
+     * Counters are incremented after the task is written, a failure in between is corrected by the stats repair
+     */
+    @Override
+    public Mono<TaskResponse> updateTaskById(String taskId, UpdateTaskRequest request) {
+        return Mono.fromCallable(() -> TaskServiceImpl.toUpdate(request))
+                .flatMap(update -> validateAssignee(taskId, request.getAssigneeUserId())
+                        //Security: task is updated only if its project is accessible by user
+                        .then(reactiveProjectAccessService.getAccessibleProjectIds())
+                        .flatMap(projectIds -> reactiveTaskRepository.updateByIdAndProjectIdIn(
+                                taskId,
+                                projectIds,
+                                update
+                        ))
+                )
+                .switchIfEmpty(Mono.error(ErrorFactory.get()::taskNotFound))
+                .flatMap(previous -> {
+                    var task = TaskServiceImpl.applyUpdate(previous, request);
+                    return reactiveProjectTaskStatsRepository.incrementByTaskChange(previous, task).thenReturn(task);
+                })
+                .flatMap(this::toResponse);
+    }
+
+    /**
+     * Same single secured lookup and unordered bulk write as in TaskServiceImpl
+     * Counters are incremented after the tasks are written, a failure in between is corrected by the stats repair
+     */
+    @Override
+    public Mono<TaskBatchResponse> updateTasks(List<TaskUpdateItemRequest> requests) {
+        //Security: only tasks of projects accessible by user are found, updates of other tasks are rejected
+        return reactiveTaskAccessService.getPresentSecured(TaskUpdateBatch.taskIds(requests))
+                .flatMap(tasks -> updateTasks(requests, tasks));
+    }
+
+    @Override
+    public Mono<TaskBatchResponse> updateTasksByProjectId(
+            String projectIdOrKey,
+            TaskFilter filter,
+            UpdateTaskRequest patch
+    ) {
+        //Querying one extra task to find out if there are too many of them
+        var queryLimit = Limit.of(MAX_TASKS + 1);
+
+        return Mono.fromRunnable(() -> TaskServiceImpl.validateFilter(filter))
+                //Security: ensuring that project is accessible by user
+                .then(reactiveProjectAccessService.getPresentOrThrowSecured(projectIdOrKey))
+                .flatMap(project -> reactiveTaskRepository.findAllByProjectIdAndFilter(
+                        project.getId(),
+                        filter,
+                        null,
+                        queryLimit
+                ).collectList())
+                .flatMap(tasks -> tasks.size() > MAX_TASKS
+                        ? Mono.<TaskBatchResponse>error(ErrorFactory.get().tooManyTasksMatched())
+                        : updateTasks(TaskUpdateBatch.withPatch(tasks, patch), tasks)
+                );
+    }
+
+    /**
+     * Tasks are written only if they are the same as read, so counters get the delta of the written ones only
+     */
+    private Mono<TaskBatchResponse> updateTasks(List<TaskUpdateItemRequest> requests, Collection<Task> tasks) {
+        return reactiveUserAccessService.getPresent(TaskUpdateBatch.assigneeUserIds(requests))
+                .map(assignees -> TaskUpdateBatch.of(requests, tasks, assignees, validator))
+                .flatMap(batch -> reactiveTaskRepository.updateAllUnchanged(
+                                batch.getPreviousByTaskId(),
+                                batch.getUpdateByTaskId()
+                        )
+                        .flatMap(changedIds -> {
+                            var updatedTasks = batch.getUpdatedTasks(changedIds);
+                            return reactiveProjectTaskStatsRepository.incrementByTaskChanges(
+                                            batch.getPreviousTasks(changedIds),
+                                            updatedTasks
+                                    )
+                                    .then(toResponses(updatedTasks))
+                                    .map(responses -> batch.toResponse(changedIds, responses));
+                        })
+                );
+    }
+
+    private Mono<Void> validateAssignee(String assigneeUserId) {
+        return assigneeUserId == null
+                ? Mono.empty()
+                : reactiveUserAccessService.validatePresenceOrThrow(assigneeUserId);
+    }
+
+    /**
+     * Same as in TaskServiceImpl, missing assignee is reported only for a task accessible by user
+     */
+    private Mono<Void> validateAssignee(String taskId, String assigneeUserId) {
+        if (assigneeUserId == null) {
+            return Mono.empty();
+        }
+        return reactiveUserAccessService.getPresent(List.of(assigneeUserId))
+                .flatMap(assignees -> assignees.isEmpty()
+                        ? reactiveTaskAccessService.validatePresenceOrThrowSecured(taskId)
+                                .then(Mono.<Void>error(ErrorFactory.get()::userNotFound))
+                        : Mono.<Void>empty()
+                );
+    }
+
+    private Mono<TaskResponse> toResponse(Task task) {
+        return toResponses(List.of(task)).map(responses -> responses.getFirst());
+    }
+
+    /**
+     * Same as TaskMapper does, assignees are fetched only if they are requested
+     */
+    private Mono<List<TaskResponse>> toResponses(Collection<Task> tasks, Set<TaskField> fields) {
+        return FieldsUtil.withFields(
+                TaskField.class,
+                fields,
+                TaskField.ASSIGNEE_USER,
+                () -> toResponses(tasks),
+                () -> Mono.just(tasks.stream().map(taskMapper::taskToTaskResponseWithoutAssignee).toList()),
+                responses -> responses.map(items -> TaskMapper.retainFields(items, fields))
+        );
+    }
+
+    /**
+     * Assignees are fetched with one query, same as in TaskMapperDecorator
+     */
+    private Mono<List<TaskResponse>> toResponses(Collection<Task> tasks) {
+        var assigneeUserIds = tasks.stream()
+                .map(Task::getAssigneeUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return reactiveUserAccessService.getPresentOrThrow(assigneeUserIds).map(assignees -> {
+            var assigneeShortResponseByUserId = assignees.stream()
+                    .map(userMapper::userToUserShortResponse)
+                    .collect(Collectors.toMap(UserShortResponse::getId, Function.identity()));
+
+            return tasks.stream()
+                    .map(t -> taskMapper.taskToTaskResponseWithoutAssignee(t).toBuilder()
+                            .assigneeUser(assigneeShortResponseByUserId.get(t.getAssigneeUserId()))
+                            .build()
+                    )
+                    .toList();
+        });
+    }
+}
@@ -1,16 +1,23 @@
 package com.github.yarrow.sparrow.service.task;
 
+import com.github.yarrow.sparrow.config.property.AccessProperties;
 import com.github.yarrow.sparrow.domain.Project;
 import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskField;
 import com.github.yarrow.sparrow.exception.ApplicationError;
 import com.github.yarrow.sparrow.exception.ErrorFactory;
 import com.github.yarrow.sparrow.repository.ProjectRepository;
 import com.github.yarrow.sparrow.repository.TaskRepository;
 import com.github.yarrow.sparrow.service.access.AbstractAccessService;
+import com.github.yarrow.sparrow.service.project.ProjectMembershipCache;
+import com.github.yarrow.sparrow.util.FieldsUtil;
 import com.github.yarrow.sparrow.util.SecurityUtil;
 import com.google.common.collect.MultimapBuilder;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -24,6 +31,8 @@ public class TaskAccessService extends AbstractAccessService<Task, String, Appli
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final AccessProperties accessProperties;
 
     @Override
     public Function<Collection<String>, Collection<Task>> defaultAccessFunction() {
@@ -32,6 +41,34 @@ public class TaskAccessService extends AbstractAccessService<Task, String, Appli
 
     @Override
     public Function<Collection<String>, Collection<Task>> securedAccessFunction() {
+        return switch (accessProperties.getSecuredTaskQuery()) {
+            case SEPARATE -> separateQueriesAccessFunction();
+            case LOOKUP -> taskIds -> taskRepository.findAllByIdInAndProjectMemberUserIdsContains(
+                    taskIds,
+                    SecurityUtil.getCurrentUserId()
+            );
+            case MEMBERSHIP_CACHE -> membershipCacheAccessFunction();
+        };
+    }
+
+    private Function<Collection<String>, Collection<Task>> membershipCacheAccessFunction() {
+        return taskIds -> {
+            var tasks = taskRepository.findAllById(taskIds);
+
+            var currentUserId = SecurityUtil.getCurrentUserId();
+            var cachedProjectIds = projectMembershipCache.getProjectIds(currentUserId);
+            //Membership might be added after it was cached, so memberships are reloaded once
+            var accessibleProjectIds = tasks.stream().allMatch(t -> cachedProjectIds.contains(t.getProjectId()))
+                    ? cachedProjectIds
+                    : projectMembershipCache.reloadProjectIds(currentUserId);
+
+            return tasks.stream()
+                    .filter(t -> accessibleProjectIds.contains(t.getProjectId()))
+                    .toList();
+        };
+    }
+
+    private Function<Collection<String>, Collection<Task>> separateQueriesAccessFunction() {
         return taskIds -> {
             var tasks = taskRepository.findAllById(taskIds);
             var tasksByProjectId = MultimapBuilder.hashKeys().arrayListValues().<String, Task>build();
@@ -55,6 +92,66 @@ public class TaskAccessService extends AbstractAccessService<Task, String, Appli
         };
     }
 
+    /**
+     * Tasks with the given fields only, their projects are read for the membership check even if not requested
+     * Partially read tasks are not kept in the identity map, so they are read and checked on every call
+     */
+    public Collection<Task> getPresentSecured(Collection<String> taskIds, Set<TaskField> fields) {
+        if (FieldsUtil.isAll(TaskField.class, fields)) {
+            return getPresentSecured(taskIds);
+        }
+        var tasks = taskRepository.findAllById(taskIds, fields);
+
+        var cachedProjectIds = getAccessibleProjectIds();
+        var accessibleProjectIds = tasks.stream().allMatch(t -> cachedProjectIds.contains(t.getProjectId()))
+                ? cachedProjectIds
+                : reloadAccessibleProjectIds(cachedProjectIds).orElse(cachedProjectIds);
+
+        return tasks.stream()
+                .filter(t -> accessibleProjectIds.contains(t.getProjectId()))
+                .toList();
+    }
+
+    public Collection<Task> getPresentOrThrowSecured(Collection<String> taskIds, Set<TaskField> fields) {
+        var tasks = getPresentSecured(taskIds, fields);
+        if (tasks.size() < Set.copyOf(taskIds).size()) {
+            throw notFoundExceptionSupplier().get();
+        }
+        return tasks;
+    }
+
+    /**
+     * Ids of projects accessible by user, for checks which are folded into the queries of tasks
+     * Only MEMBERSHIP_CACHE serves them from the cache, so memberships changed by other instances are seen once the
+     * cache TTL expires. Other modes query memberships every time
+     */
+    public Set<String> getAccessibleProjectIds() {
+        var currentUserId = SecurityUtil.getCurrentUserId();
+        if (accessProperties.getSecuredTaskQuery() == AccessProperties.SecuredTaskQuery.MEMBERSHIP_CACHE) {
+            return projectMembershipCache.getProjectIds(currentUserId);
+        }
+        return projectRepository.findIdsByMemberUserIdsContains(currentUserId).stream()
+                .map(Project::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Cached memberships might miss recent ones, so they are reloaded once if a check on them fails
+     * Empty if memberships weren't cached or reloaded ones are the same
+     */
+    public Optional<Set<String>> reloadAccessibleProjectIds(Set<String> accessibleProjectIds) {
+        if (accessProperties.getSecuredTaskQuery() != AccessProperties.SecuredTaskQuery.MEMBERSHIP_CACHE) {
+            return Optional.empty();
+        }
+        var reloadedProjectIds = projectMembershipCache.reloadProjectIds(SecurityUtil.getCurrentUserId());
+        return reloadedProjectIds.equals(accessibleProjectIds) ? Optional.empty() : Optional.of(reloadedProjectIds);
+    }
+
+    @Override
+    protected Collection<String> identifiers(Task task) {
+        return List.of(task.getId());
+    }
+
     @Override
     public Supplier<ApplicationError> notFoundExceptionSupplier() {
         return ErrorFactory.get()::taskNotFound;
@@ -0,0 +1,136 @@
+package com.github.yarrow.sparrow.service.task;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ErrorResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchItemResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskResponse;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.mapper.task.TaskMapper;
+import com.github.yarrow.sparrow.util.ValidationUtil;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Tasks of a batch by index of their requests, requests rejected before the write have an error instead
+ * Ids are generated upfront, so tasks failed by an unordered bulk insert are told apart by their ids
+ */
+class TaskBatch {
+
+    private final int size;
+    private final Map<Integer, Task> taskByIndex = new LinkedHashMap<>();
+    private final Map<Integer, ErrorResponse> errorByIndex = new HashMap<>();
+
+    private TaskBatch(int size) {
+        this.size = size;
+    }
+
+    static Set<String> projectIdsOrKeys(List<CreateTaskRequest> requests) {
+        return requests.stream()
+                .map(CreateTaskRequest::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    static Set<String> assigneeUserIds(List<CreateTaskRequest> requests) {
+        return requests.stream()
+                .map(CreateTaskRequest::getAssigneeUserId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Projects and assignees are the ones present among the requested, queried once for the whole batch
+     */
+    static TaskBatch of(
+            List<CreateTaskRequest> requests,
+            Collection<Project> projects,
+            Collection<User> assignees,
+            String currentUserId,
+            TaskMapper taskMapper,
+            Validator validator
+    ) {
+        var projectByIdOrKey = new HashMap<String, Project>();
+        for (var project : projects) {
+            projectByIdOrKey.put(project.getId(), project);
+            projectByIdOrKey.put(project.getKey(), project);
+        }
+        var assigneeUserIds = assignees.stream().map(User::getId).collect(Collectors.toSet());
+
+        var batch = new TaskBatch(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var validationError = ValidationUtil.validate(validator, request);
+            if (validationError != null) {
+                batch.errorByIndex.put(i, validationError.toResponse());
+                continue;
+            }
+            var project = projectByIdOrKey.get(request.getProjectId());
+            if (project == null) {
+                batch.errorByIndex.put(i, ErrorFactory.get().projectNotFound().toResponse());
+                continue;
+            }
+            if (request.getAssigneeUserId() != null && !assigneeUserIds.contains(request.getAssigneeUserId())) {
+                batch.errorByIndex.put(i, ErrorFactory.get().userNotFound().toResponse());
+                continue;
+            }
+
+            var task = taskMapper.createTaskRequestToTask(request);
+            task.setId(UuidCreator.getTimeOrderedEpoch().toString());
+            task.setProjectId(project.getId());
+            if (request.getAssigneeUserId() == null) {
+                task.setAssigneeUserId(currentUserId);
+            }
+            batch.taskByIndex.put(i, task);
+        }
+        return batch;
+    }
+
+    /**
+     * Tasks to be written in the order of their requests
+     */
+    List<Task> getTasks() {
+        return new ArrayList<>(taskByIndex.values());
+    }
+
+    List<Task> getCreatedTasks(Set<String> failedIds) {
+        return taskByIndex.values().stream()
+                .filter(task -> !failedIds.contains(task.getId()))
+                .toList();
+    }
+
+    TaskBatchResponse toResponse(Set<String> failedIds, Collection<TaskResponse> createdTaskResponses) {
+        var taskResponseById = createdTaskResponses.stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        var items = new ArrayList<TaskBatchItemResponse>(size);
+        for (int i = 0; i < size; i++) {
+            var item = TaskBatchItemResponse.builder().index(i);
+            var task = taskByIndex.get(i);
+            if (task == null) {
+                item.error(errorByIndex.get(i));
+            } else if (failedIds.contains(task.getId())) {
+                item.error(ErrorFactory.get().internalServerError().toResponse());
+            } else {
+                item.task(taskResponseById.get(task.getId()));
+            }
+            items.add(item.build());
+        }
+        return TaskBatchResponse.builder()
+                .items(items)
+                .build();
+    }
+}
@@ -1,17 +1,50 @@
 package com.github.yarrow.sparrow.service.task;
 
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
 import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ProjectBoardResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectStatsResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskListResponse;
+import com.github.yarrow.sparrow.dto.response.TaskPageResponse;
 import com.github.yarrow.sparrow.dto.response.TaskResponse;
 import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface TaskService {
 
     TaskResponse createTask(CreateTaskRequest request);
 
-    Collection<TaskResponse> getTasksByProjectId(String projectId);
+    TaskBatchResponse createTasks(List<CreateTaskRequest> requests);
 
-    TaskResponse getTaskById(String taskId);
+    TaskPageResponse getTasksByProjectId(
+            String projectId,
+            TaskFilter filter,
+            String cursor,
+            int limit,
+            Set<TaskField> fields
+    );
+
+    TaskPageResponse searchTasks(String text, String cursor, int limit, Set<TaskField> fields);
+
+    Stream<TaskResponse> streamTasksByProjectIdOrKey(String projectIdOrKey);
+
+    ProjectBoardResponse getProjectBoard(String projectIdOrKey, int columnLimit);
+
+    ProjectStatsResponse getProjectStats(String projectIdOrKey);
+
+    TaskResponse getTaskById(String taskId, Set<TaskField> fields);
+
+    TaskListResponse getTasksByIds(Collection<String> taskIds, boolean partial, Set<TaskField> fields);
 
     TaskResponse updateTaskById(String taskId, UpdateTaskRequest request);
+
+    TaskBatchResponse updateTasks(List<TaskUpdateItemRequest> requests);
+
+    TaskBatchResponse updateTasksByProjectId(String projectIdOrKey, TaskFilter filter, UpdateTaskRequest patch);
 }
@@ -1,105 +1,501 @@
 package com.github.yarrow.sparrow.service.task;
 
+import static com.github.yarrow.sparrow.util.Constants.Batch.MAX_TASKS;
+import static com.github.yarrow.sparrow.util.Constants.Export.CHUNK_SIZE;
+import static com.github.yarrow.sparrow.util.Constants.Search.MAX_OFFSET;
+
+import com.github.yarrow.sparrow.config.mongo.TransactionRetry;
+import com.github.yarrow.sparrow.domain.ProjectTaskStats;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskBoardColumn;
+import com.github.yarrow.sparrow.domain.TaskCounter;
+import com.github.yarrow.sparrow.domain.TaskField;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskSort;
+import com.github.yarrow.sparrow.domain.TaskStatus;
 import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.BoardColumnResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectBoardResponse;
+import com.github.yarrow.sparrow.dto.response.ProjectStatsResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskCounterResponse;
+import com.github.yarrow.sparrow.dto.response.TaskListResponse;
+import com.github.yarrow.sparrow.dto.response.TaskPageResponse;
 import com.github.yarrow.sparrow.dto.response.TaskResponse;
 import com.github.yarrow.sparrow.exception.ErrorFactory;
 import com.github.yarrow.sparrow.mapper.task.TaskMapper;
+import com.github.yarrow.sparrow.repository.ProjectTaskStatsRepository;
 import com.github.yarrow.sparrow.repository.TaskRepository;
+import com.github.yarrow.sparrow.service.access.RequestIdentityMap;
 import com.github.yarrow.sparrow.service.project.ProjectAccessService;
 import com.github.yarrow.sparrow.service.user.UserAccessService;
+import com.github.yarrow.sparrow.util.CursorUtil;
 import com.github.yarrow.sparrow.util.SecurityUtil;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class TaskServiceImpl implements TaskService {
 
     private final TaskRepository taskRepository;
+    private final ProjectTaskStatsRepository projectTaskStatsRepository;
     private final TaskMapper taskMapper;
     private final UserAccessService userAccessService;
     private final ProjectAccessService projectAccessService;
     private final TaskAccessService taskAccessService;
+    private final RequestIdentityMap requestIdentityMap;
+    private final TransactionRetry transactionRetry;
+    private final Validator validator;
 
-    @Transactional
+    /**
+     * Task and counters of its project are written in one transaction, retried on a write conflict of the counters
+     */
     @Override
     public TaskResponse createTask(CreateTaskRequest request) {
         //Security: ensuring that project is accessible by user
-        projectAccessService.validatePresenceOrThrowSecured(request.getProjectId());
+        var projectId = projectAccessService.getPresentOrThrowSecured(request.getProjectId()).getId();
 
         var task = taskMapper.createTaskRequestToTask(request);
+        //Project might be referenced by its key, while tasks and counters refer to it by id
+        task.setProjectId(projectId);
         if (request.getAssigneeUserId() == null) {
             var userId = SecurityUtil.getCurrentUserId();
             task.setAssigneeUserId(userId);
         }
 
-        task = taskRepository.save(task);
-        return taskMapper.taskToTaskResponse(task);
+        var created = transactionRetry.execute(() -> {
+            var saved = taskRepository.save(task);
+            projectTaskStatsRepository.incrementByTaskChange(null, saved);
+            return saved;
+        });
+        return taskMapper.taskToTaskResponse(created);
+    }
+
+    /**
+     * Projects and assignees are checked once per distinct id for the whole batch and tasks are written with
+     * unordered bulk inserts. Every chunk is counted in its own transaction, so a failed task doesn't fail the others
+     */
+    @Override
+    public TaskBatchResponse createTasks(List<CreateTaskRequest> requests) {
+        //Security: only projects accessible by user are found, tasks of other projects are rejected
+        var projects = projectAccessService.getPresentSecured(TaskBatch.projectIdsOrKeys(requests));
+        var assignees = userAccessService.getPresent(TaskBatch.assigneeUserIds(requests));
+        var batch = TaskBatch.of(requests, projects, assignees, SecurityUtil.getCurrentUserId(), taskMapper, validator);
+
+        var failedIds = taskRepository.insertAllUnordered(
+                batch.getTasks(),
+                inserted -> projectTaskStatsRepository.incrementByTaskChanges(List.of(), inserted)
+        );
+        var createdTasks = batch.getCreatedTasks(failedIds);
+        return batch.toResponse(failedIds, taskMapper.tasksToTaskResponses(createdTasks));
     }
 
     @Override
-    public Collection<TaskResponse> getTasksByProjectId(String projectId) {
+    public TaskPageResponse getTasksByProjectId(
+            String projectIdOrKey,
+            TaskFilter filter,
+            String cursor,
+            int limit,
+            Set<TaskField> fields
+    ) {
+        validateFilter(filter);
+        var after = decodeCursor(cursor, filter.getSort());
+
         //Security: ensuring that project is accessible by user
-        projectAccessService.validatePresenceOrThrowSecured(projectId);
+        var projectId = projectAccessService.getPresentOrThrowSecured(projectIdOrKey).getId();
+
+        //Querying one extra task to find out if there is a next page
+        var tasks = taskRepository.findAllByProjectIdAndFilter(projectId, filter, after, Limit.of(limit + 1), fields);
 
-        var tasks = taskRepository.findAllByProjectId(projectId);
-        return taskMapper.tasksToTaskResponses(tasks);
+        String nextCursor = null;
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+            nextCursor = encodeCursor(tasks.getLast(), filter.getSort());
+        }
+
+        return TaskPageResponse.builder()
+                .items(taskMapper.tasksToTaskResponses(tasks, fields))
+                .nextCursor(nextCursor)
+                .build();
     }
 
+    /**
+     * Only tasks of projects the user is a member of are scored, one project at a time
+     * Cursor holds the offset of the next page, as pages are ordered by relevance rather than by a task field
+     * Pages end at the bounded offset, a response which leaves out matching tasks past it is marked as truncated
+     */
     @Override
-    public TaskResponse getTaskById(String taskId) {
-        var task = taskAccessService.getPresentOrThrowSecured(taskId);
-        return taskMapper.taskToTaskResponse(task);
+    public TaskPageResponse searchTasks(String text, String cursor, int limit, Set<TaskField> fields) {
+        var offset = cursor == null ? 0 : CursorUtil.decodeOffset(cursor, MAX_OFFSET);
+
+        //Security: only tasks of projects accessible by user are matched
+        var projectIds = taskAccessService.getAccessibleProjectIds();
+
+        //Querying one extra task to find out if there is a next page
+        var tasks = taskRepository.searchByProjectIdIn(text, projectIds, offset, Limit.of(limit + 1), fields);
+
+        String nextCursor = null;
+        var truncated = false;
+        if (tasks.size() > limit) {
+            tasks = tasks.subList(0, limit);
+            nextCursor = encodeSearchCursor(offset, limit);
+            truncated = nextCursor == null;
+        }
+
+        return TaskPageResponse.builder()
+                .items(taskMapper.tasksToTaskResponses(tasks, fields))
+                .nextCursor(nextCursor)
+                .truncated(truncated)
+                .build();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamTasksByProjectIdOrKey(String projectIdOrKey) {
+        //Security: ensuring that project is accessible by user
+        var projectId = projectAccessService.getPresentOrThrowSecured(projectIdOrKey).getId();
+        //Assignees of every chunk would be remembered until the end of the export otherwise
+        requestIdentityMap.close();
+
+        //Mapping in chunks, so no more than a chunk of tasks and their assignees is held in memory
+        var tasks = taskRepository.streamAllByProjectIdOrderByIdAsc(projectId);
+        return Streams.stream(Iterators.partition(tasks.iterator(), CHUNK_SIZE))
+                .flatMap(chunk -> taskMapper.tasksToTaskResponses(chunk).stream())
+                .onClose(tasks::close);
+    }
+
+    /**
+     * Board costs a fixed number of queries: one aggregation for all columns and one query for all assignees
+     */
+    @Override
+    public ProjectBoardResponse getProjectBoard(String projectIdOrKey, int columnLimit) {
+        //Security: ensuring that project is accessible by user
+        var projectId = projectAccessService.getPresentOrThrowSecured(projectIdOrKey).getId();
+
+        var columns = taskRepository.findBoardByProjectId(projectId, columnLimit);
+        var tasks = columns.stream()
+                .flatMap(column -> column.getTasks().stream())
+                .toList();
+        return toBoardResponse(columns, taskMapper.tasksToTaskResponses(tasks));
+    }
+
+    /**
+     * Counters are read from the stats document maintained on task writes, so tasks of the project are not scanned
+     */
+    @Override
+    public ProjectStatsResponse getProjectStats(String projectIdOrKey) {
+        //Security: ensuring that project is accessible by user
+        var projectId = projectAccessService.getPresentOrThrowSecured(projectIdOrKey).getId();
+
+        return toStatsResponse(projectTaskStatsRepository.findById(projectId).orElse(null));
+    }
+
+    @Override
+    public TaskResponse getTaskById(String taskId, Set<TaskField> fields) {
+        var tasks = taskAccessService.getPresentOrThrowSecured(List.of(taskId), fields);
+        return taskMapper.tasksToTaskResponses(tasks, fields).iterator().next();
+    }
+
+    /**
+     * Tasks are checked with a single secured lookup and their assignees are fetched with a single query
+     * Without partial, one missing or inaccessible task fails the whole request the same way as a single task does
+     */
+    @Override
+    public TaskListResponse getTasksByIds(Collection<String> taskIds, boolean partial, Set<TaskField> fields) {
+        var tasks = partial
+                ? taskAccessService.getPresentSecured(taskIds, fields)
+                : taskAccessService.getPresentOrThrowSecured(taskIds, fields);
+        return toListResponse(taskIds, taskMapper.tasksToTaskResponses(tasks, fields));
     }
 
-    @Transactional
+    /**
+     * Changed fields are applied with a single findAndModify, membership check is folded into its filter
+     * Fields which are not present in request are not rewritten, so concurrent updates of different fields are kept
+     * Previous version of the task is returned by the same findAndModify, so counters get the exact delta
+     * in the same transaction, which is retried on a write conflict of the counters
+     */
     @Override
     public TaskResponse updateTaskById(String taskId, UpdateTaskRequest request) {
-        //noinspection DuplicatedCode: similar fields and update approach with Project, but different entities
-        var task = taskAccessService.getPresentOrThrowSecured(taskId);
+        var update = toUpdate(request);
+
+        var assigneeUserId = request.getAssigneeUserId();
+        if (assigneeUserId != null && userAccessService.getPresent(List.of(assigneeUserId)).isEmpty()) {
+            //Security: missing assignee is reported only for a task accessible by user
+            taskAccessService.validatePresenceOrThrowSecured(taskId);
+            throw ErrorFactory.get().userNotFound();
+        }
+
+        //Security: task is updated only if its project is accessible by user
+        var accessibleProjectIds = taskAccessService.getAccessibleProjectIds();
+        var task = transactionRetry.execute(() -> {
+            var previous = taskRepository.updateByIdAndProjectIdIn(taskId, accessibleProjectIds, update)
+                    .or(() -> taskAccessService.reloadAccessibleProjectIds(accessibleProjectIds)
+                            .flatMap(reloadedProjectIds ->
+                                    taskRepository.updateByIdAndProjectIdIn(taskId, reloadedProjectIds, update)
+                            )
+                    )
+                    .orElseThrow(ErrorFactory.get()::taskNotFound);
+            var updated = applyUpdate(previous, request);
+            projectTaskStatsRepository.incrementByTaskChange(previous, updated);
+            return updated;
+        });
+        taskAccessService.forget(taskId);
+        return taskMapper.taskToTaskResponse(task);
+    }
+
+    /**
+     * Tasks are checked with a single secured lookup and written with a single unordered bulk write
+     */
+    @Override
+    public TaskBatchResponse updateTasks(List<TaskUpdateItemRequest> requests) {
+        //Security: only tasks of projects accessible by user are found, updates of other tasks are rejected
+        var tasks = taskAccessService.getPresentSecured(TaskUpdateBatch.taskIds(requests));
+        return updateTasks(requests, tasks);
+    }
+
+    /**
+     * The same patch is applied to every task matching the filter, the number of matched tasks is limited
+     * the same way as the size of a batch
+     */
+    @Override
+    public TaskBatchResponse updateTasksByProjectId(String projectIdOrKey, TaskFilter filter, UpdateTaskRequest patch) {
+        validateFilter(filter);
+
+        //Security: ensuring that project is accessible by user
+        var projectId = projectAccessService.getPresentOrThrowSecured(projectIdOrKey).getId();
+
+        //Querying one extra task to find out if there are too many of them
+        var tasks = taskRepository.findAllByProjectIdAndFilter(projectId, filter, null, Limit.of(MAX_TASKS + 1));
+        if (tasks.size() > MAX_TASKS) {
+            throw ErrorFactory.get().tooManyTasksMatched();
+        }
+        return updateTasks(TaskUpdateBatch.withPatch(tasks, patch), tasks);
+    }
+
+    /**
+     * There is no transaction around the write, so a failed task doesn't fail the others
+     * Tasks are written only if they are the same as read, so counters get the delta of the written ones only,
+     * tasks changed by another request in between get a conflict error
+     * Counters are written right after in a transaction of their own, a failure of it is fixed by the stats repair
+     */
+    private TaskBatchResponse updateTasks(List<TaskUpdateItemRequest> requests, Collection<Task> tasks) {
+        //Assignees kept by updated tasks are mapped in the response, so they are queried along with the new ones
+        userAccessService.prefetch(tasks.stream().map(Task::getAssigneeUserId).filter(Objects::nonNull).toList());
+        var assignees = userAccessService.getPresent(TaskUpdateBatch.assigneeUserIds(requests));
+        var batch = TaskUpdateBatch.of(requests, tasks, assignees, validator);
+
+        var changedIds = taskRepository.updateAllUnchanged(batch.getPreviousByTaskId(), batch.getUpdateByTaskId());
+        batch.getUpdateByTaskId().keySet().forEach(taskAccessService::forget);
+        var updatedTasks = batch.getUpdatedTasks(changedIds);
+        var previousTasks = batch.getPreviousTasks(changedIds);
+        transactionRetry.executeWithoutResult(() ->
+                projectTaskStatsRepository.incrementByTaskChanges(previousTasks, updatedTasks)
+        );
+        return batch.toResponse(changedIds, taskMapper.tasksToTaskResponses(updatedTasks));
+    }
+
+    /**
+     * Update of the fields present in request, assignee presence is validated by the caller
+     */
+    static Update toUpdate(UpdateTaskRequest request) {
+        var assigneeUserId = request.getAssigneeUserId();
+        var nullifyAssignee = request.getNullifyAssigneeUserId();
+        if (nullifyAssignee != null && StringUtils.isNotBlank(assigneeUserId)) {
+            throw ErrorFactory.get().assigneeIdIsNotBlankOnNullify();
+        }
+
+        var update = new Update();
 
         var name = request.getName();
         if (StringUtils.isNotBlank(name)) {
-            task.setName(name);
+            update.set("name", name);
         }
 
         var description = request.getDescription();
         if (StringUtils.isNotBlank(description)) {
-            task.setDescription(description);
+            update.set("description", description);
         }
 
         var status = request.getStatus();
         if (status != null) {
-            task.setStatus(status);
+            update.set("status", status);
         }
 
-        var assigneeUserId = request.getAssigneeUserId();
         if (assigneeUserId != null) {
-            userAccessService.validatePresenceOrThrow(assigneeUserId);
-            task.setAssigneeUserId(assigneeUserId);
+            update.set("assigneeUserId", assigneeUserId);
         }
 
         var storyPoints = request.getStoryPoints();
         if (storyPoints != null) {
-            task.setStoryPoints(storyPoints);
+            update.set("storyPoints", storyPoints);
         }
 
-        var nullifyAssignee = request.getNullifyAssigneeUserId();
-        if (nullifyAssignee != null) {
-            if (StringUtils.isNotBlank(assigneeUserId)) {
-                throw ErrorFactory.get().assigneeIdIsNotBlankOnNullify();
+        if (Boolean.TRUE.equals(nullifyAssignee)) {
+            update.unset("assigneeUserId");
+        }
+        return update;
+    }
+
+    /**
+     * Task as it is after the update built by toUpdate() is applied to its previous version
+     */
+    static Task applyUpdate(Task previous, UpdateTaskRequest request) {
+        var assigneeUserId = request.getAssigneeUserId() != null
+                ? request.getAssigneeUserId()
+                : previous.getAssigneeUserId();
+        return Task.builder()
+                .id(previous.getId())
+                .projectId(previous.getProjectId())
+                .name(StringUtils.isNotBlank(request.getName()) ? request.getName() : previous.getName())
+                .description(StringUtils.isNotBlank(request.getDescription())
+                        ? request.getDescription()
+                        : previous.getDescription()
+                )
+                .status(request.getStatus() != null ? request.getStatus() : previous.getStatus())
+                .assigneeUserId(Boolean.TRUE.equals(request.getNullifyAssigneeUserId()) ? null : assigneeUserId)
+                .storyPoints(request.getStoryPoints() != null ? request.getStoryPoints() : previous.getStoryPoints())
+                .build();
+    }
+
+    static void validateFilter(TaskFilter filter) {
+        if (filter.isUnassigned() && StringUtils.isNotBlank(filter.getAssigneeUserId())) {
+            throw ErrorFactory.get().assigneeIdIsNotBlankOnUnassignedFilter();
+        }
+    }
+
+    /**
+     * Cursor of story points ordered page holds story points of the last task along with its id
+     */
+    static String encodeCursor(Task last, TaskSort sort) {
+        return switch (sort) {
+            case ID -> CursorUtil.encode(last.getId());
+            case STORY_POINTS_ASC, STORY_POINTS_DESC -> CursorUtil.encode(
+                    last.getStoryPoints() == null ? null : last.getStoryPoints().toString(),
+                    last.getId()
+            );
+        };
+    }
+
+    /**
+     * Search results end at the maximum offset, so there is no next page past it
+     */
+    static String encodeSearchCursor(long offset, int limit) {
+        return offset + limit <= MAX_OFFSET ? CursorUtil.encodeOffset(offset + limit) : null;
+    }
+
+    /**
+     * Returns task with sort keys of the last task of the previous page or null for the first page
+     */
+    static Task decodeCursor(String cursor, TaskSort sort) {
+        if (cursor == null) {
+            return null;
+        }
+        return switch (sort) {
+            case ID -> Task.builder().id(CursorUtil.decodeId(cursor)).build();
+            case STORY_POINTS_ASC, STORY_POINTS_DESC -> {
+                var keys = CursorUtil.decodeComposite(cursor);
+                try {
+                    var storyPoints = keys[0] == null ? null : Double.valueOf(keys[0]);
+                    yield Task.builder().storyPoints(storyPoints).id(keys[1]).build();
+                } catch (NumberFormatException e) {
+                    throw ErrorFactory.get().invalidCursor();
+                }
             }
-            if (nullifyAssignee) {
-                task.setAssigneeUserId(null);
+        };
+    }
+
+    /**
+     * Responses in the order of the requested ids, repeated ids are returned once
+     */
+    static TaskListResponse toListResponse(Collection<String> taskIds, Collection<TaskResponse> taskResponses) {
+        var taskResponseById = taskResponses.stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        var items = new ArrayList<TaskResponse>(taskResponses.size());
+        var missingIds = new ArrayList<String>();
+        for (var taskId : new LinkedHashSet<>(taskIds)) {
+            var taskResponse = taskResponseById.get(taskId);
+            if (taskResponse == null) {
+                missingIds.add(taskId);
+            } else {
+                items.add(taskResponse);
             }
         }
+        return TaskListResponse.builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
 
-        task = taskRepository.save(task);
-        return taskMapper.taskToTaskResponse(task);
+    /**
+     * Task responses of all columns are mapped at once and split back to columns by task id
+     */
+    static ProjectBoardResponse toBoardResponse(List<TaskBoardColumn> columns, Collection<TaskResponse> taskResponses) {
+        var taskResponseById = taskResponses.stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        var columnResponses = columns.stream()
+                .map(column -> BoardColumnResponse.builder()
+                        .status(column.getStatus())
+                        .count(column.getCount())
+                        .storyPoints(column.getStoryPoints())
+                        .tasks(column.getTasks().stream().map(t -> taskResponseById.get(t.getId())).toList())
+                        .build()
+                )
+                .toList();
+        return ProjectBoardResponse.builder()
+                .columns(columnResponses)
+                .build();
+    }
+
+    /**
+     * Counters of every status are returned, assignees whose tasks were all reassigned are left out
+     */
+    static ProjectStatsResponse toStatsResponse(ProjectTaskStats stats) {
+        var statuses = new EnumMap<TaskStatus, TaskCounterResponse>(TaskStatus.class);
+        for (var status : TaskStatus.values()) {
+            var counter = stats == null || stats.getStatuses() == null ? null : stats.getStatuses().get(status);
+            statuses.put(status, toCounterResponse(counter));
+        }
+
+        var assignees = new TreeMap<String, TaskCounterResponse>();
+        if (stats != null && stats.getAssignees() != null) {
+            stats.getAssignees().forEach((assigneeUserId, counter) -> {
+                if (counter.getCount() > 0) {
+                    assignees.put(assigneeUserId, toCounterResponse(counter));
+                }
+            });
+        }
+
+        return ProjectStatsResponse.builder()
+                .statuses(statuses)
+                .assignees(assignees)
+                .unassigned(toCounterResponse(stats == null ? null : stats.getUnassigned()))
+                .build();
+    }
+
+    private static TaskCounterResponse toCounterResponse(TaskCounter counter) {
+        return TaskCounterResponse.builder()
+                .count(counter == null ? 0 : counter.getCount())
+                .storyPoints(counter == null ? 0 : counter.getStoryPoints())
+                .build();
     }
 }
@@ -0,0 +1,178 @@
+package com.github.yarrow.sparrow.service.task;
+
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.response.ErrorResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchItemResponse;
+import com.github.yarrow.sparrow.dto.response.TaskBatchResponse;
+import com.github.yarrow.sparrow.dto.response.TaskResponse;
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.util.ValidationUtil;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Updates of a batch by index of their requests, requests rejected before the write have an error instead
+ * Previous and updated versions of every task are kept, so counters get the exact delta of the batch
+ * Tasks changed by another request after they were read are not updated and get a conflict error
+ */
+class TaskUpdateBatch {
+
+    private final int size;
+    private final Map<Integer, Task> previousByIndex = new LinkedHashMap<>();
+    private final Map<Integer, Task> updatedByIndex = new HashMap<>();
+    private final Map<String, Update> updateByTaskId = new LinkedHashMap<>();
+    private final Map<Integer, ErrorResponse> errorByIndex = new HashMap<>();
+
+    private TaskUpdateBatch(int size) {
+        this.size = size;
+    }
+
+    static Set<String> taskIds(List<TaskUpdateItemRequest> requests) {
+        return requests.stream()
+                .map(TaskUpdateItemRequest::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    static Set<String> assigneeUserIds(List<TaskUpdateItemRequest> requests) {
+        return requests.stream()
+                .filter(request -> request.getUpdate() != null)
+                .map(request -> request.getUpdate().getAssigneeUserId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Requests applying the same patch to every task, in the order of the tasks
+     */
+    static List<TaskUpdateItemRequest> withPatch(Collection<Task> tasks, UpdateTaskRequest patch) {
+        return tasks.stream()
+                .map(task -> TaskUpdateItemRequest.builder()
+                        .taskId(task.getId())
+                        .update(patch)
+                        .build()
+                )
+                .toList();
+    }
+
+    /**
+     * Tasks and assignees are the ones present among the requested, queried once for the whole batch
+     */
+    static TaskUpdateBatch of(
+            List<TaskUpdateItemRequest> requests,
+            Collection<Task> tasks,
+            Collection<User> assignees,
+            Validator validator
+    ) {
+        var taskById = tasks.stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+        var assigneeUserIds = assignees.stream().map(User::getId).collect(Collectors.toSet());
+
+        var batch = new TaskUpdateBatch(requests.size());
+        var seenTaskIds = new HashSet<String>();
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var validationError = ValidationUtil.validate(validator, request);
+            if (validationError != null) {
+                batch.errorByIndex.put(i, validationError.toResponse());
+                continue;
+            }
+            //Result of several updates of the same task within an unordered write is undefined
+            if (!seenTaskIds.add(request.getTaskId())) {
+                batch.errorByIndex.put(i, ErrorFactory.get().taskIsDuplicatedInBatch().toResponse());
+                continue;
+            }
+            var previous = taskById.get(request.getTaskId());
+            if (previous == null) {
+                batch.errorByIndex.put(i, ErrorFactory.get().taskNotFound().toResponse());
+                continue;
+            }
+            var assigneeUserId = request.getUpdate().getAssigneeUserId();
+            if (assigneeUserId != null && !assigneeUserIds.contains(assigneeUserId)) {
+                batch.errorByIndex.put(i, ErrorFactory.get().userNotFound().toResponse());
+                continue;
+            }
+
+            Update update;
+            try {
+                update = TaskServiceImpl.toUpdate(request.getUpdate());
+            } catch (ApplicationError e) {
+                batch.errorByIndex.put(i, e.toResponse());
+                continue;
+            }
+
+            batch.previousByIndex.put(i, previous);
+            batch.updatedByIndex.put(i, TaskServiceImpl.applyUpdate(previous, request.getUpdate()));
+            //Empty update is rejected by the database, task is returned as it is
+            if (!update.getUpdateObject().isEmpty()) {
+                batch.updateByTaskId.put(previous.getId(), update);
+            }
+        }
+        return batch;
+    }
+
+    /**
+     * Updates to be written in the order of their requests
+     */
+    Map<String, Update> getUpdateByTaskId() {
+        return updateByTaskId;
+    }
+
+    /**
+     * Previous versions of the tasks to be written, the write must match them
+     */
+    Map<String, Task> getPreviousByTaskId() {
+        return previousByIndex.values().stream()
+                .filter(task -> updateByTaskId.containsKey(task.getId()))
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    List<Task> getPreviousTasks(Set<String> changedIds) {
+        return previousByIndex.values().stream()
+                .filter(task -> !changedIds.contains(task.getId()))
+                .toList();
+    }
+
+    List<Task> getUpdatedTasks(Set<String> changedIds) {
+        return previousByIndex.keySet().stream()
+                .map(updatedByIndex::get)
+                .filter(task -> !changedIds.contains(task.getId()))
+                .toList();
+    }
+
+    TaskBatchResponse toResponse(Set<String> changedIds, Collection<TaskResponse> updatedTaskResponses) {
+        var taskResponseById = updatedTaskResponses.stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        var items = new ArrayList<TaskBatchItemResponse>(size);
+        for (int i = 0; i < size; i++) {
+            var item = TaskBatchItemResponse.builder().index(i);
+            var task = updatedByIndex.get(i);
+            if (task == null) {
+                item.error(errorByIndex.get(i));
+            } else if (changedIds.contains(task.getId())) {
+                item.error(ErrorFactory.get().taskChangedConcurrently().toResponse());
+            } else {
+                item.task(taskResponseById.get(task.getId()));
+            }
+            items.add(item.build());
+        }
+        return TaskBatchResponse.builder()
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.yarrow.sparrow.service.user;
+
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import com.github.yarrow.sparrow.repository.ReactiveUserRepository;
+import com.github.yarrow.sparrow.service.access.AbstractReactiveAccessService;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class ReactiveUserAccessService extends AbstractReactiveAccessService<User, String, ApplicationError> {
+
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    @Override
+    public Function<Collection<String>, Flux<User>> defaultAccessFunction() {
+        return reactiveUserRepository::findAllById;
+    }
+
+    /**
+     * Same as UserAccessService, any user is able to access any other user's profile
+     */
+    @Override
+    public Function<Collection<String>, Flux<User>> securedAccessFunction() {
+        return reactiveUserRepository::findAllById;
+    }
+
+    @Override
+    public Supplier<ApplicationError> notFoundExceptionSupplier() {
+        return ErrorFactory.get()::userNotFound;
+    }
+}
@@ -6,6 +6,7 @@ import com.github.yarrow.sparrow.exception.ErrorFactory;
 import com.github.yarrow.sparrow.repository.UserRepository;
 import com.github.yarrow.sparrow.service.access.AbstractAccessService;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +21,7 @@ public class UserAccessService extends AbstractAccessService<User, String, Appli
 
     @Override
     public Function<Collection<String>, Collection<User>> defaultAccessFunction() {
-        return userRepository::findAllById;
+        return userRepository::findAllByIdIn;
     }
 
     /**
@@ -28,7 +29,12 @@ public class UserAccessService extends AbstractAccessService<User, String, Appli
      */
     @Override
     public Function<Collection<String>, Collection<User>> securedAccessFunction() {
-        return userRepository::findAllById;
+        return userRepository::findAllByIdIn;
+    }
+
+    @Override
+    protected Collection<String> identifiers(User user) {
+        return List.of(user.getId());
     }
 
     @Override
@@ -5,13 +5,16 @@ import com.github.yarrow.sparrow.dto.response.UserResponse;
 import com.github.yarrow.sparrow.exception.ErrorFactory;
 import com.github.yarrow.sparrow.mapper.user.UserMapper;
 import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.service.authentication.PrincipalCache;
 import com.github.yarrow.sparrow.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+@Profile("!reactive")
 @Service
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class UserServiceImpl implements UserService {
@@ -20,6 +23,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final UserAccessService userPresenceService;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserResponse getUserById(String userId) {
@@ -60,6 +64,8 @@ public class UserServiceImpl implements UserService {
         }
 
         user = userRepository.save(user);
+        userPresenceService.forget(userId);
+        principalCache.invalidate(userId);
         return userMapper.userToUserResponse(user);
     }
 }
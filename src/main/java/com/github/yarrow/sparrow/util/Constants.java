@@ -11,4 +11,37 @@ public class Constants {
         public static final String PASSWORD_REGEXP = "^(?=.*?[A-Z])(?=.*?[a-z])(?=.*?[0-9])(?=.*?[#?!@$ %^&*-]).{8,}$";
         public static final String KEY_REGEXP = "^[a-zA-Z]+$";
     }
+
+    @UtilityClass
+    public class Pagination {
+        public static final String DEFAULT_LIMIT = "50";
+        public static final int MAX_LIMIT = 500;
+    }
+
+    @UtilityClass
+    public class Board {
+        public static final String DEFAULT_COLUMN_LIMIT = "20";
+        public static final int MAX_COLUMN_LIMIT = 100;
+    }
+
+    @UtilityClass
+    public class Batch {
+        public static final int MAX_TASKS = 5000;
+    }
+
+    @UtilityClass
+    public class Search {
+        public static final int MAX_QUERY_LENGTH = 200;
+        public static final int MAX_OFFSET = 1000;
+    }
+
+    @UtilityClass
+    public class Transaction {
+        public static final int MAX_ATTEMPTS = 10;
+    }
+
+    @UtilityClass
+    public class Export {
+        public static final int CHUNK_SIZE = 500;
+    }
 }
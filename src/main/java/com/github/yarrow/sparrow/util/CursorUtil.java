@@ -0,0 +1,92 @@
+package com.github.yarrow.sparrow.util;
+
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Cursor is an opaque for clients token, which holds id of the last entity of the previously returned page
+ * Composite cursor also holds sort key of the entity for pages which are not ordered by id
+ */
+@UtilityClass
+public class CursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode(String lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw ErrorFactory.get().invalidCursor();
+        }
+    }
+
+    /**
+     * Decoded id is validated, so a forged cursor can't be used as an arbitrary id
+     */
+    public String decodeId(String cursor) {
+        return validateId(decode(cursor));
+    }
+
+    /**
+     * Null sort key is encoded as empty one
+     */
+    public String encode(String sortKey, String lastId) {
+        return encode((sortKey == null ? "" : sortKey) + SEPARATOR + lastId);
+    }
+
+    /**
+     * Returns sort key, which is null if it was encoded as null, and id of the last entity
+     */
+    public String[] decodeComposite(String cursor) {
+        var value = decode(cursor);
+        var separatorIndex = value.indexOf(SEPARATOR);
+        if (separatorIndex < 0) {
+            throw ErrorFactory.get().invalidCursor();
+        }
+        var sortKey = value.substring(0, separatorIndex);
+        return new String[]{sortKey.isEmpty() ? null : sortKey, validateId(value.substring(separatorIndex + 1))};
+    }
+
+    /**
+     * Cursor of a page which can't be started after an entity holds the number of entities to skip instead
+     */
+    public String encodeOffset(long offset) {
+        return encode(String.valueOf(offset));
+    }
+
+    /**
+     * Offset is bounded, as every skipped entity is still read by Mongo
+     */
+    public long decodeOffset(String cursor, long maxOffset) {
+        try {
+            var offset = Long.parseLong(decode(cursor));
+            if (offset < 0 || offset > maxOffset) {
+                throw ErrorFactory.get().invalidCursor();
+            }
+            return offset;
+        } catch (NumberFormatException e) {
+            throw ErrorFactory.get().invalidCursor();
+        }
+    }
+
+    /**
+     * Entity ids are UUIDs in their canonical form, non-canonical ones would be ordered differently
+     */
+    private String validateId(String id) {
+        try {
+            if (UUID.fromString(id).toString().equals(id)) {
+                return id;
+            }
+        } catch (IllegalArgumentException e) {
+            //Invalid cursor is thrown below
+        }
+        throw ErrorFactory.get().invalidCursor();
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.yarrow.sparrow.util;
+
+import com.github.yarrow.sparrow.domain.ResponseField;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Sparse fieldset is a list of response field names, response has every field if the list is not present
+ * Id is always returned, so responses could be told apart
+ */
+@UtilityClass
+public class FieldsUtil {
+
+    public <FieldT extends Enum<FieldT> & ResponseField> Set<FieldT> parse(
+            Class<FieldT> fieldClass,
+            Collection<String> names
+    ) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(fieldClass);
+        }
+
+        var fields = EnumSet.noneOf(fieldClass);
+        for (var name : names) {
+            var field = Arrays.stream(fieldClass.getEnumConstants())
+                    .filter(f -> f.getResponseName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> ErrorFactory.get().unknownField(name));
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    public <FieldT extends Enum<FieldT>> boolean isAll(Class<FieldT> fieldClass, Set<FieldT> fields) {
+        return fields.size() == fieldClass.getEnumConstants().length;
+    }
+
+    /**
+     * Responses with only requested fields, enrichment of the enriched field is skipped if it isn't requested
+     * Responses may be wrapped into a Mono, so servlet and reactive services trim them the same way
+     */
+    public <FieldT extends Enum<FieldT>, ResponsesT> ResponsesT withFields(
+            Class<FieldT> fieldClass,
+            Set<FieldT> fields,
+            FieldT enrichedField,
+            Supplier<ResponsesT> enriched,
+            Supplier<ResponsesT> notEnriched,
+            UnaryOperator<ResponsesT> retainFields
+    ) {
+        if (isAll(fieldClass, fields)) {
+            return enriched.get();
+        }
+        var responses = fields.contains(enrichedField) ? enriched.get() : notEnriched.get();
+        return retainFields.apply(responses);
+    }
+}
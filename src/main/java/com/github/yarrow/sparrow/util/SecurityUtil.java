@@ -2,7 +2,10 @@ package com.github.yarrow.sparrow.util;
 
 import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
 import lombok.experimental.UtilityClass;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.publisher.Mono;
 
 @UtilityClass
 public class SecurityUtil {
@@ -14,4 +17,14 @@ public class SecurityUtil {
         }
         return ((CustomUserDetails) authentication.getPrincipal()).getId();
     }
+
+    /**
+     * Reactive requests keep authentication in the subscriber context instead of the thread
+     */
+    public Mono<String> getReactiveCurrentUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(authentication -> ((CustomUserDetails) authentication.getPrincipal()).getId())
+                .switchIfEmpty(Mono.error(() -> new NullPointerException("Authentication is null")));
+    }
 }
@@ -0,0 +1,24 @@
+package com.github.yarrow.sparrow.util;
+
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import com.github.yarrow.sparrow.exception.ErrorFactory;
+import jakarta.validation.Validator;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Validation of batch items one by one, so an invalid item gets its own error instead of failing the whole batch
+ */
+@UtilityClass
+public class ValidationUtil {
+
+    /**
+     * Error of the first violated constraint, the same as for a request body, or null if the item is valid
+     */
+    public ApplicationError validate(Validator validator, Object item) {
+        var violations = validator.validate(item);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return ErrorFactory.get().validationFailed(violations.iterator().next().getMessage());
+    }
+}
@@ -2,6 +2,7 @@ package com.github.yarrow.sparrow;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.yarrow.sparrow.config.FixedClockConfig;
+import com.github.yarrow.sparrow.config.TaskIndexesConfig;
 import com.github.yarrow.sparrow.util.SecurityUtil;
 import java.time.Clock;
 import java.time.Instant;
@@ -15,7 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 @ActiveProfiles("test")
-@SpringBootTest(classes = FixedClockConfig.class)
+@SpringBootTest(classes = {FixedClockConfig.class, TaskIndexesConfig.class})
 @AutoConfigureMockMvc
 @Transactional
 public abstract class MockMvcAbstractTest {
@@ -0,0 +1,96 @@
+package com.github.yarrow.sparrow;
+
+import com.github.yarrow.sparrow.config.FixedClockConfig;
+import com.github.yarrow.sparrow.config.TaskIndexesConfig;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.github.yarrow.sparrow.repository.ProjectTaskStatsRepository;
+import com.github.yarrow.sparrow.repository.TaskRepository;
+import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.service.authentication.JwtService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * Reactive profile is tested against a running server, as the WebFlux base path is applied by the server
+ * There are no transactions in this profile, so documents are removed after each test
+ */
+@ActiveProfiles({"test", "reactive"})
+@SpringBootTest(
+        classes = {FixedClockConfig.class, TaskIndexesConfig.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+)
+public abstract class WebTestClientAbstractTest {
+
+    protected static final String RANDOM_UUID = UUID.randomUUID().toString();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected ProjectRepository projectRepository;
+    @Autowired
+    protected TaskRepository taskRepository;
+    @Autowired
+    protected ProjectTaskStatsRepository projectTaskStatsRepository;
+
+    @AfterEach
+    public void cleanUp() {
+        taskRepository.deleteAll();
+        projectTaskStatsRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    /**
+     * Client sending requests on behalf of the user with a token issued the same way as on login
+     */
+    protected WebTestClient clientOf(User user) {
+        return WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port + "/api")
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(user))
+                .build();
+    }
+
+    protected User saveUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@email.com")
+                .password("P@ssw0rd")
+                .build());
+    }
+
+    protected String saveProject(String key, User member) {
+        return projectRepository.save(Project.builder()
+                .key(key)
+                .name("Test name")
+                .description("Test description")
+                .memberUserIds(List.of(member.getId()))
+                .build()).getId();
+    }
+
+    protected String saveTask(String projectId, User assignee) {
+        return taskRepository.save(Task.builder()
+                .projectId(projectId)
+                .name("Test name")
+                .description("Test description")
+                .assigneeUserId(assignee.getId())
+                .status(TaskStatus.BACKLOG)
+                .storyPoints(1d)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,25 @@
+package com.github.yarrow.sparrow.config;
+
+import com.github.yarrow.sparrow.domain.Task;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+/**
+ * Automatic index creation is off in tests, while pages of tasks rely on the indexes and indexes can't be
+ * created within a test transaction, so indexes of tasks are created on start-up
+ */
+@TestConfiguration
+public class TaskIndexesConfig {
+
+    @Bean
+    public ApplicationRunner taskIndexesRunner(MongoTemplate mongoTemplate) {
+        return args -> {
+            var mappingContext = mongoTemplate.getConverter().getMappingContext();
+            new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(Task.class)
+                    .forEach(mongoTemplate.indexOps(Task.class)::ensureIndex);
+        };
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.yarrow.sparrow.config.concurrency;
+
+import com.github.yarrow.sparrow.config.property.ConcurrencyProperties;
+import com.github.yarrow.sparrow.exception.ApplicationError;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+public class BulkheadTest {
+
+    private final Bulkhead bulkhead = new Bulkhead(
+            new ConcurrencyProperties.BulkheadSpec(1, Duration.ofMillis(50))
+    );
+
+    @Test
+    public void callIsRejectedWhenNoPermitIsFreedInTime() throws InterruptedException {
+        //Arrange
+        var acquired = new CountDownLatch(1);
+        var finish = new CountDownLatch(1);
+        var holder = CompletableFuture.runAsync(() -> bulkhead.call(() -> {
+            acquired.countDown();
+            awaitUninterruptibly(finish);
+            return null;
+        }));
+        acquired.await();
+
+        //Act + Assert
+        try {
+            Assertions.assertThatThrownBy(() -> bulkhead.call(() -> "rejected"))
+                    .isInstanceOf(ApplicationError.class)
+                    .extracting(error -> ((ApplicationError) error).getHttpStatus())
+                    .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        } finally {
+            finish.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    public void permitIsReleasedWhenCallFails() {
+        //Arrange
+        Assertions.assertThatThrownBy(() -> bulkhead.call(() -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        //Act
+        var result = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "acquired")).join();
+
+        //Assert
+        Assertions.assertThat(result).isEqualTo("acquired");
+    }
+
+    @Test
+    public void nestedCallsHoldSinglePermit() {
+        //Act
+        var nested = bulkhead.call(() -> bulkhead.call(() -> "nested"));
+        var afterNested = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "acquired")).join();
+
+        //Assert
+        Assertions.assertThat(nested).isEqualTo("nested");
+        Assertions.assertThat(afterNested).isEqualTo("acquired");
+    }
+
+    @Test
+    public void openIterationHoldsNoPermitBetweenBatches() {
+        //Arrange
+        var source = List.of("1", "2", "3").iterator();
+        var batch = new ArrayDeque<String>();
+        //Cursor-like iterator fetching two items per batch
+        var cursor = new Iterator<String>() {
+            @Override
+            public boolean hasNext() {
+                if (batch.isEmpty()) {
+                    for (var i = 0; i < 2 && source.hasNext(); i++) {
+                        batch.add(source.next());
+                    }
+                }
+                return !batch.isEmpty();
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batch.poll();
+            }
+        };
+        var iterator = bulkhead.iterator(cursor, batch::size);
+        var first = iterator.next();
+
+        //Act
+        var whileOpen = CompletableFuture.supplyAsync(() -> bulkhead.call(() -> "acquired")).join();
+        var rest = new ArrayList<String>();
+        iterator.forEachRemaining(rest::add);
+
+        //Assert
+        Assertions.assertThat(first).isEqualTo("1");
+        Assertions.assertThat(whileOpen).isEqualTo("acquired");
+        Assertions.assertThat(rest).containsExactly("2", "3");
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
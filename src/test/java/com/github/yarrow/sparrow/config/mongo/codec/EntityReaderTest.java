@@ -0,0 +1,177 @@
+package com.github.yarrow.sparrow.config.mongo.codec;
+
+import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.authentication.WithUserMock;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.github.yarrow.sparrow.repository.TaskRepository;
+import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.util.TestEntityFactory;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Entities decoded by the codecs must be equal to the ones read by MappingMongoConverter
+ */
+@TestPropertySource(properties = "taskl.persistence.read-path=codec")
+public class EntityReaderTest extends MockMvcAbstractTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private EntityReader entityReader;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @WithUserMock
+    public void tasksAreDecodedAsByConverter() {
+        //Arrange
+        var projectId = mongoTemplate.save(TestEntityFactory.createProject()).getId();
+        var task = TestEntityFactory.createTask();
+        task.setProjectId(projectId);
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        mongoTemplate.save(task);
+
+        var taskWithoutOptionalFields = TestEntityFactory.createTask();
+        taskWithoutOptionalFields.setProjectId(projectId);
+        taskWithoutOptionalFields.setAssigneeUserId(null);
+        taskWithoutOptionalFields.setStatus(null);
+        taskWithoutOptionalFields.setStoryPoints(null);
+        mongoTemplate.save(taskWithoutOptionalFields);
+
+        var query = Query.query(Criteria.where("projectId").is(projectId));
+
+        //Act
+        var actualTasks = entityReader.find(query, Task.class);
+
+        //Assert
+        Assertions.assertThat(actualTasks)
+                .containsExactlyInAnyOrderElementsOf(mongoTemplate.find(query, Task.class))
+                .hasSize(2);
+    }
+
+    @Test
+    @WithUserMock
+    public void projectsAreDecodedAsByConverter() {
+        //Arrange
+        var project = TestEntityFactory.createProject();
+        project.setMemberUserIds(List.of(getMockedUserId(), "anotherUserId"));
+        var projectId = mongoTemplate.save(project).getId();
+
+        var query = Query.query(Criteria.where("id").is(projectId));
+
+        //Act
+        var actualProjects = entityReader.find(query, Project.class);
+
+        //Assert
+        Assertions.assertThat(actualProjects)
+                .containsExactlyElementsOf(mongoTemplate.find(query, Project.class))
+                .hasSize(1);
+    }
+
+    @Test
+    @WithUserMock
+    public void usersAreDecodedAsByConverter() {
+        //Arrange
+        var query = Query.query(Criteria.where("id").is(getMockedUserId()));
+
+        //Act
+        var actualUsers = entityReader.find(query, User.class);
+
+        //Assert
+        Assertions.assertThat(actualUsers)
+                .containsExactlyElementsOf(mongoTemplate.find(query, User.class))
+                .hasSize(1);
+    }
+
+    @Test
+    @WithUserMock
+    public void streamedTasksAreOrderedAndLimited() {
+        //Arrange
+        var projectId = mongoTemplate.save(TestEntityFactory.createProject()).getId();
+        for (int i = 0; i < 3; i++) {
+            var task = TestEntityFactory.createTask();
+            task.setProjectId(projectId);
+            mongoTemplate.save(task);
+        }
+        var query = Query.query(Criteria.where("projectId").is(projectId))
+                .with(Sort.by("id"))
+                .limit(2);
+
+        //Act
+        List<Task> actualTasks;
+        try (var tasks = entityReader.stream(query, Task.class)) {
+            actualTasks = tasks.toList();
+        }
+
+        //Assert
+        Assertions.assertThat(actualTasks).containsExactlyElementsOf(mongoTemplate.find(query, Task.class));
+    }
+
+    @Test
+    @WithUserMock
+    public void skippedTasksAreNotDecoded() {
+        //Arrange
+        var projectId = mongoTemplate.save(TestEntityFactory.createProject()).getId();
+        for (int i = 0; i < 3; i++) {
+            var task = TestEntityFactory.createTask();
+            task.setProjectId(projectId);
+            mongoTemplate.save(task);
+        }
+        var query = Query.query(Criteria.where("projectId").is(projectId))
+                .with(Sort.by("id"))
+                .skip(1)
+                .limit(1);
+
+        //Act
+        var actualTasks = entityReader.find(query, Task.class);
+
+        //Assert
+        Assertions.assertThat(actualTasks)
+                .hasSize(1)
+                .containsExactlyElementsOf(mongoTemplate.find(query, Task.class));
+    }
+
+    @Test
+    @WithUserMock
+    public void repositoryLookupsAreDecodedAsByConverter() {
+        //Arrange
+        var project = TestEntityFactory.createProject();
+        project.setKey("READER");
+        project = mongoTemplate.save(project);
+        var task = TestEntityFactory.createTask();
+        task.setProjectId(project.getId());
+        var taskId = mongoTemplate.save(task).getId();
+
+        //Act
+        var actualTasks = taskRepository.findAllById(List.of(taskId));
+        var actualProjects = projectRepository.findAllByKeyIn(List.of(project.getKey()));
+        var actualAccessibleProjects = projectRepository.findAllByIdInAndMemberUserIdsContains(
+                List.of(project.getId()),
+                getMockedUserId()
+        );
+        var actualUser = userRepository.findById(getMockedUserId());
+
+        //Assert
+        Assertions.assertThat(actualTasks).containsExactly(mongoTemplate.findById(taskId, Task.class));
+        Assertions.assertThat(actualProjects).containsExactly(mongoTemplate.findById(project.getId(), Project.class));
+        Assertions.assertThat(actualAccessibleProjects).containsExactlyElementsOf(actualProjects);
+        Assertions.assertThat(actualUser).contains(mongoTemplate.findById(getMockedUserId(), User.class));
+        Assertions.assertThat(userRepository.findByEmail(actualUser.orElseThrow().getEmail())).isEqualTo(actualUser);
+    }
+}
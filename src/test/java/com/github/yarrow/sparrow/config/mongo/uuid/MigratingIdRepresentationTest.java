@@ -0,0 +1,186 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.authentication.WithUserMock;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskSort;
+import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.github.yarrow.sparrow.repository.TaskRepository;
+import com.github.yarrow.sparrow.util.TestEntityFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.assertj.core.api.Assertions;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Documents with string ids are inserted directly, as they are left by instances running before the migration
+ */
+@TestPropertySource(properties = "taskl.persistence.id-representation=migrating")
+public class MigratingIdRepresentationTest extends MockMvcAbstractTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    @WithUserMock
+    public void documentsOfBothRepresentationsAreFound() throws Exception {
+        //Arrange
+        var projectId = projectRepository.save(TestEntityFactory.createProject()).getId();
+        var legacyTaskId = insertLegacyTask(projectId);
+        var task = TestEntityFactory.createTask();
+        task.setProjectId(projectId);
+        var taskId = taskRepository.save(task).getId();
+
+        //Act
+        var result = mockMvc.perform(get("/v1/tasks/{taskId}", legacyTaskId)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+        var tasks = taskRepository.findAllByProjectId(projectId);
+
+        //Assert
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(legacyTaskId))
+                .andExpect(jsonPath("$.projectId").value(projectId));
+        Assertions.assertThat(tasks)
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(legacyTaskId, taskId);
+    }
+
+    @Test
+    @WithUserMock
+    public void savedLegacyDocumentIsMigrated() {
+        //Arrange
+        var projectId = projectRepository.save(TestEntityFactory.createProject()).getId();
+        var legacyTaskId = insertLegacyTask(projectId);
+
+        //Act
+        var task = taskRepository.findById(legacyTaskId).orElseThrow();
+        task.setName("Renamed");
+        taskRepository.save(task);
+
+        //Assert
+        var documents = mongoTemplate.execute(Task.class, collection -> collection.find().into(new ArrayList<>()));
+        Assertions.assertThat(documents).singleElement().satisfies(document -> {
+            Assertions.assertThat(document.get("_id")).isInstanceOf(Binary.class);
+            Assertions.assertThat(document.get("projectId")).isInstanceOf(Binary.class);
+            Assertions.assertThat(document.getString("name")).isEqualTo("Renamed");
+        });
+    }
+
+    @Test
+    @WithUserMock
+    public void memberIsRemovedFromLegacyProject() throws Exception {
+        //Arrange
+        var projectId = UUID.randomUUID().toString();
+        var otherUserId = UUID.randomUUID().toString();
+        mongoTemplate.execute(Project.class, collection -> collection.insertOne(new Document()
+                .append("_id", projectId)
+                .append("key", "LEGACY")
+                .append("name", "Legacy project")
+                .append("memberUserIds", List.of(getMockedUserId(), otherUserId))
+                .append("_class", Project.class.getName())
+        ));
+
+        //Act
+        var result = mockMvc.perform(delete("/v1/projects/{projectIdOrKey}/members/{userId}", projectId, otherUserId)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //Assert
+        result.andExpect(status().isOk());
+        Assertions.assertThat(projectRepository.findById(projectId))
+                .hasValueSatisfying(p -> Assertions.assertThat(p.getMemberUserIds())
+                        .containsExactly(getMockedUserId()));
+    }
+
+    @Test
+    @WithUserMock
+    public void tasksOfBothRepresentationsArePagedInIdOrder() throws Exception {
+        //Arrange
+        var projectId = projectRepository.save(TestEntityFactory.createProject()).getId();
+        var expectedTaskIds = Stream.generate(() -> UUID.randomUUID().toString())
+                .limit(6)
+                .sorted()
+                .toList();
+        //String and binary ids are interleaved, so every page holds both representations
+        //Legacy tasks have no story points, so story points order is broken by ids only
+        for (var i = 0; i < expectedTaskIds.size(); i++) {
+            if (i % 2 == 0) {
+                insertLegacyTask(projectId, expectedTaskIds.get(i));
+            } else {
+                var task = TestEntityFactory.createTask();
+                task.setId(expectedTaskIds.get(i));
+                task.setProjectId(projectId);
+                task.setStoryPoints(null);
+                taskRepository.save(task);
+            }
+        }
+
+        //Act
+        var idOrderTaskIds = pageTaskIds(projectId, TaskSort.ID);
+        var storyPointsOrderTaskIds = pageTaskIds(projectId, TaskSort.STORY_POINTS_DESC);
+
+        //Assert
+        Assertions.assertThat(idOrderTaskIds).containsExactlyElementsOf(expectedTaskIds);
+        Assertions.assertThat(storyPointsOrderTaskIds).containsExactlyElementsOf(expectedTaskIds.reversed());
+    }
+
+    /**
+     * Follows cursors two tasks at a time until the last page
+     */
+    private List<String> pageTaskIds(String projectId, TaskSort sort) throws Exception {
+        var taskIds = new ArrayList<String>();
+        String cursor = null;
+        do {
+            var request = get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("sort", sort.name())
+                    .param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            var result = mockMvc.perform(request).andExpect(status().isOk());
+            var page = objectMapper.readTree(result.andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> taskIds.add(item.get("id").asText()));
+            var nextCursor = page.path("nextCursor");
+            cursor = nextCursor.isTextual() ? nextCursor.asText() : null;
+        } while (cursor != null);
+        return taskIds;
+    }
+
+    private String insertLegacyTask(String projectId) {
+        return insertLegacyTask(projectId, UUID.randomUUID().toString());
+    }
+
+    private String insertLegacyTask(String projectId, String taskId) {
+        mongoTemplate.execute(Task.class, collection -> collection.insertOne(new Document()
+                .append("_id", taskId)
+                .append("projectId", projectId)
+                .append("assigneeUserId", getMockedUserId())
+                .append("name", "Legacy task")
+                .append("description", "Legacy description")
+                .append("status", "BACKLOG")
+                .append("_class", Task.class.getName())
+        ));
+        return taskId;
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.yarrow.sparrow.config.mongo.uuid;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.authentication.WithUserMock;
+import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.User;
+import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.github.yarrow.sparrow.repository.TaskRepository;
+import com.github.yarrow.sparrow.util.TestEntityFactory;
+import com.mongodb.client.model.Filters;
+import java.util.List;
+import java.util.UUID;
+import org.assertj.core.api.Assertions;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "taskl.persistence.id-representation=binary")
+public class UuidBinaryIdTest extends MockMvcAbstractTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private UuidBinaryMigration uuidBinaryMigration;
+
+    @Test
+    @WithUserMock
+    public void idsAreStoredAsBinaries() throws Exception {
+        //Arrange
+        var projectId = projectRepository.save(TestEntityFactory.createProject()).getId();
+        var task = TestEntityFactory.createTask();
+        task.setProjectId(projectId);
+        var taskId = taskRepository.save(task).getId();
+
+        //Act
+        var document = findRawTask(taskId);
+        var result = mockMvc.perform(get("/v1/tasks/{taskId}", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //Assert
+        Assertions.assertThat(document.get("_id")).isInstanceOf(Binary.class);
+        Assertions.assertThat(document.get("projectId")).isInstanceOf(Binary.class);
+        Assertions.assertThat(document.get("assigneeUserId")).isInstanceOf(Binary.class);
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(taskId))
+                .andExpect(jsonPath("$.projectId").value(projectId));
+    }
+
+    @Test
+    @WithUserMock
+    public void projectIdsAreStoredAsBinaries() throws Exception {
+        //Arrange
+        var projectId = projectRepository.save(TestEntityFactory.createProject()).getId();
+
+        //Act
+        var document = findRaw(Project.class, projectId);
+        var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}", projectId)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //Assert
+        Assertions.assertThat(document.get("_id")).isInstanceOf(Binary.class);
+        Assertions.assertThat(document.getList("memberUserIds", Object.class))
+                .singleElement()
+                .isInstanceOf(Binary.class);
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(projectId))
+                .andExpect(jsonPath("$.memberUsers[0].id").value(getMockedUserId()));
+    }
+
+    @Test
+    @WithUserMock
+    public void userIdsAreStoredAsBinaries() throws Exception {
+        //Arrange
+        var userId = getMockedUserId();
+
+        //Act
+        var document = findRaw(User.class, userId);
+        var result = mockMvc.perform(get("/v1/users/{userId}", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        //Assert
+        Assertions.assertThat(document.get("_id")).isInstanceOf(Binary.class);
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId));
+    }
+
+    @Test
+    @WithUserMock
+    public void stringIdsOfProjectsAndUsersAreMigrated() {
+        //Arrange
+        var userId = UUID.randomUUID().toString();
+        mongoTemplate.execute(User.class, collection -> collection.insertOne(new Document()
+                .append("_id", userId)
+                .append("username", "legacy")
+                .append("email", "legacy@email.com")
+                .append("_class", User.class.getName())
+        ));
+        var projectId = UUID.randomUUID().toString();
+        mongoTemplate.execute(Project.class, collection -> collection.insertOne(new Document()
+                .append("_id", projectId)
+                .append("key", "LEGACY")
+                .append("name", "Legacy project")
+                .append("memberUserIds", List.of(userId, getMockedUserId()))
+                .append("_class", Project.class.getName())
+        ));
+
+        //Act
+        var migratedUsers = uuidBinaryMigration.migrate(User.class);
+        var migratedProjects = uuidBinaryMigration.migrate(Project.class);
+
+        //Assert
+        Assertions.assertThat(migratedUsers).isEqualTo(1);
+        Assertions.assertThat(migratedProjects).isEqualTo(1);
+        Assertions.assertThat(findRaw(User.class, userId).get("_id")).isInstanceOf(Binary.class);
+        Assertions.assertThat(findRaw(Project.class, projectId).getList("memberUserIds", Object.class))
+                .hasSize(2)
+                .allMatch(Binary.class::isInstance);
+        Assertions.assertThat(projectRepository.findById(projectId))
+                .hasValueSatisfying(p -> Assertions.assertThat(p.getMemberUserIds())
+                        .containsExactly(userId, getMockedUserId()));
+    }
+
+    @Test
+    @WithUserMock
+    public void stringIdsAreMigrated() {
+        //Arrange
+        var projectId = projectRepository.save(TestEntityFactory.createProject()).getId();
+        var taskId = UUID.randomUUID().toString();
+        mongoTemplate.execute(Task.class, collection -> collection.insertOne(new Document()
+                .append("_id", taskId)
+                .append("projectId", projectId)
+                .append("name", "Legacy task")
+                .append("_class", Task.class.getName())
+        ));
+
+        //Act
+        var migrated = uuidBinaryMigration.migrate(Task.class);
+
+        //Assert
+        Assertions.assertThat(migrated).isEqualTo(1);
+        Assertions.assertThat(findRawTask(taskId).get("projectId")).isInstanceOf(Binary.class);
+        Assertions.assertThat(taskRepository.findById(taskId))
+                .hasValueSatisfying(t -> Assertions.assertThat(t.getProjectId()).isEqualTo(projectId));
+        Assertions.assertThat(uuidBinaryMigration.migrate(Task.class)).isZero();
+    }
+
+    private Document findRawTask(String taskId) {
+        return findRaw(Task.class, taskId);
+    }
+
+    private Document findRaw(Class<?> entityClass, String id) {
+        return mongoTemplate.execute(entityClass, collection ->
+                collection.find(Filters.eq("_id", UuidBinaries.toStored(id))).first()
+        );
+    }
+}
@@ -6,12 +6,19 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.github.yarrow.sparrow.MockMvcAbstractTest;
 import com.github.yarrow.sparrow.authentication.WithUserMock;
+import com.github.yarrow.sparrow.config.property.JwtProperties;
 import com.github.yarrow.sparrow.domain.User;
 import com.github.yarrow.sparrow.dto.request.SignInRequest;
 import com.github.yarrow.sparrow.dto.request.SignUpRequest;
 import com.github.yarrow.sparrow.dto.response.SignInResponse;
 import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
 import com.github.yarrow.sparrow.service.authentication.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -28,6 +35,8 @@ public class AuthenticationControllerTest extends MockMvcAbstractTest {
     private PasswordEncoder passwordEncoder;
     @Autowired
     private JwtService jwtService;
+    @Autowired
+    private JwtProperties jwtProperties;
 
     @Nested
     class SignUp {
@@ -276,7 +285,7 @@ public class AuthenticationControllerTest extends MockMvcAbstractTest {
                     result.andReturn().getResponse().getContentAsString(),
                     SignInResponse.class
             );
-            Assertions.assertThat(jwtService.isTokenValid(response.getToken(), mockedUser)).isTrue();
+            Assertions.assertThat(jwtService.isTokenValid(response.getToken(), CustomUserDetails.of(mockedUser))).isTrue();
         }
 
         @Nested
@@ -324,6 +333,26 @@ public class AuthenticationControllerTest extends MockMvcAbstractTest {
         }
     }
 
+    @Nested
+    class Token {
+
+        @Test
+        @WithUserMock
+        public void tokenWithoutExpirationIsRejected() {
+            //Arrange
+            var signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSigningKey()));
+            var token = Jwts.builder()
+                    .subject(getMockedUserId())
+                    .issuedAt(new Date())
+                    .signWith(signingKey)
+                    .compact();
+
+            //Act + Assert
+            Assertions.assertThatThrownBy(() -> jwtService.extractId(token))
+                    .isInstanceOf(MissingClaimException.class);
+        }
+    }
+
     private User getMockedUser() {
         var mockedUserId = getMockedUserId();
         return userRepository.findById(mockedUserId).orElseThrow();
@@ -1,28 +1,50 @@
 package com.github.yarrow.sparrow.controller;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.github.yarrow.sparrow.MockMvcAbstractTest;
 import com.github.yarrow.sparrow.authentication.WithUserMock;
 import com.github.yarrow.sparrow.domain.Project;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
 import com.github.yarrow.sparrow.dto.request.CreateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.CreateTasksRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateProjectMembersRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateProjectRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTasksRequest;
 import com.github.yarrow.sparrow.repository.ProjectRepository;
+import com.github.yarrow.sparrow.repository.ProjectTaskStatsRepository;
+import com.github.yarrow.sparrow.repository.TaskRepository;
 import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.service.authentication.CustomUserDetails;
 import com.github.yarrow.sparrow.util.TestEntityFactory;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 public class ProjectControllerTest extends MockMvcAbstractTest {
 
@@ -30,6 +52,10 @@ public class ProjectControllerTest extends MockMvcAbstractTest {
     private UserRepository userRepository;
     @Autowired
     private ProjectRepository projectRepository;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ProjectTaskStatsRepository projectTaskStatsRepository;
 
     @Nested
     class CreateProject {
@@ -442,6 +468,42 @@ public class ProjectControllerTest extends MockMvcAbstractTest {
                     .andExpect(jsonPath("$.message").value("Project not found"));
         }
 
+        @Test
+        @WithUserMock
+        public void onlyRequestedFieldsAreReturned() throws Exception {
+            //Arrange
+            var expectedProjectId = saveProject(p -> p.setName("Expected project"));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectId}", expectedProjectId)
+                    .param("fields", "name")
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(expectedProjectId))
+                    .andExpect(jsonPath("$.name").value("Expected project"))
+                    .andExpect(jsonPath("$.key").isEmpty())
+                    .andExpect(jsonPath("$.memberUsers").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void unknownFieldLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> {
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectId}", projectId)
+                    .param("fields", "memberUserIds")
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Field memberUserIds is unknown"));
+        }
+
         @Test
         @WithUserMock
         public void otherUserProjectInaccessibleForGet() throws Exception {
@@ -459,6 +521,48 @@ public class ProjectControllerTest extends MockMvcAbstractTest {
             result.andExpect(status().isNotFound())
                     .andExpect(jsonPath("$.message").value("Project not found"));
         }
+
+        @Test
+        @WithUserMock
+        public void otherUserProjectInaccessibleForSparseGetByKey() throws Exception {
+            //Arrange
+            var otherUserId = saveOtherUser();
+            saveProject(p -> {
+                p.setKey("OTHER");
+                p.setMemberUserIds(List.of(otherUserId));
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectId}", "OTHER")
+                    .param("fields", "name")
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Project not found"));
+        }
+
+        @Test
+        @WithUserMock
+        public void onlyRequestedFieldsAreReturnedByKey() throws Exception {
+            //Arrange
+            var expectedProjectId = saveProject(p -> {
+                p.setKey("SPARSE");
+                p.setDescription("Expected description");
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectId}", "SPARSE")
+                    .param("fields", "description")
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(expectedProjectId))
+                    .andExpect(jsonPath("$.description").value("Expected description"))
+                    .andExpect(jsonPath("$.key").isEmpty())
+                    .andExpect(jsonPath("$.name").isEmpty());
+        }
     }
 
     @Nested
@@ -767,6 +871,701 @@ public class ProjectControllerTest extends MockMvcAbstractTest {
         }
     }
 
+    @Nested
+    class UpdateProjectMembers {
+
+        @Test
+        @WithUserMock
+        public void memberIsAdded() throws Exception {
+            //Arrange
+            var clockTs = getClockTsMillis();
+            var mockedUserId = getMockedUserId();
+            var projectId = saveProject(p -> p.setKey("MEMBERS"));
+            var otherUserId = saveOtherUser();
+
+            //Act
+            var result = mockMvc.perform(
+                    post("/v1/projects/{projectIdOrKey}/members/{userId}", "MEMBERS", otherUserId)
+            );
+
+            //Assert
+            result.andExpect(status().isOk());
+
+            var actualProject = projectRepository.findById(projectId).orElseThrow();
+            Assertions.assertThat(actualProject.getMemberUserIds())
+                    .containsExactlyInAnyOrder(mockedUserId, otherUserId);
+            Assertions.assertThat(actualProject.getVersion()).isEqualTo(1L);
+            Assertions.assertThat(actualProject.getUpdatedTs()).isEqualTo(clockTs);
+        }
+
+        @Test
+        @WithUserMock
+        public void existingMemberIsNotDuplicated() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var projectId = saveProject(p -> {
+            });
+
+            //Act
+            var result = mockMvc.perform(
+                    post("/v1/projects/{projectIdOrKey}/members/{userId}", projectId, mockedUserId)
+            );
+
+            //Assert
+            result.andExpect(status().isOk());
+
+            var actualProject = projectRepository.findById(projectId).orElseThrow();
+            Assertions.assertThat(actualProject.getMemberUserIds())
+                    .containsExactly(mockedUserId);
+        }
+
+        @Test
+        @WithUserMock
+        public void memberIsRemoved() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var otherUserId = saveOtherUser();
+            var projectId = saveProject(p -> p.setMemberUserIds(List.of(mockedUserId, otherUserId)));
+
+            //Act
+            var result = mockMvc.perform(
+                    delete("/v1/projects/{projectIdOrKey}/members/{userId}", projectId, otherUserId)
+            );
+
+            //Assert
+            result.andExpect(status().isOk());
+
+            var actualProject = projectRepository.findById(projectId).orElseThrow();
+            Assertions.assertThat(actualProject.getMemberUserIds())
+                    .containsExactly(mockedUserId);
+        }
+
+        @Test
+        @WithUserMock
+        public void membersAreAddedAndRemovedInBatch() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var projectId = saveProject(p -> {
+            });
+            var otherUserId = saveOtherUser();
+
+            var request = UpdateProjectMembersRequest.builder()
+                    .userIds(List.of(otherUserId, mockedUserId))
+                    .build();
+
+            //Act
+            var addResult = mockMvc.perform(post("/v1/projects/{projectIdOrKey}/members", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+            var membersAfterAdd = projectRepository.findById(projectId).orElseThrow().getMemberUserIds();
+
+            request = UpdateProjectMembersRequest.builder()
+                    .userIds(List.of(otherUserId))
+                    .build();
+            var removeResult = mockMvc.perform(post("/v1/projects/{projectIdOrKey}/members:remove", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+            var membersAfterRemove = projectRepository.findById(projectId).orElseThrow().getMemberUserIds();
+
+            //Assert
+            addResult.andExpect(status().isOk());
+            removeResult.andExpect(status().isOk());
+
+            Assertions.assertThat(membersAfterAdd).containsExactlyInAnyOrder(mockedUserId, otherUserId);
+            Assertions.assertThat(membersAfterRemove).containsExactly(mockedUserId);
+        }
+
+        @Test
+        @WithUserMock
+        public void nonexistentUserLeadsTo404() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> {
+            });
+
+            //Act
+            var result = mockMvc.perform(
+                    post("/v1/projects/{projectIdOrKey}/members/{userId}", projectId, RANDOM_UUID)
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("User not found"));
+        }
+
+        @Test
+        @WithUserMock
+        public void emptyBatchLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> {
+            });
+
+            var request = UpdateProjectMembersRequest.builder()
+                    .userIds(List.of())
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/projects/{projectIdOrKey}/members", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithUserMock
+        public void otherUserProjectInaccessibleForMemberUpdate() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var otherUserId = saveOtherUser();
+            var otherUserProjectId = saveProject(p -> p.setMemberUserIds(List.of(otherUserId)));
+
+            //Act
+            var result = mockMvc.perform(
+                    post("/v1/projects/{projectIdOrKey}/members/{userId}", otherUserProjectId, mockedUserId)
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Project not found"));
+
+            var actualProject = projectRepository.findById(otherUserProjectId).orElseThrow();
+            Assertions.assertThat(actualProject.getMemberUserIds())
+                    .containsExactly(otherUserId);
+        }
+    }
+
+    @Nested
+    class ExportProjectTasks {
+
+        @Test
+        @WithUserMock
+        public void tasksAreExportedAsNdjson() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> p.setKey("EXPORT"));
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 1");
+            });
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 2");
+                t.setAssigneeUserId(null);
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/tasks:export", "EXPORT"));
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+            var lines = result.andReturn().getResponse().getContentAsString().lines().toList();
+            Assertions.assertThat(lines).hasSize(2);
+
+            var firstTask = objectMapper.readTree(lines.get(0));
+            Assertions.assertThat(firstTask.get("name").asText()).isEqualTo("Task 1");
+            Assertions.assertThat(firstTask.get("assigneeUser").get("id").asText()).isEqualTo(getMockedUserId());
+
+            var secondTask = objectMapper.readTree(lines.get(1));
+            Assertions.assertThat(secondTask.get("name").asText()).isEqualTo("Task 2");
+            Assertions.assertThat(secondTask.get("assigneeUser").isNull()).isTrue();
+        }
+
+        @Test
+        @WithUserMock
+        public void otherUserProjectInaccessibleForExport() throws Exception {
+            //Arrange
+            var otherUserId = saveOtherUser();
+            var otherUserProjectId = saveProject(p -> p.setMemberUserIds(List.of(otherUserId)));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/tasks:export", otherUserProjectId));
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Project not found"));
+        }
+    }
+
+    @Nested
+    class GetProjectBoard {
+
+        @Test
+        @WithUserMock
+        public void columnsContainCountsAndStoryPointSums() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> p.setKey("BOARD"));
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Backlog 1");
+                t.setStoryPoints(3d);
+            });
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Backlog 2");
+                t.setStoryPoints(null);
+                t.setAssigneeUserId(null);
+            });
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Done 1");
+                t.setStatus(TaskStatus.DONE);
+                t.setStoryPoints(5d);
+            });
+            //Task of another project is not counted
+            var otherProjectId = saveProject(p -> p.setKey("OTHER"));
+            saveTask(t -> t.setProjectId(otherProjectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/board", "BOARD"));
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.columns", hasSize(4)))
+                    .andExpect(jsonPath("$.columns[0].status").value("BACKLOG"))
+                    .andExpect(jsonPath("$.columns[0].count").value(2))
+                    .andExpect(jsonPath("$.columns[0].storyPoints").value(3.0))
+                    .andExpect(jsonPath("$.columns[0].tasks", hasSize(2)))
+                    .andExpect(jsonPath("$.columns[0].tasks[0].name").value("Backlog 1"))
+                    .andExpect(jsonPath("$.columns[0].tasks[0].assigneeUser.id").value(getMockedUserId()))
+                    .andExpect(jsonPath("$.columns[0].tasks[1].assigneeUser").isEmpty())
+                    .andExpect(jsonPath("$.columns[1].status").value("IN_PROGRESS"))
+                    .andExpect(jsonPath("$.columns[1].count").value(0))
+                    .andExpect(jsonPath("$.columns[1].storyPoints").value(0.0))
+                    .andExpect(jsonPath("$.columns[1].tasks", hasSize(0)))
+                    .andExpect(jsonPath("$.columns[2].status").value("REVIEW"))
+                    .andExpect(jsonPath("$.columns[2].count").value(0))
+                    .andExpect(jsonPath("$.columns[3].status").value("DONE"))
+                    .andExpect(jsonPath("$.columns[3].count").value(1))
+                    .andExpect(jsonPath("$.columns[3].storyPoints").value(5.0))
+                    .andExpect(jsonPath("$.columns[3].tasks[0].name").value("Done 1"));
+        }
+
+        @Test
+        @WithUserMock
+        public void columnTasksAreLimitedWhileCountIsNot() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> {
+            });
+            for (int i = 0; i < 3; i++) {
+                saveTask(t -> t.setProjectId(projectId));
+            }
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/board", projectId)
+                    .param("limit", "2")
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.columns[0].count").value(3))
+                    .andExpect(jsonPath("$.columns[0].storyPoints").value(3.0))
+                    .andExpect(jsonPath("$.columns[0].tasks", hasSize(2)));
+        }
+
+        @Test
+        @WithUserMock
+        public void limitAboveMaximumLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> {
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/board", projectId)
+                    .param("limit", "101")
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithUserMock
+        public void otherUserProjectInaccessibleForBoard() throws Exception {
+            //Arrange
+            var otherUserId = saveOtherUser();
+            var otherUserProjectId = saveProject(p -> p.setMemberUserIds(List.of(otherUserId)));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/board", otherUserProjectId));
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Project not found"));
+        }
+    }
+
+    @Nested
+    class GetProjectStats {
+
+        @Test
+        @WithUserMock
+        public void projectWithoutTasksHasZeroCounters() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> {
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/stats", projectId));
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.statuses.BACKLOG.count").value(0))
+                    .andExpect(jsonPath("$.statuses.DONE.storyPoints").value(0.0))
+                    .andExpect(jsonPath("$.assignees.length()").value(0))
+                    .andExpect(jsonPath("$.unassigned.count").value(0));
+        }
+
+        @Test
+        @WithUserMock
+        public void recomputedCountersMatchTasks() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var projectId = saveProject(p -> {
+            });
+            //Tasks are saved bypassing the service, so counters are only known after recomputation
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setStoryPoints(2d);
+            });
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setStatus(TaskStatus.REVIEW);
+                t.setStoryPoints(null);
+                t.setAssigneeUserId(null);
+            });
+            projectTaskStatsRepository.save(projectTaskStatsRepository.computeByProjectId(projectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/stats", projectId));
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.statuses.BACKLOG.count").value(1))
+                    .andExpect(jsonPath("$.statuses.BACKLOG.storyPoints").value(2.0))
+                    .andExpect(jsonPath("$.statuses.REVIEW.count").value(1))
+                    .andExpect(jsonPath("$.statuses.REVIEW.storyPoints").value(0.0))
+                    .andExpect(jsonPath("$.assignees['" + mockedUserId + "'].count").value(1))
+                    .andExpect(jsonPath("$.unassigned.count").value(1));
+        }
+
+        @Test
+        @WithUserMock
+        public void otherUserProjectInaccessibleForStats() throws Exception {
+            //Arrange
+            var otherUserId = saveOtherUser();
+            var otherUserProjectId = saveProject(p -> p.setMemberUserIds(List.of(otherUserId)));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/stats", otherUserProjectId));
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Project not found"));
+        }
+    }
+
+    @Nested
+    class UpdateProjectTasks {
+
+        @Test
+        @WithUserMock
+        public void patchIsAppliedToMatchedTasksOnly() throws Exception {
+            //Arrange
+            var projectId = saveProject(p -> p.setKey("CLOSE"));
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Review");
+                t.setStatus(TaskStatus.REVIEW);
+            });
+            saveTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Backlog");
+            });
+
+            var patch = UpdateTaskRequest.builder()
+                    .status(TaskStatus.DONE)
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/projects/{projectIdOrKey}/tasks:batchUpdate", "CLOSE")
+                    .param("status", "REVIEW")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(patch))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items", hasSize(1)))
+                    .andExpect(jsonPath("$.items[0].task.name").value("Review"))
+                    .andExpect(jsonPath("$.items[0].task.status").value("DONE"));
+
+            Assertions.assertThat(taskRepository.findAllByProjectId(projectId))
+                    .extracting(Task::getName, Task::getStatus)
+                    .containsExactlyInAnyOrder(
+                            Assertions.tuple("Review", TaskStatus.DONE),
+                            Assertions.tuple("Backlog", TaskStatus.BACKLOG)
+                    );
+        }
+
+        @Test
+        @WithUserMock
+        public void otherUserProjectTasksAreNotUpdated() throws Exception {
+            //Arrange
+            var otherUserId = saveOtherUser();
+            var otherUserProjectId = saveProject(p -> p.setMemberUserIds(List.of(otherUserId)));
+            saveTask(t -> t.setProjectId(otherUserProjectId));
+
+            var patch = UpdateTaskRequest.builder()
+                    .status(TaskStatus.DONE)
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/projects/{projectIdOrKey}/tasks:batchUpdate", otherUserProjectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(patch))
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Project not found"));
+            Assertions.assertThat(taskRepository.findAllByProjectId(otherUserProjectId))
+                    .extracting(Task::getStatus)
+                    .containsOnly(TaskStatus.BACKLOG);
+        }
+    }
+
+    /**
+     * Memberships are invalidated once the update is committed, so writes of these tests are committed
+     * and removed after every test instead of being rolled back
+     */
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class CommittedMembershipUpdate {
+
+        private final List<String> userIds = new ArrayList<>();
+        private final List<String> projectIds = new ArrayList<>();
+
+        @AfterEach
+        public void cleanUp() {
+            projectIds.forEach(projectId -> taskRepository.deleteAll(taskRepository.findAllByProjectId(projectId)));
+            projectRepository.deleteAllById(projectIds);
+            userRepository.deleteAllById(userIds);
+        }
+
+        @Test
+        @WithUserMock
+        public void removedMemberLosesAccessRightAfterUpdate() throws Exception {
+            //Arrange
+            var mockedUser = userRepository.findById(getMockedUserId()).orElseThrow();
+            var otherUser = userRepository.save(TestEntityFactory.createUser());
+            userIds.addAll(List.of(mockedUser.getId(), otherUser.getId()));
+            var projectId = saveProject(p -> p.setMemberUserIds(List.of(mockedUser.getId(), otherUser.getId())));
+            projectIds.add(projectId);
+            var task = TestEntityFactory.createTask();
+            task.setProjectId(projectId);
+            var taskId = taskRepository.save(task).getId();
+
+            var asOtherUser = user(CustomUserDetails.of(otherUser));
+            var accessBeforeUpdate = mockMvc.perform(get("/v1/tasks/{taskId}", taskId).with(asOtherUser));
+
+            var request = UpdateProjectRequest.builder()
+                    .memberUserIds(List.of(mockedUser.getId()))
+                    .build();
+
+            //Act
+            var updateResult = mockMvc.perform(put("/v1/projects/{projectIdOrKey}", projectId)
+                    .with(user(CustomUserDetails.of(mockedUser)))
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+            var accessAfterUpdate = mockMvc.perform(get("/v1/tasks/{taskId}", taskId).with(asOtherUser));
+
+            //Assert
+            accessBeforeUpdate.andExpect(status().isOk());
+            updateResult.andExpect(status().isOk());
+            accessAfterUpdate.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Task not found"));
+        }
+    }
+
+    /**
+     * Task writes are retried on write conflicts of the counters only outside of an outer transaction,
+     * so writes of these tests are committed and removed after every test instead of being rolled back
+     */
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    class CommittedTaskStats {
+
+        private static final int CONCURRENT_WRITES = 8;
+
+        private final List<String> userIds = new ArrayList<>();
+        private final List<String> projectIds = new ArrayList<>();
+
+        @AfterEach
+        public void cleanUp() {
+            projectIds.forEach(projectId -> taskRepository.deleteAll(taskRepository.findAllByProjectId(projectId)));
+            projectTaskStatsRepository.deleteAllById(projectIds);
+            projectRepository.deleteAllById(projectIds);
+            userRepository.deleteAllById(userIds);
+        }
+
+        @Test
+        @WithUserMock
+        public void countersFollowTaskWrites() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            userIds.add(mockedUserId);
+            var projectId = saveProject(p -> p.setKey("STATS"));
+            projectIds.add(projectId);
+
+            createTask(CreateTaskRequest.builder()
+                    .projectId(projectId)
+                    .storyPoints(3d)
+                    .build()
+            );
+            var taskId = createTask(CreateTaskRequest.builder()
+                    .projectId(projectId)
+                    .storyPoints(5d)
+                    .build()
+            );
+
+            var updateRequest = UpdateTaskRequest.builder()
+                    .status(TaskStatus.DONE)
+                    .nullifyAssigneeUserId(true)
+                    .build();
+            mockMvc.perform(put("/v1/tasks/{taskId}", taskId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updateRequest))
+            ).andExpect(status().isOk());
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/stats", "STATS"));
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.statuses.BACKLOG.count").value(1))
+                    .andExpect(jsonPath("$.statuses.BACKLOG.storyPoints").value(3.0))
+                    .andExpect(jsonPath("$.statuses.IN_PROGRESS.count").value(0))
+                    .andExpect(jsonPath("$.statuses.REVIEW.count").value(0))
+                    .andExpect(jsonPath("$.statuses.DONE.count").value(1))
+                    .andExpect(jsonPath("$.statuses.DONE.storyPoints").value(5.0))
+                    .andExpect(jsonPath("$.assignees.length()").value(1))
+                    .andExpect(jsonPath("$.assignees['" + mockedUserId + "'].count").value(1))
+                    .andExpect(jsonPath("$.assignees['" + mockedUserId + "'].storyPoints").value(3.0))
+                    .andExpect(jsonPath("$.unassigned.count").value(1))
+                    .andExpect(jsonPath("$.unassigned.storyPoints").value(5.0));
+        }
+
+        @Test
+        @WithUserMock
+        public void batchWritesAreCounted() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            userIds.add(mockedUserId);
+            var otherUserId = saveOtherUser();
+            userIds.add(otherUserId);
+            var projectId = saveProject(p -> p.setKey("BATCH"));
+            projectIds.add(projectId);
+
+            var createRequest = CreateTasksRequest.builder()
+                    .tasks(List.of(
+                            CreateTaskRequest.builder().projectId(projectId).storyPoints(1d).build(),
+                            CreateTaskRequest.builder().projectId(projectId).storyPoints(2d).build()
+                    ))
+                    .build();
+            var createResponse = mockMvc.perform(post("/v1/tasks:batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(createRequest))
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            var taskId = objectMapper.readTree(createResponse).at("/items/0/task/id").asText();
+
+            var updateRequest = UpdateTasksRequest.builder()
+                    .tasks(List.of(TaskUpdateItemRequest.builder()
+                            .taskId(taskId)
+                            .update(UpdateTaskRequest.builder()
+                                    .status(TaskStatus.DONE)
+                                    .assigneeUserId(otherUserId)
+                                    .build()
+                            )
+                            .build()
+                    ))
+                    .build();
+            mockMvc.perform(post("/v1/tasks:batchUpdate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(updateRequest))
+            ).andExpect(status().isOk());
+
+            //Act
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/stats", projectId));
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.statuses.BACKLOG.count").value(1))
+                    .andExpect(jsonPath("$.statuses.BACKLOG.storyPoints").value(2.0))
+                    .andExpect(jsonPath("$.statuses.DONE.count").value(1))
+                    .andExpect(jsonPath("$.statuses.DONE.storyPoints").value(1.0))
+                    .andExpect(jsonPath("$.assignees['" + mockedUserId + "'].count").value(1))
+                    .andExpect(jsonPath("$.assignees['" + otherUserId + "'].count").value(1));
+        }
+
+        /**
+         * Creates of one project conflict on its counters document within their transactions and are retried
+         */
+        @Test
+        @WithUserMock
+        public void concurrentTaskCreatesAreCounted() throws Exception {
+            //Arrange
+            var mockedUser = userRepository.findById(getMockedUserId()).orElseThrow();
+            userIds.add(mockedUser.getId());
+            var projectId = saveProject(p -> p.setKey("CONCURRENT"));
+            projectIds.add(projectId);
+
+            var request = CreateTaskRequest.builder()
+                    .projectId(projectId)
+                    .storyPoints(1d)
+                    .build();
+            var createTask = (Callable<Integer>) () -> mockMvc.perform(post("/v1/tasks")
+                            .with(user(CustomUserDetails.of(mockedUser)))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                    )
+                    .andReturn().getResponse().getStatus();
+
+            //Act
+            var statuses = new ArrayList<Integer>();
+            try (var executor = Executors.newFixedThreadPool(CONCURRENT_WRITES)) {
+                for (var response : executor.invokeAll(Collections.nCopies(CONCURRENT_WRITES, createTask))) {
+                    statuses.add(response.get());
+                }
+            }
+            var result = mockMvc.perform(get("/v1/projects/{projectIdOrKey}/stats", projectId));
+
+            //Assert
+            Assertions.assertThat(statuses).containsOnly(HttpStatus.OK.value());
+            Assertions.assertThat(taskRepository.findAllByProjectId(projectId)).hasSize(CONCURRENT_WRITES);
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.statuses.BACKLOG.count").value(CONCURRENT_WRITES))
+                    .andExpect(jsonPath("$.statuses.BACKLOG.storyPoints").value((double) CONCURRENT_WRITES));
+        }
+
+        private String createTask(CreateTaskRequest request) throws Exception {
+            var response = mockMvc.perform(post("/v1/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            return objectMapper.readTree(response).get("id").asText();
+        }
+    }
+
     private CreateProjectRequest.CreateProjectRequestBuilder defaultCreateProjectRequestBuilder() {
         return CreateProjectRequest.builder()
                 .name("Create project name")
@@ -780,6 +1579,12 @@ public class ProjectControllerTest extends MockMvcAbstractTest {
         return projectRepository.save(project).getId();
     }
 
+    private void saveTask(Consumer<Task> preconfigure) {
+        var task = TestEntityFactory.createTask();
+        preconfigure.accept(task);
+        taskRepository.save(task);
+    }
+
     private String saveOtherUser() {
         var otherUser = TestEntityFactory.createUser();
         return userRepository.save(otherUser).getId();
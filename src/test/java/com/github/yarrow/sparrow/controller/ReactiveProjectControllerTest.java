@@ -0,0 +1,82 @@
+package com.github.yarrow.sparrow.controller;
+
+import com.github.yarrow.sparrow.WebTestClientAbstractTest;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+public class ReactiveProjectControllerTest extends WebTestClientAbstractTest {
+
+    @Nested
+    public class GetProjectByIdOrKey {
+
+        @Test
+        public void projectOfMemberIsReturned() {
+            //Arrange
+            var user = saveUser("member");
+            var projectId = saveProject("KEY", user);
+
+            //Act + Assert
+            clientOf(user).get()
+                    .uri("/v1/projects/{projectIdOrKey}", "KEY")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.id").isEqualTo(projectId)
+                    .jsonPath("$.key").isEqualTo("KEY");
+        }
+
+        @Test
+        public void projectOfAnotherUserLeadsTo404() {
+            //Arrange
+            var user = saveUser("member");
+            var otherUser = saveUser("other");
+            var projectId = saveProject("OTHER", otherUser);
+
+            //Act + Assert
+            clientOf(user).get()
+                    .uri("/v1/projects/{projectIdOrKey}", projectId)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Project not found");
+            clientOf(user).get()
+                    .uri("/v1/projects/{projectIdOrKey}", "OTHER")
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+
+        @Test
+        public void requestWithoutTokenLeadsTo403() {
+            //Arrange
+            var user = saveUser("member");
+            saveProject("KEY", user);
+
+            //Act + Assert
+            clientOf(user).get()
+                    .uri("/v1/projects/{projectIdOrKey}", "KEY")
+                    .headers(headers -> headers.remove(HttpHeaders.AUTHORIZATION))
+                    .exchange()
+                    .expectStatus().isForbidden();
+        }
+    }
+
+    @Nested
+    public class ExportProjectTasks {
+
+        @Test
+        public void tasksOfAnotherUserProjectAreNotExported() {
+            //Arrange
+            var user = saveUser("member");
+            var otherUser = saveUser("other");
+            var projectId = saveProject("OTHER", otherUser);
+            saveTask(projectId, otherUser);
+
+            //Act + Assert
+            clientOf(user).get()
+                    .uri("/v1/projects/{projectIdOrKey}/tasks:export", projectId)
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.github.yarrow.sparrow.controller;
+
+import com.github.yarrow.sparrow.WebTestClientAbstractTest;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.CreateTasksRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTasksRequest;
+import com.github.yarrow.sparrow.repository.ReactiveTaskRepository;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Update;
+
+public class ReactiveTaskControllerTest extends WebTestClientAbstractTest {
+
+    @Autowired
+    private ReactiveTaskRepository reactiveTaskRepository;
+
+    @Nested
+    public class GetTaskById {
+
+        @Test
+        public void taskOfMemberIsReturned() {
+            //Arrange
+            var user = saveUser("member");
+            var taskId = saveTask(saveProject("KEY", user), user);
+
+            //Act + Assert
+            clientOf(user).get()
+                    .uri("/v1/tasks/{taskId}", taskId)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.id").isEqualTo(taskId)
+                    .jsonPath("$.assigneeUser.id").isEqualTo(user.getId());
+        }
+
+        @Test
+        public void taskOfAnotherUserProjectLeadsTo404() {
+            //Arrange
+            var user = saveUser("member");
+            var otherUser = saveUser("other");
+            var taskId = saveTask(saveProject("OTHER", otherUser), otherUser);
+
+            //Act + Assert
+            clientOf(user).get()
+                    .uri("/v1/tasks/{taskId}", taskId)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Task not found");
+        }
+    }
+
+    @Nested
+    public class CreateTasks {
+
+        @Test
+        public void rejectedTasksDoNotPreventOthers() {
+            //Arrange
+            var user = saveUser("member");
+            var otherUser = saveUser("other");
+            var projectId = saveProject("KEY", user);
+            var inaccessibleProjectId = saveProject("OTHER", otherUser);
+
+            var request = CreateTasksRequest.builder()
+                    .tasks(List.of(
+                            CreateTaskRequest.builder().projectId(inaccessibleProjectId).build(),
+                            CreateTaskRequest.builder().projectId(projectId).assigneeUserId(RANDOM_UUID).build(),
+                            CreateTaskRequest.builder().projectId(projectId).name("Created").build()
+                    ))
+                    .build();
+
+            //Act + Assert
+            clientOf(user).post()
+                    .uri("/v1/tasks:batch")
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.items[0].task").isEmpty()
+                    .jsonPath("$.items[0].error.message").isEqualTo("Project not found")
+                    .jsonPath("$.items[1].task").isEmpty()
+                    .jsonPath("$.items[1].error.message").isEqualTo("User not found")
+                    .jsonPath("$.items[2].task.name").isEqualTo("Created")
+                    .jsonPath("$.items[2].error").isEmpty();
+
+            Assertions.assertThat(taskRepository.findAll())
+                    .extracting(Task::getName)
+                    .containsExactly("Created");
+        }
+
+        @Test
+        public void invalidTaskDoesNotPreventOthers() {
+            //Arrange
+            var user = saveUser("member");
+            var projectId = saveProject("KEY", user);
+
+            var request = CreateTasksRequest.builder()
+                    .tasks(List.of(
+                            CreateTaskRequest.builder().projectId(projectId).name("a".repeat(31)).build(),
+                            CreateTaskRequest.builder().projectId(projectId).name("Created").build()
+                    ))
+                    .build();
+
+            //Act + Assert
+            clientOf(user).post()
+                    .uri("/v1/tasks:batch")
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.items[0].task").isEmpty()
+                    .jsonPath("$.items[0].error.message").isEqualTo("Task name must be between 1 and 30 characters")
+                    .jsonPath("$.items[1].task.name").isEqualTo("Created");
+
+            Assertions.assertThat(taskRepository.findAll())
+                    .extracting(Task::getName)
+                    .containsExactly("Created");
+        }
+    }
+
+    @Nested
+    public class UpdateTasks {
+
+        @Test
+        public void rejectedUpdatesDoNotPreventOthers() {
+            //Arrange
+            var user = saveUser("member");
+            var otherUser = saveUser("other");
+            var taskId = saveTask(saveProject("KEY", user), user);
+            var inaccessibleTaskId = saveTask(saveProject("OTHER", otherUser), otherUser);
+
+            var done = UpdateTaskRequest.builder().status(TaskStatus.DONE).build();
+            var request = UpdateTasksRequest.builder()
+                    .tasks(List.of(
+                            TaskUpdateItemRequest.builder().taskId(inaccessibleTaskId).update(done).build(),
+                            TaskUpdateItemRequest.builder().taskId(RANDOM_UUID).update(done).build(),
+                            TaskUpdateItemRequest.builder().taskId(taskId).update(done).build()
+                    ))
+                    .build();
+
+            //Act + Assert
+            clientOf(user).post()
+                    .uri("/v1/tasks:batchUpdate")
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.items[0].task").isEmpty()
+                    .jsonPath("$.items[0].error.message").isEqualTo("Task not found")
+                    .jsonPath("$.items[1].task").isEmpty()
+                    .jsonPath("$.items[1].error.message").isEqualTo("Task not found")
+                    .jsonPath("$.items[2].task.status").isEqualTo("DONE");
+
+            Assertions.assertThat(taskRepository.findById(inaccessibleTaskId).orElseThrow().getStatus())
+                    .isEqualTo(TaskStatus.BACKLOG);
+            Assertions.assertThat(taskRepository.findById(taskId).orElseThrow().getStatus())
+                    .isEqualTo(TaskStatus.DONE);
+        }
+
+        @Test
+        public void invalidUpdateDoesNotPreventOthers() {
+            //Arrange
+            var user = saveUser("member");
+            var projectId = saveProject("KEY", user);
+            var taskId = saveTask(projectId, user);
+            var invalidTaskId = saveTask(projectId, user);
+
+            var request = UpdateTasksRequest.builder()
+                    .tasks(List.of(
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(invalidTaskId)
+                                    .update(UpdateTaskRequest.builder().storyPoints(-1d).build())
+                                    .build(),
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(taskId)
+                                    .update(UpdateTaskRequest.builder().storyPoints(3d).build())
+                                    .build()
+                    ))
+                    .build();
+
+            //Act + Assert
+            clientOf(user).post()
+                    .uri("/v1/tasks:batchUpdate")
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.items[0].task").isEmpty()
+                    .jsonPath("$.items[0].error.message").isEqualTo("Task story points must be positive or zero")
+                    .jsonPath("$.items[1].task.storyPoints").isEqualTo(3d);
+        }
+
+        @Test
+        public void taskChangedAfterReadIsNotUpdated() {
+            //Arrange
+            var user = saveUser("member");
+            var taskId = saveTask(saveProject("KEY", user), user);
+            var previous = taskRepository.findById(taskId).orElseThrow();
+
+            var changed = taskRepository.findById(taskId).orElseThrow();
+            changed.setStatus(TaskStatus.REVIEW);
+            taskRepository.save(changed);
+
+            //Act
+            var changedIds = reactiveTaskRepository.updateAllUnchanged(
+                    Map.of(taskId, previous),
+                    Map.of(taskId, new Update().set("status", TaskStatus.DONE))
+            ).block();
+
+            //Assert
+            Assertions.assertThat(changedIds).containsExactly(taskId);
+            Assertions.assertThat(taskRepository.findById(taskId).orElseThrow().getStatus())
+                    .isEqualTo(TaskStatus.REVIEW);
+        }
+    }
+}
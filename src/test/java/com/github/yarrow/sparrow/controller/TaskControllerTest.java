@@ -1,5 +1,6 @@
 package com.github.yarrow.sparrow.controller;
 
+import static com.github.yarrow.sparrow.util.Constants.Search.MAX_OFFSET;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -11,11 +12,17 @@ import com.github.yarrow.sparrow.authentication.WithUserMock;
 import com.github.yarrow.sparrow.domain.Task;
 import com.github.yarrow.sparrow.domain.TaskStatus;
 import com.github.yarrow.sparrow.dto.request.CreateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.CreateTasksRequest;
+import com.github.yarrow.sparrow.dto.request.GetTasksRequest;
+import com.github.yarrow.sparrow.dto.request.TaskUpdateItemRequest;
 import com.github.yarrow.sparrow.dto.request.UpdateTaskRequest;
+import com.github.yarrow.sparrow.dto.request.UpdateTasksRequest;
 import com.github.yarrow.sparrow.repository.ProjectRepository;
 import com.github.yarrow.sparrow.repository.TaskRepository;
 import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.util.CursorUtil;
 import com.github.yarrow.sparrow.util.TestEntityFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.StringUtils;
@@ -523,6 +530,135 @@ public class TaskControllerTest extends MockMvcAbstractTest {
         }
     }
 
+    @Nested
+    class CreateTasks {
+
+        @Test
+        @WithUserMock
+        public void tasksAreCreatedInOrderOfRequests() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var otherUserId = createOtherUser();
+            var projectId = saveProject();
+
+            var request = CreateTasksRequest.builder()
+                    .tasks(List.of(
+                            CreateTaskRequest.builder().projectId(projectId).name("Task 1").build(),
+                            CreateTaskRequest.builder()
+                                    .projectId(projectId)
+                                    .name("Task 2")
+                                    .assigneeUserId(otherUserId)
+                                    .storyPoints(2d)
+                                    .build()
+                    ))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].index").value(0))
+                    .andExpect(jsonPath("$.items[0].task.name").value("Task 1"))
+                    .andExpect(jsonPath("$.items[0].task.assigneeUser.id").value(mockedUserId))
+                    .andExpect(jsonPath("$.items[0].error").isEmpty())
+                    .andExpect(jsonPath("$.items[1].index").value(1))
+                    .andExpect(jsonPath("$.items[1].task.name").value("Task 2"))
+                    .andExpect(jsonPath("$.items[1].task.assigneeUser.id").value(otherUserId));
+
+            var actualTasks = taskRepository.findAllByProjectId(projectId);
+            Assertions.assertThat(actualTasks)
+                    .extracting(Task::getName)
+                    .containsExactlyInAnyOrder("Task 1", "Task 2");
+        }
+
+        @Test
+        @WithUserMock
+        public void rejectedTasksDoNotPreventOthers() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var inaccessibleProjectId = createInaccessibleProject();
+
+            var request = CreateTasksRequest.builder()
+                    .tasks(List.of(
+                            CreateTaskRequest.builder().projectId(inaccessibleProjectId).build(),
+                            CreateTaskRequest.builder().projectId(projectId).assigneeUserId(RANDOM_UUID).build(),
+                            CreateTaskRequest.builder().projectId(projectId).name("Created").build()
+                    ))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].task").isEmpty())
+                    .andExpect(jsonPath("$.items[0].error.message").value("Project not found"))
+                    .andExpect(jsonPath("$.items[1].task").isEmpty())
+                    .andExpect(jsonPath("$.items[1].error.message").value("User not found"))
+                    .andExpect(jsonPath("$.items[2].task.name").value("Created"));
+
+            Assertions.assertThat(taskRepository.findAll())
+                    .extracting(Task::getName)
+                    .containsExactly("Created");
+        }
+
+        @Test
+        @WithUserMock
+        public void emptyBatchLeadsTo400() throws Exception {
+            //Arrange
+            var request = CreateTasksRequest.builder()
+                    .tasks(List.of())
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Tasks must be present"));
+        }
+
+        @Test
+        @WithUserMock
+        public void invalidTaskDoesNotPreventOthers() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var request = CreateTasksRequest.builder()
+                    .tasks(List.of(
+                            CreateTaskRequest.builder().projectId(projectId).storyPoints(-1d).build(),
+                            CreateTaskRequest.builder().projectId(projectId).name("Created").build()
+                    ))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].task").isEmpty())
+                    .andExpect(jsonPath("$.items[0].error.message")
+                            .value("Task story points must be positive or zero"))
+                    .andExpect(jsonPath("$.items[1].task.name").value("Created"));
+
+            Assertions.assertThat(taskRepository.findAll())
+                    .extracting(Task::getName)
+                    .containsExactly("Created");
+        }
+    }
+
     @Nested
     class GetTasksWithinProject {
 
@@ -548,8 +684,374 @@ public class TaskControllerTest extends MockMvcAbstractTest {
 
             //Assert
             result.andExpect(status().isOk())
-                    .andExpect(jsonPath("$[0].name").value("Task 1"))
-                    .andExpect(jsonPath("$[1].name").value("Task 2"));
+                    .andExpect(jsonPath("$.items[0].name").value("Task 1"))
+                    .andExpect(jsonPath("$.items[1].name").value("Task 2"))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void taskListIsPaginatedByCursor() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 1");
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 2");
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 3");
+            });
+
+            //Act
+            var firstPageResult = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+            var firstPage = objectMapper.readTree(firstPageResult.andReturn().getResponse().getContentAsString());
+            var secondPageResult = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("limit", "2")
+                    .param("cursor", firstPage.get("nextCursor").asText())
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            firstPageResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].name").value("Task 1"))
+                    .andExpect(jsonPath("$.items[1].name").value("Task 2"))
+                    .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+            secondPageResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].name").value("Task 3"))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void onlyRequestedFieldsAreReturned() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var taskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 1");
+                t.setStatus(TaskStatus.REVIEW);
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("fields", "name", "status")
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(taskId))
+                    .andExpect(jsonPath("$.items[0].name").value("Task 1"))
+                    .andExpect(jsonPath("$.items[0].status").value("REVIEW"))
+                    .andExpect(jsonPath("$.items[0].description").isEmpty())
+                    .andExpect(jsonPath("$.items[0].assigneeUser").isEmpty())
+                    .andExpect(jsonPath("$.items[0].storyPoints").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void sparseTasksSortedByStoryPointsArePaginatedByCursor() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Large");
+                t.setStoryPoints(8d);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Small");
+                t.setStoryPoints(1d);
+            });
+
+            var firstPage = mockMvc.perform(get("/v1/tasks")
+                            .param("projectId", projectId)
+                            .param("sort", "STORY_POINTS_ASC")
+                            .param("fields", "name")
+                            .param("limit", "1")
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            var cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("sort", "STORY_POINTS_ASC")
+                    .param("fields", "name")
+                    .param("limit", "1")
+                    .param("cursor", cursor)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].name").value("Large"))
+                    .andExpect(jsonPath("$.items[0].storyPoints").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void invalidCursorLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("cursor", "not a cursor")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Cursor is invalid"));
+        }
+
+        @Test
+        @WithUserMock
+        public void cursorOfNotAnIdLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("cursor", CursorUtil.encode("not an id"))
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Cursor is invalid"));
+        }
+
+        @Test
+        @WithUserMock
+        public void tasksAreFilteredByStatuses() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Backlog task");
+                t.setStatus(TaskStatus.BACKLOG);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Review task");
+                t.setStatus(TaskStatus.REVIEW);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Done task");
+                t.setStatus(TaskStatus.DONE);
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("status", "BACKLOG", "DONE")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].name").value("Backlog task"))
+                    .andExpect(jsonPath("$.items[1].name").value("Done task"));
+        }
+
+        @Test
+        @WithUserMock
+        public void tasksAreFilteredByAssignee() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Assigned task");
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Other user task");
+                t.setAssigneeUserId(RANDOM_UUID);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Unassigned task");
+                t.setAssigneeUserId(null);
+            });
+
+            //Act
+            var assignedResult = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("assigneeUserId", getMockedUserId())
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+            var unassignedResult = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("unassigned", "true")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            assignedResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].name").value("Assigned task"));
+            unassignedResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].name").value("Unassigned task"));
+        }
+
+        @Test
+        @WithUserMock
+        public void tasksAreFilteredByStoryPointsRange() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            for (var storyPoints : List.of(1d, 3d, 5d, 8d)) {
+                createTask(t -> {
+                    t.setProjectId(projectId);
+                    t.setName("Task " + storyPoints.intValue());
+                    t.setStoryPoints(storyPoints);
+                });
+            }
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("minStoryPoints", "3")
+                    .param("maxStoryPoints", "5")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].name").value("Task 3"))
+                    .andExpect(jsonPath("$.items[1].name").value("Task 5"));
+        }
+
+        @Test
+        @WithUserMock
+        public void tasksSortedByStoryPointsArePaginatedByCursor() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task without story points");
+                t.setStoryPoints(null);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 3");
+                t.setStoryPoints(3d);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Another task 3");
+                t.setStoryPoints(3d);
+            });
+            createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 1");
+                t.setStoryPoints(1d);
+            });
+
+            //Act
+            var firstPageResult = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("sort", "STORY_POINTS_DESC")
+                    .param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+            var firstPage = objectMapper.readTree(firstPageResult.andReturn().getResponse().getContentAsString());
+            var secondPageResult = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("sort", "STORY_POINTS_DESC")
+                    .param("limit", "2")
+                    .param("cursor", firstPage.get("nextCursor").asText())
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            firstPageResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].name").value("Another task 3"))
+                    .andExpect(jsonPath("$.items[1].name").value("Task 3"))
+                    .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+            secondPageResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].name").value("Task 1"))
+                    .andExpect(jsonPath("$.items[1].name").value("Task without story points"))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void assigneeIdWithUnassignedFilterLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("assigneeUserId", getMockedUserId())
+                    .param("unassigned", "true")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Assignee id must be not present if unassigned is true"));
+        }
+
+        @Test
+        @WithUserMock
+        public void unknownSortLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("sort", "NAME")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @WithUserMock
+        public void limitGreaterThanMaximumLeadsTo400() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("projectId", projectId)
+                    .param("limit", "501")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Limit must be less than or equal to 500"));
         }
 
         @Test
@@ -564,7 +1066,7 @@ public class TaskControllerTest extends MockMvcAbstractTest {
             );
 
             //Assert
-            result.andExpect(status().isOk()).andExpect(jsonPath("$").isEmpty());
+            result.andExpect(status().isOk()).andExpect(jsonPath("$.items").isEmpty());
         }
 
         @Test
@@ -645,6 +1147,26 @@ public class TaskControllerTest extends MockMvcAbstractTest {
                     .andExpect(jsonPath("$.storyPoints").value(1d));
         }
 
+        @Test
+        @WithUserMock
+        public void assigneeIsNotReturnedUnlessRequested() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var taskId = createTask(t -> t.setProjectId(projectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/{taskId}", taskId)
+                    .param("fields", "name")
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(taskId))
+                    .andExpect(jsonPath("$.name").value("Test name"))
+                    .andExpect(jsonPath("$.projectId").isEmpty())
+                    .andExpect(jsonPath("$.assigneeUser").isEmpty());
+        }
+
         @Test
         @WithUserMock
         public void nonexistentTaskLeadsTo404() throws Exception {
@@ -681,8 +1203,151 @@ public class TaskControllerTest extends MockMvcAbstractTest {
             );
 
             //Assert
-            result.andExpect(status().isNotFound())
-                    .andExpect(jsonPath("$.message").value("Task not found"));
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Task not found"));
+        }
+
+        @Test
+        @WithUserMock
+        public void inaccessibleProjectLeadsTo404ForSparseGet() throws Exception {
+            //Arrange
+            var inaccessibleProjectId = createInaccessibleProject();
+            var taskId = createTask(t -> t.setProjectId(inaccessibleProjectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/{taskId}", taskId)
+                    .param("fields", "name")
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Task not found"));
+        }
+    }
+
+    @Nested
+    class GetTasksByIds {
+
+        @Test
+        @WithUserMock
+        public void tasksAreReturnedInOrderOfIds() throws Exception {
+            //Arrange
+            var mockedUserId = getMockedUserId();
+            var projectId = saveProject();
+            var firstTaskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 1");
+            });
+            var secondTaskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 2");
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("ids", secondTaskId, firstTaskId)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].name").value("Task 2"))
+                    .andExpect(jsonPath("$.items[0].assigneeUser.id").value(mockedUserId))
+                    .andExpect(jsonPath("$.items[1].name").value("Task 1"))
+                    .andExpect(jsonPath("$.missingIds").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void missingTaskLeadsTo404() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var taskId = createTask(t -> t.setProjectId(projectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("ids", taskId, RANDOM_UUID)
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Task not found"));
+        }
+
+        @Test
+        @WithUserMock
+        public void missingAndInaccessibleTasksAreListedInPartialMode() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var inaccessibleProjectId = createInaccessibleProject();
+            var taskId = createTask(t -> t.setProjectId(projectId));
+            var inaccessibleTaskId = createTask(t -> t.setProjectId(inaccessibleProjectId));
+
+            var request = GetTasksRequest.builder()
+                    .ids(List.of(inaccessibleTaskId, taskId, RANDOM_UUID))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batchGet")
+                    .param("partial", "true")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].id").value(taskId))
+                    .andExpect(jsonPath("$.missingIds[0]").value(inaccessibleTaskId))
+                    .andExpect(jsonPath("$.missingIds[1]").value(RANDOM_UUID));
+        }
+
+        @Test
+        @WithUserMock
+        public void onlyRequestedFieldsOfAccessibleTasksAreReturnedInPartialMode() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var inaccessibleProjectId = createInaccessibleProject();
+            var taskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task 1");
+                t.setStatus(TaskStatus.REVIEW);
+            });
+            var inaccessibleTaskId = createTask(t -> t.setProjectId(inaccessibleProjectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks")
+                    .param("ids", inaccessibleTaskId, taskId)
+                    .param("partial", "true")
+                    .param("fields", "status")
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].id").value(taskId))
+                    .andExpect(jsonPath("$.items[0].status").value("REVIEW"))
+                    .andExpect(jsonPath("$.items[0].name").isEmpty())
+                    .andExpect(jsonPath("$.items[0].projectId").isEmpty())
+                    .andExpect(jsonPath("$.missingIds[0]").value(inaccessibleTaskId));
+        }
+
+        @Test
+        @WithUserMock
+        public void emptyIdsLeadTo400() throws Exception {
+            //Arrange
+            var request = GetTasksRequest.builder()
+                    .ids(List.of())
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batchGet")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Task ids must be present"));
         }
     }
 
@@ -791,6 +1456,54 @@ public class TaskControllerTest extends MockMvcAbstractTest {
                     .isEqualTo(expectedTask);
         }
 
+        @Test
+        @WithUserMock
+        public void onlyRequestedFieldsAreUpdated() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var mockedUserId = getMockedUserId();
+
+            var taskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Task name to keep");
+                t.setDescription("Task description to keep");
+                t.setAssigneeUserId(mockedUserId);
+                t.setStatus(TaskStatus.BACKLOG);
+                t.setStoryPoints(5d);
+            });
+
+            var request = UpdateTaskRequest.builder()
+                    .status(TaskStatus.DONE)
+                    .build();
+
+            var expectedTask = Task.builder()
+                    .id(taskId)
+                    .projectId(projectId)
+                    .name("Task name to keep")
+                    .description("Task description to keep")
+                    .assigneeUserId(mockedUserId)
+                    .status(TaskStatus.DONE)
+                    .storyPoints(5d)
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(put("/v1/tasks/{taskId}", taskId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.name").value("Task name to keep"))
+                    .andExpect(jsonPath("$.status").value("DONE"))
+                    .andExpect(jsonPath("$.storyPoints").value(5d));
+
+            var actualTask = taskRepository.findAll().getFirst();
+            Assertions.assertThat(actualTask)
+                    .usingRecursiveComparison()
+                    .isEqualTo(expectedTask);
+        }
+
         @Test
         @WithUserMock
         public void nonexistentTaskLeadsTo404() throws Exception {
@@ -856,6 +1569,29 @@ public class TaskControllerTest extends MockMvcAbstractTest {
                     .andExpect(jsonPath("$.message").value("User not found"));
         }
 
+        @Test
+        @WithUserMock
+        public void nonexistentAssigneeOfInaccessibleTaskLeadsToTaskNotFound() throws Exception {
+            //Arrange
+            var inaccessibleProjectId = createInaccessibleProject();
+
+            var taskId = createTask(t -> t.setProjectId(inaccessibleProjectId));
+
+            var request = UpdateTaskRequest.builder()
+                    .assigneeUserId(RANDOM_UUID)
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(put("/v1/tasks/{taskId}", taskId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Task not found"));
+        }
+
         @Test
         @WithUserMock
         public void taskAssigneeIsNullified() throws Exception {
@@ -1186,6 +1922,394 @@ public class TaskControllerTest extends MockMvcAbstractTest {
         }
     }
 
+    @Nested
+    class UpdateTasks {
+
+        @Test
+        @WithUserMock
+        public void tasksAreTransitionedAndReassigned() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var otherUserId = createOtherUser();
+            var firstTaskId = createTask(t -> t.setProjectId(projectId));
+            var secondTaskId = createTask(t -> t.setProjectId(projectId));
+
+            var request = UpdateTasksRequest.builder()
+                    .tasks(List.of(
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(firstTaskId)
+                                    .update(UpdateTaskRequest.builder().status(TaskStatus.DONE).build())
+                                    .build(),
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(secondTaskId)
+                                    .update(UpdateTaskRequest.builder()
+                                            .status(TaskStatus.DONE)
+                                            .assigneeUserId(otherUserId)
+                                            .build()
+                                    )
+                                    .build()
+                    ))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batchUpdate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].index").value(0))
+                    .andExpect(jsonPath("$.items[0].task.id").value(firstTaskId))
+                    .andExpect(jsonPath("$.items[0].task.status").value("DONE"))
+                    .andExpect(jsonPath("$.items[0].error").isEmpty())
+                    .andExpect(jsonPath("$.items[1].index").value(1))
+                    .andExpect(jsonPath("$.items[1].task.status").value("DONE"))
+                    .andExpect(jsonPath("$.items[1].task.assigneeUser.id").value(otherUserId));
+
+            Assertions.assertThat(taskRepository.findAllByProjectId(projectId))
+                    .extracting(Task::getStatus)
+                    .containsOnly(TaskStatus.DONE);
+            Assertions.assertThat(taskRepository.findById(secondTaskId).orElseThrow().getAssigneeUserId())
+                    .isEqualTo(otherUserId);
+        }
+
+        @Test
+        @WithUserMock
+        public void rejectedUpdatesDoNotPreventOthers() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var inaccessibleProjectId = createInaccessibleProject();
+            var taskId = createTask(t -> t.setProjectId(projectId));
+            var otherTaskId = createTask(t -> t.setProjectId(projectId));
+            var inaccessibleTaskId = createTask(t -> t.setProjectId(inaccessibleProjectId));
+
+            var done = UpdateTaskRequest.builder().status(TaskStatus.DONE).build();
+            var request = UpdateTasksRequest.builder()
+                    .tasks(List.of(
+                            TaskUpdateItemRequest.builder().taskId(inaccessibleTaskId).update(done).build(),
+                            TaskUpdateItemRequest.builder().taskId(RANDOM_UUID).update(done).build(),
+                            TaskUpdateItemRequest.builder().taskId(taskId).update(done).build(),
+                            TaskUpdateItemRequest.builder().taskId(taskId).update(done).build(),
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(otherTaskId)
+                                    .update(UpdateTaskRequest.builder().assigneeUserId(RANDOM_UUID).build())
+                                    .build()
+                    ))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batchUpdate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].task").isEmpty())
+                    .andExpect(jsonPath("$.items[0].error.message").value("Task not found"))
+                    .andExpect(jsonPath("$.items[1].task").isEmpty())
+                    .andExpect(jsonPath("$.items[1].error.message").value("Task not found"))
+                    .andExpect(jsonPath("$.items[2].task.status").value("DONE"))
+                    .andExpect(jsonPath("$.items[3].task").isEmpty())
+                    .andExpect(jsonPath("$.items[3].error.message")
+                            .value("Task must be present only once in a batch"))
+                    .andExpect(jsonPath("$.items[4].task").isEmpty())
+                    .andExpect(jsonPath("$.items[4].error.message").value("User not found"));
+
+            Assertions.assertThat(taskRepository.findById(inaccessibleTaskId).orElseThrow().getStatus())
+                    .isEqualTo(TaskStatus.BACKLOG);
+            Assertions.assertThat(taskRepository.findById(otherTaskId).orElseThrow().getStatus())
+                    .isEqualTo(TaskStatus.BACKLOG);
+        }
+
+        @Test
+        @WithUserMock
+        public void invalidUpdateDoesNotPreventOthers() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var taskId = createTask(t -> t.setProjectId(projectId));
+            var invalidTaskId = createTask(t -> t.setProjectId(projectId));
+
+            var request = UpdateTasksRequest.builder()
+                    .tasks(List.of(
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(invalidTaskId)
+                                    .update(UpdateTaskRequest.builder().name("a".repeat(31)).build())
+                                    .build(),
+                            TaskUpdateItemRequest.builder()
+                                    .taskId(taskId)
+                                    .update(UpdateTaskRequest.builder().name("Renamed").build())
+                                    .build()
+                    ))
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batchUpdate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].task").isEmpty())
+                    .andExpect(jsonPath("$.items[0].error.message")
+                            .value("Task name must be between 1 and 30 characters"))
+                    .andExpect(jsonPath("$.items[1].task.name").value("Renamed"))
+                    .andExpect(jsonPath("$.items[1].error").isEmpty());
+
+            Assertions.assertThat(taskRepository.findById(invalidTaskId).orElseThrow().getName())
+                    .isEqualTo("Test name");
+        }
+
+        @Test
+        @WithUserMock
+        public void emptyBatchLeadsTo400() throws Exception {
+            //Arrange
+            var request = UpdateTasksRequest.builder()
+                    .tasks(List.of())
+                    .build();
+
+            //Act
+            var result = mockMvc.perform(post("/v1/tasks:batchUpdate")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Tasks must be present"));
+        }
+    }
+
+    @Nested
+    class SearchTasks {
+
+        @Test
+        @WithUserMock
+        public void nameMatchesAreRankedFirst() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var inaccessibleProjectId = createInaccessibleProject();
+            var descriptionMatchId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Release notes");
+                t.setDescription("Deploy the service");
+            });
+            var nameMatchId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Deploy the service");
+            });
+            createTask(t -> t.setProjectId(projectId));
+            createTask(t -> {
+                t.setProjectId(inaccessibleProjectId);
+                t.setName("Deploy the service");
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.items[0].id").value(nameMatchId))
+                    .andExpect(jsonPath("$.items[1].id").value(descriptionMatchId))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void tasksOfAllAccessibleProjectsAreRankedTogether() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var otherProjectId = saveProject();
+            var descriptionMatchId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Release notes");
+                t.setDescription("Deploy the service");
+            });
+            var nameMatchId = createTask(t -> {
+                t.setProjectId(otherProjectId);
+                t.setName("Deploy the service");
+            });
+            var repeatedNameMatchId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Deploy, deploy");
+                t.setDescription("Deploy the service");
+            });
+            createTask(t -> t.setProjectId(otherProjectId));
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(3))
+                    .andExpect(jsonPath("$.items[0].id").value(repeatedNameMatchId))
+                    .andExpect(jsonPath("$.items[1].id").value(nameMatchId))
+                    .andExpect(jsonPath("$.items[2].id").value(descriptionMatchId))
+                    .andExpect(jsonPath("$.truncated").value(false));
+        }
+
+        @Test
+        @WithUserMock
+        public void pagesAreReturnedUsingCursor() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            for (int i = 1; i <= 3; i++) {
+                var name = "Deploy " + i;
+                createTask(t -> {
+                    t.setProjectId(projectId);
+                    t.setName(name);
+                });
+            }
+
+            //Act
+            var firstPageResult = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+            var firstPage = objectMapper.readTree(firstPageResult.andReturn().getResponse().getContentAsString());
+            var secondPageResult = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .param("limit", "2")
+                    .param("cursor", firstPage.get("nextCursor").asText())
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            firstPageResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(2))
+                    .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+            secondPageResult.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void tasksOfInaccessibleProjectsAreNotReturned() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var inaccessibleProjectId = createInaccessibleProject();
+            var taskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Deploy");
+            });
+            for (int i = 0; i < 5; i++) {
+                createTask(t -> {
+                    t.setProjectId(inaccessibleProjectId);
+                    t.setName("Deploy deploy");
+                    t.setDescription("Deploy");
+                });
+            }
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.items[0].id").value(taskId))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void onlyRequestedFieldsAreReturned() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var taskId = createTask(t -> {
+                t.setProjectId(projectId);
+                t.setName("Deploy");
+                t.setStatus(TaskStatus.REVIEW);
+            });
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .param("fields", "name")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items[0].id").value(taskId))
+                    .andExpect(jsonPath("$.items[0].name").value("Deploy"))
+                    .andExpect(jsonPath("$.items[0].status").isEmpty())
+                    .andExpect(jsonPath("$.items[0].description").isEmpty());
+        }
+
+        @Test
+        @WithUserMock
+        public void cursorBeyondMaxOffsetLeadsTo400() throws Exception {
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .param("cursor", CursorUtil.encodeOffset(MAX_OFFSET + 1))
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Cursor is invalid"));
+        }
+
+        @Test
+        @WithUserMock
+        public void pagePastMaxOffsetIsMarkedAsTruncated() throws Exception {
+            //Arrange
+            var projectId = saveProject();
+            var tasks = new ArrayList<Task>();
+            for (int i = 0; i < MAX_OFFSET + 2; i++) {
+                var task = TestEntityFactory.createTask();
+                task.setProjectId(projectId);
+                task.setName("Deploy " + i);
+                tasks.add(task);
+            }
+            taskRepository.saveAll(tasks);
+
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", "deploy")
+                    .param("limit", "1")
+                    .param("cursor", CursorUtil.encodeOffset(MAX_OFFSET))
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isOk())
+                    .andExpect(jsonPath("$.items.length()").value(1))
+                    .andExpect(jsonPath("$.nextCursor").isEmpty())
+                    .andExpect(jsonPath("$.truncated").value(true));
+        }
+
+        @Test
+        @WithUserMock
+        public void blankQueryLeadsTo400() throws Exception {
+            //Act
+            var result = mockMvc.perform(get("/v1/tasks/search")
+                    .param("q", " ")
+                    .contentType(MediaType.APPLICATION_JSON)
+            );
+
+            //Assert
+            result.andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Search query must be present"));
+        }
+    }
+
     private String createOtherUser() {
         var anotherUser = TestEntityFactory.createUser();
         return userRepository.save(anotherUser).getId();
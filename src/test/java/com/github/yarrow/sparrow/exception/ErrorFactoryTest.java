@@ -41,4 +41,22 @@ public class ErrorFactoryTest extends MockMvcAbstractTest {
         });
         throwableAssert.isExactlyInstanceOf(ApplicationError.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void clientErrorHasNoStackTrace() {
+        //Act
+        var error = ErrorFactory.get().taskNotFound();
+
+        //Assert
+        Assertions.assertThat(error.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    public void serverErrorHasStackTrace() {
+        //Act
+        var error = ErrorFactory.get().internalServerError();
+
+        //Assert
+        Assertions.assertThat(error.getStackTrace()).isNotEmpty();
+    }
+}
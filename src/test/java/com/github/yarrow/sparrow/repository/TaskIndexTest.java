@@ -0,0 +1,188 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskFilter;
+import com.github.yarrow.sparrow.domain.TaskSort;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import com.mongodb.ExplainVerbosity;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.assertj.core.api.Assertions;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Winning plans of supported filter and sort combinations must scan the expected index without in-memory sorting
+ * Indexes are created on start-up by TaskIndexesConfig, tasks are written without a transaction
+ * and removed after every test
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskIndexTest extends MockMvcAbstractTest {
+
+    private static final String PROJECT_ID = UUID.randomUUID().toString();
+    private static final String ASSIGNEE_USER_ID = UUID.randomUUID().toString();
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    public void createTasks() {
+        //Tasks are spread over statuses, assignees and story points, so a filtered index is more selective
+        var tasks = new ArrayList<Task>();
+        for (int i = 0; i < 200; i++) {
+            tasks.add(Task.builder()
+                    .projectId(PROJECT_ID)
+                    .name("Task " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .assigneeUserId(i % 3 == 0 ? ASSIGNEE_USER_ID : i % 3 == 1 ? null : UUID.randomUUID().toString())
+                    .storyPoints(i % 5 == 0 ? null : (double) (i % 13))
+                    .build()
+            );
+        }
+        mongoTemplate.insert(tasks, Task.class);
+    }
+
+    @AfterEach
+    public void removeTasks() {
+        mongoTemplate.remove(Query.query(Criteria.where("projectId").is(PROJECT_ID)), Task.class);
+    }
+
+    @Test
+    public void unfilteredTasksAreReadInIdOrder() {
+        //Act
+        var plan = winningPlan(TaskFilter.NONE);
+
+        //Assert
+        assertIndexOrder(plan, "projectId_id");
+    }
+
+    @Test
+    public void tasksWithStatusAreReadInIdOrder() {
+        //Act
+        var plan = winningPlan(TaskFilter.builder()
+                .statuses(List.of(TaskStatus.IN_PROGRESS))
+                .build()
+        );
+
+        //Assert
+        assertIndexOrder(plan, "projectId_status_id");
+    }
+
+    @Test
+    public void tasksWithSeveralStatusesAreReadInIdOrder() {
+        //Act
+        var plan = winningPlan(TaskFilter.builder()
+                .statuses(List.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS))
+                .build()
+        );
+
+        //Assert
+        assertIndexOrder(plan, "projectId_status_id");
+    }
+
+    @Test
+    public void tasksOfAssigneeAreReadInIdOrder() {
+        //Act
+        var plan = winningPlan(TaskFilter.builder()
+                .assigneeUserId(ASSIGNEE_USER_ID)
+                .build()
+        );
+
+        //Assert
+        assertIndexOrder(plan, "projectId_assigneeUserId_id");
+    }
+
+    @Test
+    public void unassignedTasksAreReadInIdOrder() {
+        //Act
+        var plan = winningPlan(TaskFilter.builder()
+                .unassigned(true)
+                .build()
+        );
+
+        //Assert
+        assertIndexOrder(plan, "projectId_assigneeUserId_id");
+    }
+
+    @Test
+    public void unfilteredTasksAreReadInStoryPointsOrder() {
+        //Act
+        var ascendingPlan = winningPlan(TaskFilter.builder()
+                .sort(TaskSort.STORY_POINTS_ASC)
+                .build()
+        );
+        var descendingPlan = winningPlan(TaskFilter.builder()
+                .sort(TaskSort.STORY_POINTS_DESC)
+                .build()
+        );
+
+        //Assert
+        assertIndexOrder(ascendingPlan, "projectId_storyPoints_id");
+        assertIndexOrder(descendingPlan, "projectId_storyPoints_id");
+    }
+
+    @Test
+    public void tasksOfStoryPointsRangeAreReadInStoryPointsOrder() {
+        //Act
+        var plan = winningPlan(TaskFilter.builder()
+                .minStoryPoints(3d)
+                .maxStoryPoints(8d)
+                .sort(TaskSort.STORY_POINTS_ASC)
+                .build()
+        );
+
+        //Assert
+        assertIndexOrder(plan, "projectId_storyPoints_id");
+    }
+
+    private Document winningPlan(TaskFilter filter) {
+        var query = TaskRepositoryCustomImpl.byProjectIdAndFilter(PROJECT_ID, filter, null);
+        var entity = mongoTemplate.getConverter().getMappingContext().getRequiredPersistentEntity(Task.class);
+        var queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        var explanation = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), entity))
+                .sort(queryMapper.getMappedSort(query.getSortObject(), entity))
+                .limit(PAGE_SIZE)
+                .explain(ExplainVerbosity.QUERY_PLANNER);
+        return explanation.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+    }
+
+    private static void assertIndexOrder(Document plan, String indexName) {
+        var stages = new ArrayList<String>();
+        var indexNames = new ArrayList<String>();
+        collectStages(plan, stages, indexNames);
+
+        //SORT_MERGE of several index scans keeps the index order, unlike a blocking SORT
+        Assertions.assertThat(stages)
+                .contains("IXSCAN")
+                .doesNotContain("SORT");
+        Assertions.assertThat(indexNames)
+                .containsOnly(indexName);
+    }
+
+    private static void collectStages(Object node, List<String> stages, List<String> indexNames) {
+        if (node instanceof Document document) {
+            if (document.get("stage") instanceof String stage) {
+                stages.add(stage);
+            }
+            if (document.get("indexName") instanceof String indexName) {
+                indexNames.add(indexName);
+            }
+            document.values().forEach(value -> collectStages(value, stages, indexNames));
+        } else if (node instanceof List<?> list) {
+            list.forEach(value -> collectStages(value, stages, indexNames));
+        }
+    }
+}
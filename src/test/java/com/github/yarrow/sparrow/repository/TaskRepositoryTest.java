@@ -0,0 +1,93 @@
+package com.github.yarrow.sparrow.repository;
+
+import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.domain.Task;
+import com.github.yarrow.sparrow.domain.TaskStatus;
+import java.util.Map;
+import java.util.UUID;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * A write error of a bulk write aborts the transaction it runs in, so tasks are written without a transaction
+ * and removed after every test
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskRepositoryTest extends MockMvcAbstractTest {
+
+    private static final String PROJECT_ID = UUID.randomUUID().toString();
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    public void removeTasks() {
+        mongoTemplate.remove(Query.query(Criteria.where("projectId").is(PROJECT_ID)), Task.class);
+    }
+
+    @Test
+    public void tasksChangedAfterReadAreNotUpdated() {
+        //Arrange
+        var unchanged = insertTask();
+        var changed = insertTask();
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("id").is(changed.getId())),
+                Update.update("status", TaskStatus.REVIEW),
+                Task.class
+        );
+        var update = Update.update("status", TaskStatus.DONE);
+
+        //Act
+        var changedIds = taskRepository.updateAllUnchanged(
+                Map.of(unchanged.getId(), unchanged, changed.getId(), changed),
+                Map.of(unchanged.getId(), update, changed.getId(), update)
+        );
+
+        //Assert
+        Assertions.assertThat(changedIds).containsExactly(changed.getId());
+        Assertions.assertThat(taskRepository.findById(unchanged.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.DONE);
+        Assertions.assertThat(taskRepository.findById(changed.getId()).orElseThrow().getStatus())
+                .isEqualTo(TaskStatus.REVIEW);
+    }
+
+    @Test
+    public void removedTasksAreNotInsertedByUpdate() {
+        //Arrange
+        var removed = insertTask();
+        mongoTemplate.remove(Query.query(Criteria.where("id").is(removed.getId())), Task.class);
+
+        //Act
+        var changedIds = taskRepository.updateAllUnchanged(
+                Map.of(removed.getId(), removed),
+                Map.of(removed.getId(), Update.update("status", TaskStatus.DONE))
+        );
+
+        //Assert
+        Assertions.assertThat(changedIds).containsExactly(removed.getId());
+        //Task inserted by the upsert has only the fields of its filter and update
+        var inserted = Query.query(Criteria.where("projectId").exists(false));
+        Assertions.assertThat(mongoTemplate.count(inserted, Task.class)).isZero();
+    }
+
+    private Task insertTask() {
+        return mongoTemplate.insert(Task.builder()
+                .id(UUID.randomUUID().toString())
+                .projectId(PROJECT_ID)
+                .name("Task")
+                .status(TaskStatus.BACKLOG)
+                .storyPoints(3d)
+                .build()
+        );
+    }
+}
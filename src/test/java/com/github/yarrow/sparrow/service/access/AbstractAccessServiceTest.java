@@ -1,19 +1,27 @@
 package com.github.yarrow.sparrow.service.access;
 
 import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.config.ServletRequestIdentityMap;
 import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 public class AbstractAccessServiceTest extends MockMvcAbstractTest {
 
+    @Autowired
+    private ServletRequestIdentityMap requestIdentityMap;
+
     private StringAccessServiceMock stringAccessServiceMock;
 
     @BeforeEach
     public void setUp() {
         stringAccessServiceMock = new StringAccessServiceMock();
+        stringAccessServiceMock.setRequestIdentityMap(requestIdentityMap);
     }
 
     @Test
@@ -129,4 +137,134 @@ public class AbstractAccessServiceTest extends MockMvcAbstractTest {
         Assertions.assertThatThrownBy(() -> stringAccessServiceMock.getPresentOrThrowSecured(strings))
                 .isExactlyInstanceOf(StringNotFoundException.class);
     }
+
+    @Test
+    public void repeatedLookupsWithinRequestAreQueriedOnce() {
+        //Arrange
+        stringAccessServiceMock.add("expected-1");
+        stringAccessServiceMock.add("expected-2");
+        openRequestIdentityMap();
+
+        //Act
+        stringAccessServiceMock.getPresentOrThrow("expected-1");
+        var strings = stringAccessServiceMock.getPresentOrThrow(List.of("expected-1", "expected-2"));
+        stringAccessServiceMock.getPresentOrThrow("expected-2");
+
+        //Assert
+        Assertions.assertThat(strings).containsExactlyInAnyOrder("expected-1", "expected-2");
+        Assertions.assertThat(stringAccessServiceMock.getQueries())
+                .containsExactly(List.of("expected-1"), List.of("expected-2"));
+    }
+
+    @Test
+    public void securedLookupIsNotServedByDefaultLookup() {
+        //Arrange
+        stringAccessServiceMock.add("expected");
+        openRequestIdentityMap();
+
+        //Act
+        stringAccessServiceMock.getPresentOrThrow("expected");
+
+        //Assert
+        Assertions.assertThatThrownBy(() -> stringAccessServiceMock.getPresentOrThrowSecured("expected"))
+                .isExactlyInstanceOf(StringNotFoundException.class);
+    }
+
+    @Test
+    public void lookupsOutsideOfRequestScopeAreNotRemembered() {
+        //Arrange
+        stringAccessServiceMock.add("expected");
+
+        //Act
+        stringAccessServiceMock.getPresentOrThrow("expected");
+        stringAccessServiceMock.getPresentOrThrow("expected");
+
+        //Assert
+        Assertions.assertThat(stringAccessServiceMock.getQueries()).hasSize(2);
+    }
+
+    @Test
+    public void forgottenStringIsQueriedAgain() {
+        //Arrange
+        stringAccessServiceMock.add("expected");
+        openRequestIdentityMap();
+        stringAccessServiceMock.getPresentOrThrow("expected");
+
+        //Act
+        stringAccessServiceMock.forget("expected");
+        stringAccessServiceMock.getPresentOrThrow("expected");
+
+        //Assert
+        Assertions.assertThat(stringAccessServiceMock.getQueries())
+                .containsExactly(List.of("expected"), List.of("expected"));
+    }
+
+    @Test
+    public void lookupsAfterClosingAreNotRemembered() {
+        //Arrange
+        stringAccessServiceMock.add("expected");
+        openRequestIdentityMap();
+        stringAccessServiceMock.getPresentOrThrow("expected");
+
+        //Act
+        requestIdentityMap.close();
+        stringAccessServiceMock.getPresentOrThrow("expected");
+        stringAccessServiceMock.getPresentOrThrow("expected");
+
+        //Assert
+        Assertions.assertThat(stringAccessServiceMock.getQueries()).hasSize(3);
+    }
+
+    @Test
+    public void prefetchedStringsAreQueriedAlongWithNextLookup() {
+        //Arrange
+        stringAccessServiceMock.add("expected-1");
+        stringAccessServiceMock.add("expected-2");
+        stringAccessServiceMock.add("expected-3");
+        openRequestIdentityMap();
+
+        //Act
+        stringAccessServiceMock.prefetch(List.of("expected-2", "expected-3"));
+        var strings = stringAccessServiceMock.getPresentOrThrow(List.of("expected-1"));
+        stringAccessServiceMock.getPresentOrThrow(List.of("expected-2", "expected-3"));
+
+        //Assert
+        Assertions.assertThat(strings).containsExactly("expected-1");
+        Assertions.assertThat(stringAccessServiceMock.getQueries()).hasSize(1);
+        Assertions.assertThat(stringAccessServiceMock.getQueries().get(0))
+                .containsExactlyInAnyOrder("expected-1", "expected-2", "expected-3");
+    }
+
+    @Test
+    public void missingStringIsNotFoundWhenQueriedAlongWithPrefetched() {
+        //Arrange
+        stringAccessServiceMock.add("expected");
+        openRequestIdentityMap();
+
+        //Act
+        stringAccessServiceMock.prefetch(List.of("expected"));
+
+        //Assert
+        Assertions.assertThatThrownBy(() -> stringAccessServiceMock.getPresentOrThrow("missing"))
+                .isExactlyInstanceOf(StringNotFoundException.class);
+    }
+
+    @Test
+    public void prefetchOutsideOfRequestScopeIsIgnored() {
+        //Arrange
+        stringAccessServiceMock.add("expected-1");
+        stringAccessServiceMock.add("expected-2");
+
+        //Act
+        stringAccessServiceMock.prefetch(List.of("expected-2"));
+        stringAccessServiceMock.getPresentOrThrow("expected-1");
+
+        //Assert
+        Assertions.assertThat(stringAccessServiceMock.getQueries()).containsExactly(List.of("expected-1"));
+    }
+
+    private void openRequestIdentityMap() {
+        var requestAttributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        requestIdentityMap.open(requestAttributes.getRequest());
+    }
 }
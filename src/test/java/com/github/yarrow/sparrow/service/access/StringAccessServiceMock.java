@@ -1,27 +1,32 @@
 package com.github.yarrow.sparrow.service.access;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import lombok.Getter;
 
 public class StringAccessServiceMock extends AbstractAccessService<String, String, StringNotFoundException> {
 
     private final Set<String> notSecuredString = new HashSet<>();
     private final Set<String> securedString = new HashSet<>();
+    @Getter
+    private final List<List<String>> queries = new ArrayList<>();
 
     @Override
     public Function<Collection<String>, Collection<String>> defaultAccessFunction() {
-        return s -> s.stream()
+        return s -> query(s).stream()
                 .filter(notSecuredString::contains)
                 .collect(Collectors.toList());
     }
 
     @Override
     public Function<Collection<String>, Collection<String>> securedAccessFunction() {
-        return s -> s.stream()
+        return s -> query(s).stream()
                 .filter(securedString::contains)
                 .toList();
     }
@@ -31,6 +36,11 @@ public class StringAccessServiceMock extends AbstractAccessService<String, Strin
         return StringNotFoundException::new;
     }
 
+    @Override
+    protected Collection<String> identifiers(String string) {
+        return List.of(string);
+    }
+
     public void add(String string) {
         notSecuredString.add(string);
     }
@@ -38,4 +48,9 @@ public class StringAccessServiceMock extends AbstractAccessService<String, Strin
     public void addSecured(String string) {
         securedString.add(string);
     }
+
+    private Collection<String> query(Collection<String> strings) {
+        queries.add(new ArrayList<>(strings));
+        return strings;
+    }
 }
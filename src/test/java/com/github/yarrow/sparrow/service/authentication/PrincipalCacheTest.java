@@ -0,0 +1,49 @@
+package com.github.yarrow.sparrow.service.authentication;
+
+import com.github.yarrow.sparrow.MockMvcAbstractTest;
+import com.github.yarrow.sparrow.repository.UserRepository;
+import com.github.yarrow.sparrow.util.TestEntityFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+public class PrincipalCacheTest extends MockMvcAbstractTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void principalIsServedFromCacheUntilInvalidated() {
+        //Arrange
+        var user = userRepository.save(TestEntityFactory.createUser());
+        var hitsBefore = getCacheGets("hit");
+
+        //Act
+        var loaded = principalCache.get(user.getId());
+        userRepository.deleteById(user.getId());
+        var cached = principalCache.get(user.getId());
+        principalCache.invalidate(user.getId());
+        var afterInvalidation = principalCache.get(user.getId());
+
+        //Assert
+        Assertions.assertThat(loaded).contains(CustomUserDetails.of(user));
+        Assertions.assertThat(cached).contains(CustomUserDetails.of(user));
+        Assertions.assertThat(afterInvalidation).isEmpty();
+        Assertions.assertThat(getCacheGets("hit") - hitsBefore).isEqualTo(1);
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", "principal")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
@@ -20,6 +20,9 @@ public class ProjectAccessServiceTest extends MockMvcAbstractTest {
     @Autowired
     private ProjectAccessService projectAccessService;
 
+    @Autowired
+    private ProjectKeyCache projectKeyCache;
+
     @Test
     @WithUserMock
     public void projectIsReturned() {
@@ -173,6 +176,41 @@ public class ProjectAccessServiceTest extends MockMvcAbstractTest {
                 .isExactlyInstanceOf(ApplicationError.class);
     }
 
+    @Test
+    @WithUserMock
+    public void staleCachedKeyIsResolvedAgain() {
+        //Arrange
+        var staleProjectId = saveProject(p -> p.setKey("CACHED"));
+        projectAccessService.getPresentOrThrow("CACHED");
+        projectRepository.deleteById(staleProjectId);
+
+        var expectedProjectId = saveProject(p -> p.setKey("CACHED"));
+
+        //Act
+        var actualProject = projectAccessService.getPresentOrThrow("CACHED");
+
+        //Assert
+        Assertions.assertThat(actualProject.getId()).isEqualTo(expectedProjectId);
+    }
+
+    @Test
+    @WithUserMock
+    public void lookupByNonMemberKeepsCachedKey() {
+        //Arrange
+        var projectId = saveProject(p -> {
+            p.setKey("CACHED");
+            p.setMemberUserIds(List.of(RANDOM_UUID));
+        });
+        projectAccessService.getPresentOrThrow("CACHED");
+
+        //Act
+        var accessibleProjects = projectAccessService.getPresentSecured(List.of("CACHED"));
+
+        //Assert
+        Assertions.assertThat(accessibleProjects).isEmpty();
+        Assertions.assertThat(projectKeyCache.getId("CACHED")).contains(projectId);
+    }
+
     private String saveProject(Consumer<Project> preconfigure) {
         var project = TestEntityFactory.createProject();
         preconfigure.accept(project);
@@ -2,12 +2,17 @@ package com.github.yarrow.sparrow.service.task;
 
 import com.github.yarrow.sparrow.MockMvcAbstractTest;
 import com.github.yarrow.sparrow.authentication.WithUserMock;
+import com.github.yarrow.sparrow.config.property.AccessProperties;
+import com.github.yarrow.sparrow.config.property.CacheProperties;
 import com.github.yarrow.sparrow.domain.Task;
 import com.github.yarrow.sparrow.domain.TaskStatus;
 import com.github.yarrow.sparrow.exception.ApplicationError;
 import com.github.yarrow.sparrow.repository.ProjectRepository;
 import com.github.yarrow.sparrow.repository.TaskRepository;
+import com.github.yarrow.sparrow.service.project.ProjectMembershipCache;
 import com.github.yarrow.sparrow.util.TestEntityFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
@@ -23,6 +28,8 @@ public class TaskAccessServiceTest extends MockMvcAbstractTest {
 
     @Autowired
     private TaskAccessService taskAccessService;
+    @Autowired
+    private ProjectMembershipCache projectMembershipCache;
 
     @Test
     @WithUserMock
@@ -99,6 +106,125 @@ public class TaskAccessServiceTest extends MockMvcAbstractTest {
                 .isExactlyInstanceOf(ApplicationError.class);
     }
 
+    @Test
+    @WithUserMock
+    public void securedQueriesReturnSameTasks() {
+        //Arrange
+        var projectId = saveProject();
+        var accessibleTaskId = saveTask(t -> t.setProjectId(projectId));
+        var inaccessibleProjectId = createInaccessibleProject();
+        var inaccessibleTaskId = saveTask(t -> t.setProjectId(inaccessibleProjectId));
+        var taskIds = List.of(accessibleTaskId, inaccessibleTaskId);
+
+        var lookupAccessService = createTaskAccessService(AccessProperties.SecuredTaskQuery.LOOKUP);
+        var separateAccessService = createTaskAccessService(AccessProperties.SecuredTaskQuery.SEPARATE);
+        var cacheAccessService = createTaskAccessService(AccessProperties.SecuredTaskQuery.MEMBERSHIP_CACHE);
+
+        //Act
+        var lookupTasks = lookupAccessService.securedAccessFunction().apply(taskIds);
+        var separateTasks = separateAccessService.securedAccessFunction().apply(taskIds);
+        var cacheTasks = cacheAccessService.securedAccessFunction().apply(taskIds);
+
+        //Assert
+        Assertions.assertThat(lookupTasks).extracting(Task::getId).containsExactly(accessibleTaskId);
+        Assertions.assertThat(separateTasks).containsExactlyInAnyOrderElementsOf(lookupTasks);
+        Assertions.assertThat(cacheTasks).containsExactlyInAnyOrderElementsOf(lookupTasks);
+    }
+
+    @Test
+    @WithUserMock
+    public void membershipAddedAfterCachingIsReloaded() {
+        //Arrange
+        projectMembershipCache.getProjectIds(getMockedUserId());
+        var projectId = saveProject();
+        var taskId = saveTask(t -> t.setProjectId(projectId));
+
+        //Act
+        var actualTask = taskAccessService.getPresentOrThrowSecured(taskId);
+
+        //Assert
+        Assertions.assertThat(actualTask.getId()).isEqualTo(taskId);
+    }
+
+    @Test
+    @WithUserMock
+    public void accessibleProjectIdsAreCachedOnlyInMembershipCacheMode() {
+        //Arrange
+        projectMembershipCache.getProjectIds(getMockedUserId());
+        //Membership added by another instance, so the cached entry isn't invalidated
+        var projectId = saveProject();
+
+        var separateAccessService = createTaskAccessService(AccessProperties.SecuredTaskQuery.SEPARATE);
+        var lookupAccessService = createTaskAccessService(AccessProperties.SecuredTaskQuery.LOOKUP);
+        var cacheAccessService = createTaskAccessService(AccessProperties.SecuredTaskQuery.MEMBERSHIP_CACHE);
+
+        //Act
+        var separateProjectIds = separateAccessService.getAccessibleProjectIds();
+        var lookupProjectIds = lookupAccessService.getAccessibleProjectIds();
+        var cacheProjectIds = cacheAccessService.getAccessibleProjectIds();
+        var reloadedProjectIds = cacheAccessService.reloadAccessibleProjectIds(cacheProjectIds);
+
+        //Assert
+        Assertions.assertThat(separateProjectIds).contains(projectId);
+        Assertions.assertThat(lookupProjectIds).contains(projectId);
+        Assertions.assertThat(cacheProjectIds).doesNotContain(projectId);
+        Assertions.assertThat(reloadedProjectIds)
+                .hasValueSatisfying(ids -> Assertions.assertThat(ids).contains(projectId));
+        Assertions.assertThat(separateAccessService.reloadAccessibleProjectIds(separateProjectIds)).isEmpty();
+    }
+
+    @Test
+    @WithUserMock
+    public void membershipRemovedByAnotherInstanceIsSeenAfterTtl() throws InterruptedException {
+        //Arrange
+        var projectId = saveProject();
+        var ttl = Duration.ofMillis(200);
+        var cacheAccessService = createTaskAccessService(
+                AccessProperties.SecuredTaskQuery.MEMBERSHIP_CACHE,
+                createProjectMembershipCache(ttl)
+        );
+        cacheAccessService.getAccessibleProjectIds();
+
+        //Membership removed by another instance, so the cached entry isn't invalidated
+        var project = projectRepository.findById(projectId).orElseThrow();
+        project.setMemberUserIds(List.of(RANDOM_UUID));
+        projectRepository.save(project);
+
+        //Act
+        var staleProjectIds = cacheAccessService.getAccessibleProjectIds();
+        Thread.sleep(ttl.multipliedBy(2).toMillis());
+        var expiredProjectIds = cacheAccessService.getAccessibleProjectIds();
+
+        //Assert
+        Assertions.assertThat(staleProjectIds).contains(projectId);
+        Assertions.assertThat(expiredProjectIds).doesNotContain(projectId);
+    }
+
+    private TaskAccessService createTaskAccessService(AccessProperties.SecuredTaskQuery securedTaskQuery) {
+        return createTaskAccessService(securedTaskQuery, projectMembershipCache);
+    }
+
+    private TaskAccessService createTaskAccessService(
+            AccessProperties.SecuredTaskQuery securedTaskQuery,
+            ProjectMembershipCache membershipCache
+    ) {
+        return new TaskAccessService(
+                taskRepository,
+                projectRepository,
+                membershipCache,
+                new AccessProperties(securedTaskQuery)
+        );
+    }
+
+    private ProjectMembershipCache createProjectMembershipCache(Duration expireAfterWrite) {
+        var spec = new CacheProperties.Spec(1000, expireAfterWrite);
+        return new ProjectMembershipCache(
+                projectRepository,
+                new CacheProperties(spec, spec, spec, spec),
+                new SimpleMeterRegistry()
+        );
+    }
+
     private String saveProject() {
         var project = TestEntityFactory.createProject();
         return projectRepository.save(project).getId();